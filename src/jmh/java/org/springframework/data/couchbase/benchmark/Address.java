@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.benchmark;
+
+import java.util.List;
+
+/**
+ * Nested document of the benchmark model.
+ */
+public class Address {
+
+	private String street;
+	private String city;
+	private String zip;
+	private List<String> lines;
+
+	public Address() {}
+
+	public Address(String street, String city, String zip, List<String> lines) {
+		this.street = street;
+		this.city = city;
+		this.zip = zip;
+		this.lines = lines;
+	}
+
+	public String getStreet() {
+		return street;
+	}
+
+	public String getCity() {
+		return city;
+	}
+
+	public String getZip() {
+		return zip;
+	}
+
+	public List<String> getLines() {
+		return lines;
+	}
+}
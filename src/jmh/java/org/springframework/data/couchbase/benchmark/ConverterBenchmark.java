@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+
+/**
+ * Benchmarks {@link MappingCouchbaseConverter#write(Object, CouchbaseDocument)} and
+ * {@link MappingCouchbaseConverter#read(Class, CouchbaseDocument)} of a {@link Customer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+	@Param({ "1", "20" }) public int orders;
+
+	private MappingCouchbaseConverter converter;
+	private Customer customer;
+	private CouchbaseDocument document;
+
+	@Setup
+	public void setUp() throws Exception {
+		converter = new MappingCouchbaseConverter();
+		converter.afterPropertiesSet();
+		customer = Customer.create(orders);
+		document = new CouchbaseDocument();
+		converter.write(customer, document);
+	}
+
+	@Benchmark
+	public CouchbaseDocument write() {
+		customer.setId(null); // generate the id on every write
+		CouchbaseDocument target = new CouchbaseDocument();
+		converter.write(customer, target);
+		return target;
+	}
+
+	@Benchmark
+	public Customer read() {
+		return converter.read(Customer.class, document);
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.core.mapping.Document;
+import org.springframework.data.couchbase.core.mapping.id.GeneratedValue;
+import org.springframework.data.couchbase.core.mapping.id.GenerationStrategy;
+
+/**
+ * Root entity of the benchmark model: a generated id, JSR-310 dates, a nested document, a collection of nested
+ * documents, a map of nested documents and a set of simple values.
+ */
+@Document
+public class Customer {
+
+	@Id @GeneratedValue(strategy = GenerationStrategy.UNIQUE) private String id;
+	private String firstname;
+	private String lastname;
+	private int age;
+	private LocalDate birthday;
+	private Instant createdAt;
+	private Address address;
+	private List<Order> orders;
+	private Map<String, Address> otherAddresses;
+	private Set<String> tags;
+
+	/**
+	 * Creates a customer with the given number of orders, always with the same content.
+	 *
+	 * @param orderCount the number of orders.
+	 * @return the customer.
+	 */
+	public static Customer create(int orderCount) {
+		Customer customer = new Customer();
+		customer.firstname = "Dave";
+		customer.lastname = "Matthews";
+		customer.age = 42;
+		customer.birthday = LocalDate.of(1979, 1, 9);
+		customer.createdAt = Instant.ofEpochSecond(1_600_000_000L);
+		customer.address = new Address("Main Street 1", "Springfield", "12345", Arrays.asList("c/o Carter", "2nd floor"));
+		customer.orders = new ArrayList<>(orderCount);
+		for (int i = 0; i < orderCount; i++) {
+			Map<String, String> options = new HashMap<>();
+			options.put("color", "red");
+			options.put("size", "L");
+			customer.orders.add(new Order("sku-" + i, i % 5 + 1, 9.99 * (i + 1),
+					LocalDateTime.of(2020, 12, 24, 10, 0).plusHours(i), options));
+		}
+		customer.otherAddresses = new HashMap<>();
+		customer.otherAddresses.put("work", new Address("Broadway 100", "New York", "10001", Arrays.asList("Suite 7")));
+		customer.otherAddresses.put("summer", new Address("Beach Road 5", "Miami", "33101", new ArrayList<>()));
+		customer.tags = new LinkedHashSet<>(Arrays.asList("gold", "newsletter", "early-adopter"));
+		return customer;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getFirstname() {
+		return firstname;
+	}
+
+	public String getLastname() {
+		return lastname;
+	}
+
+	public List<Order> getOrders() {
+		return orders;
+	}
+}
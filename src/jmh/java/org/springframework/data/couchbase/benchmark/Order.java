@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Element of a collection property of the benchmark model.
+ */
+public class Order {
+
+	private String sku;
+	private int quantity;
+	private double price;
+	private LocalDateTime orderedAt;
+	private Map<String, String> options;
+
+	public Order() {}
+
+	public Order(String sku, int quantity, double price, LocalDateTime orderedAt, Map<String, String> options) {
+		this.sku = sku;
+		this.quantity = quantity;
+		this.price = price;
+		this.orderedAt = orderedAt;
+		this.options = options;
+	}
+
+	public String getSku() {
+		return sku;
+	}
+
+	public int getQuantity() {
+		return quantity;
+	}
+
+	public double getPrice() {
+		return price;
+	}
+
+	public LocalDateTime getOrderedAt() {
+		return orderedAt;
+	}
+
+	public Map<String, String> getOptions() {
+		return options;
+	}
+}
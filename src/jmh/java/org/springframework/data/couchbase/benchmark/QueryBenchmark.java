@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.CouchbaseExceptionTranslator;
+import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.query.N1qlStatementCache;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.QueryCriteria;
+import org.springframework.data.domain.Sort;
+
+import com.couchbase.client.java.json.JsonArray;
+
+/**
+ * Benchmarks the generation of N1QL statements: {@link Query#toN1qlSelectString} with and without a
+ * {@link N1qlStatementCache}, and {@link QueryCriteria#export(int[], com.couchbase.client.java.json.JsonValue,
+ * org.springframework.data.couchbase.core.convert.CouchbaseConverter)} of the criteria alone. No cluster is needed, the
+ * template only provides the converter and the bucket name.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBenchmark {
+
+	private MappingCouchbaseConverter converter;
+	private ReactiveCouchbaseTemplate template;
+	private N1qlStatementCache statementCache;
+	private QueryCriteria criteria;
+
+	@Setup
+	public void setUp() throws Exception {
+		converter = new MappingCouchbaseConverter();
+		converter.afterPropertiesSet();
+		CouchbaseClientFactory clientFactory = (CouchbaseClientFactory) Proxy.newProxyInstance(
+				getClass().getClassLoader(), new Class<?>[] { CouchbaseClientFactory.class }, (proxy, method, args) -> {
+					if (method.getName().equals("getExceptionTranslator")) {
+						return new CouchbaseExceptionTranslator();
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+		template = new ReactiveCouchbaseTemplate(clientFactory, converter) {
+			@Override
+			public String getBucketName() {
+				return "travel-sample";
+			}
+		};
+		statementCache = new N1qlStatementCache();
+		criteria = criteria();
+	}
+
+	@Benchmark
+	public String selectString() {
+		return query().toN1qlSelectString(template, Customer.class, false);
+	}
+
+	@Benchmark
+	public String preparedSelectString() {
+		return query().prepared(statementCache).toN1qlSelectString(template, Customer.class, false);
+	}
+
+	@Benchmark
+	public String countString() {
+		return new Query(criteria()).toN1qlSelectString(template, Customer.class, true);
+	}
+
+	@Benchmark
+	public String criteriaExport() {
+		return criteria.export(new int[] { 0 }, JsonArray.create(), converter);
+	}
+
+	private Query query() {
+		return new Query(criteria()).with(Sort.by("lastname", "firstname")).limit(20);
+	}
+
+	private static QueryCriteria criteria() {
+		return QueryCriteria.where("lastname").is("Matthews").and("age").gt(30).and("tags").in("gold", "silver")
+				.and(QueryCriteria.where("address.city").is("Springfield").or("address.zip").startingWith("123"));
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.couchbase.core.BulkResult;
+import org.springframework.lang.Nullable;
+
+/**
+ * Thrown by the multi-key operations of a {@link CouchbaseCache} when some of the keys failed. The other keys have
+ * been processed; the failed ones are reported through {@link #getFailures()}, the error of the first one is the cause.
+ * The values {@link CouchbaseCache#getAll(java.util.Collection) read} for the other keys are reported through
+ * {@link #getValues()}.
+ *
+ * @since 4.2
+ */
+public class BulkCacheException extends RuntimeException {
+
+	private final List<BulkResult<?>> failures = new ArrayList<>();
+	private Map<Object, Object> values = Collections.emptyMap();
+
+	BulkCacheException(final String cacheName, final BulkResult<?> firstFailure) {
+		super("Could not process all keys of cache '" + cacheName + "'", firstFailure.getError());
+		failures.add(firstFailure);
+	}
+
+	static BulkCacheException add(@Nullable final BulkCacheException exception, final String cacheName,
+			final BulkResult<?> failure) {
+		if (exception == null) {
+			return new BulkCacheException(cacheName, failure);
+		}
+		exception.failures.add(failure);
+		return exception;
+	}
+
+	/**
+	 * @return the results of the failed keys, holding the cache key and the error.
+	 */
+	public List<BulkResult<?>> getFailures() {
+		return Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * @return the values read for the keys that did not fail, by key; empty unless thrown by a lookup.
+	 */
+	public Map<Object, Object> getValues() {
+		return values;
+	}
+
+	BulkCacheException withValues(final Map<Object, Object> values) {
+		this.values = Collections.unmodifiableMap(values);
+		return this;
+	}
+
+	@Override
+	public String getMessage() {
+		return super.getMessage() + ", " + failures.size() + " failed";
+	}
+}
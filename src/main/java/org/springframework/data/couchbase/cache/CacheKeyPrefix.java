@@ -15,6 +15,8 @@
  */
 package org.springframework.data.couchbase.cache;
 
+import java.time.Duration;
+
 import org.springframework.util.Assert;
 
 /**
@@ -68,4 +70,18 @@ public interface CacheKeyPrefix {
 	 */
 	String compute(String cacheName);
 
+	/**
+	 * Compute the prefix for the actual {@literal key} stored in Couchbase for a cache whose entries are namespaced by a
+	 * generation, see {@link CouchbaseCacheConfiguration#enableGenerationalClear(Duration)}. Defaults to the prefix of
+	 * the cache followed by the generation and double colons, {@code myCache::3::} for generation 3 of {@code myCache}.
+	 *
+	 * @param cacheName will never be {@literal null}.
+	 * @param generation the current generation of the cache.
+	 * @return never {@literal null}.
+	 * @since 4.2
+	 */
+	default String compute(String cacheName, long generation) {
+		return compute(cacheName) + generation + SEPARATOR;
+	}
+
 }
@@ -16,17 +16,27 @@
 package org.springframework.data.couchbase.cache;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.cache.support.AbstractValueAdaptingCache;
 import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.couchbase.core.BulkResult;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
@@ -37,6 +47,11 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 	private final CouchbaseCacheWriter cacheWriter;
 	private final CouchbaseCacheConfiguration cacheConfig;
 	private final ConversionService conversionService;
+	private final ConcurrentMap<String, Load> inFlightLoads = new ConcurrentHashMap<>();
+	private final CouchbaseCacheStatistics statistics = new CouchbaseCacheStatistics();
+	private final NearCache nearCache;
+	private final GenerationalCouchbaseCacheWriter generationalWriter;
+	private volatile Generation generation;
 
 	protected CouchbaseCache(final String name, final CouchbaseCacheWriter cacheWriter,
 			final CouchbaseCacheConfiguration cacheConfig) {
@@ -50,6 +65,16 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 		this.cacheWriter = cacheWriter;
 		this.cacheConfig = cacheConfig;
 		this.conversionService = cacheConfig.getConversionService();
+		NearCacheSettings nearCacheSettings = cacheConfig.getNearCacheSettings();
+		this.nearCache = nearCacheSettings == null ? null
+				: new NearCache(nearCacheSettings, nearCacheSettings.getTimeToLive(cacheConfig.getExpiry()).toNanos());
+		if (cacheConfig.usesGenerationalClear()) {
+			Assert.isInstanceOf(GenerationalCouchbaseCacheWriter.class, cacheWriter,
+					"Cache '" + name + "' uses generational clears, which its CacheWriter does not support:");
+			this.generationalWriter = (GenerationalCouchbaseCacheWriter) cacheWriter;
+		} else {
+			this.generationalWriter = null;
+		}
 	}
 
 	private static <T> T valueFromLoader(Object key, Callable<T> valueLoader) {
@@ -72,7 +97,48 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 
 	@Override
 	protected Object lookup(final Object key) {
-		return cacheWriter.get(cacheConfig.getCollectionName(), createCacheKey(key), cacheConfig.getValueTranscoder());
+		final String cacheKey = createCacheKey(key);
+		if (nearCache == null) {
+			return remoteLookup(cacheKey);
+		}
+
+		NearCache.Entry entry = nearCache.get(cacheKey);
+		if (entry != null) {
+			if (!entry.isExpired()) {
+				statistics.recordNearHit();
+				return entry.value;
+			}
+			statistics.recordCasRevalidation();
+			Long cas = entry.cas != 0 ? cacheWriter.getCas(cacheConfig.getCollectionName(), cacheKey) : null;
+			if (cas != null && cas == entry.cas) {
+				nearCache.renew(cacheKey, entry);
+				statistics.recordNearHit();
+				return entry.value;
+			}
+			nearCache.remove(cacheKey);
+		}
+		statistics.recordNearMiss();
+
+		long invalidations = nearCache.invalidations();
+		CouchbaseCacheWriter.CasValue result = cacheWriter.getWithCas(cacheConfig.getCollectionName(), cacheKey,
+				cacheConfig.getValueTranscoder());
+		if (result == null) {
+			statistics.recordRemoteMiss();
+			return null;
+		}
+		statistics.recordRemoteHit();
+		nearCache.put(cacheKey, result.getValue(), result.getCas(), invalidations);
+		return result.getValue();
+	}
+
+	private Object remoteLookup(final String cacheKey) {
+		Object result = cacheWriter.get(cacheConfig.getCollectionName(), cacheKey, cacheConfig.getValueTranscoder());
+		if (result == null) {
+			statistics.recordRemoteMiss();
+		} else {
+			statistics.recordRemoteHit();
+		}
+		return result;
 	}
 
 	/**
@@ -82,18 +148,76 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 		return cacheConfig;
 	}
 
+	/**
+	 * Returns the running statistics of this {@link CouchbaseCache}.
+	 */
+	public CouchbaseCacheStatistics getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Returns the value for the key, loading it through the value loader on a miss. Loads are single-flight per key:
+	 * concurrent misses on the same key wait for the one load in progress while misses on different keys load in
+	 * parallel. A loader looking up its own key again fails with an {@link IllegalStateException} instead of waiting for
+	 * itself.
+	 */
 	@Override
 	@SuppressWarnings("unchecked")
-	public synchronized <T> T get(final Object key, final Callable<T> valueLoader) {
+	public <T> T get(final Object key, final Callable<T> valueLoader) {
 		ValueWrapper result = get(key);
 
 		if (result != null) {
 			return (T) result.get();
 		}
 
-		T value = valueFromLoader(key, valueLoader);
-		put(key, value);
-		return value;
+		final String cacheKey = createCacheKey(key);
+		final Load load = new Load(Thread.currentThread());
+		final Load inFlight = inFlightLoads.putIfAbsent(cacheKey, load);
+		if (inFlight != null) {
+			if (inFlight.owner == Thread.currentThread()) {
+				throw new IllegalStateException(
+						"Recursive load of key '" + cacheKey + "' in cache '" + name + "', the value loader looks up its own key");
+			}
+			return (T) awaitLoad(inFlight);
+		}
+
+		try {
+			// the value may have been stored by a load that completed after our lookup
+			result = get(key);
+			T value;
+			if (result != null) {
+				value = (T) result.get();
+			} else {
+				statistics.recordLoad();
+				value = valueFromLoader(key, valueLoader);
+				put(key, value);
+			}
+			load.complete(value);
+			return value;
+		} catch (Throwable ex) {
+			// complete on errors too, waiters would block forever otherwise
+			load.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			inFlightLoads.remove(cacheKey, load);
+		}
+	}
+
+	private Object awaitLoad(final CompletableFuture<Object> inFlight) {
+		final long start = System.nanoTime();
+		try {
+			return inFlight.join();
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			if (ex.getCause() instanceof Error) {
+				throw (Error) ex.getCause();
+			}
+			throw ex;
+		} finally {
+			statistics.recordLoadWait(System.nanoTime() - start);
+		}
 	}
 
 	@Override
@@ -106,8 +230,10 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 					name));
 		}
 
-		cacheWriter.put(cacheConfig.getCollectionName(), createCacheKey(key), value, cacheConfig.getExpiry(),
+		final String cacheKey = createCacheKey(key);
+		cacheWriter.put(cacheConfig.getCollectionName(), cacheKey, value, cacheConfig.getExpiry(),
 				cacheConfig.getValueTranscoder());
+		invalidateNearCache(cacheKey);
 	}
 
 	@Override
@@ -116,8 +242,10 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 			return get(key);
 		}
 
-		Object result = cacheWriter.putIfAbsent(cacheConfig.getCollectionName(), createCacheKey(key), value,
-				cacheConfig.getExpiry(), cacheConfig.getValueTranscoder());
+		final String cacheKey = createCacheKey(key);
+		Object result = cacheWriter.putIfAbsent(cacheConfig.getCollectionName(), cacheKey, value, cacheConfig.getExpiry(),
+				cacheConfig.getValueTranscoder());
+		invalidateNearCache(cacheKey);
 
 		if (result == null) {
 			return null;
@@ -126,24 +254,210 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 		return new SimpleValueWrapper(result);
 	}
 
+	/**
+	 * Looks up the values of the given keys, reading the keys that are not in the near cache from Couchbase with
+	 * concurrent requests.
+	 *
+	 * @param keys the keys to look up.
+	 * @return the cached values by key; keys without a cached value are absent.
+	 * @throws BulkCacheException if any lookup failed; it holds the values read for the other keys.
+	 * @since 4.2
+	 */
+	public Map<Object, Object> getAll(final Collection<?> keys) {
+		Assert.notNull(keys, "Keys must not be null!");
+		final Map<Object, Object> found = new LinkedHashMap<>(keys.size());
+		final Map<String, Object> remoteKeys = new LinkedHashMap<>(keys.size());
+		for (Object key : keys) {
+			String cacheKey = createCacheKey(key);
+			NearCache.Entry entry = nearCache == null ? null : nearCache.get(cacheKey);
+			if (entry != null && !entry.isExpired()) {
+				statistics.recordNearHit();
+				found.put(key, fromStoreValue(entry.value));
+			} else {
+				if (nearCache != null) {
+					statistics.recordNearMiss();
+				}
+				remoteKeys.put(cacheKey, key);
+			}
+		}
+		if (remoteKeys.isEmpty()) {
+			return found;
+		}
+
+		long invalidations = nearCache == null ? 0 : nearCache.invalidations();
+		List<BulkResult<CouchbaseCacheWriter.CasValue>> results = cacheWriter.getAll(cacheConfig.getCollectionName(),
+				remoteKeys.keySet(), cacheConfig.getValueTranscoder());
+		BulkCacheException failure = null;
+		for (BulkResult<CouchbaseCacheWriter.CasValue> result : results) {
+			if (!result.isSuccess()) {
+				failure = BulkCacheException.add(failure, name, result);
+				continue;
+			}
+			CouchbaseCacheWriter.CasValue value = result.getValue().orElse(null);
+			if (value == null) {
+				statistics.recordRemoteMiss();
+				continue;
+			}
+			statistics.recordRemoteHit();
+			if (nearCache != null) {
+				nearCache.put(result.getId(), value.getValue(), value.getCas(), invalidations);
+			}
+			found.put(remoteKeys.get(result.getId()), fromStoreValue(value.getValue()));
+		}
+		if (failure != null) {
+			throw failure.withValues(found);
+		}
+		return found;
+	}
+
+	/**
+	 * Stores the given values with concurrent requests.
+	 *
+	 * @param values the values by key.
+	 * @throws BulkCacheException if any value could not be stored; the others are stored.
+	 * @since 4.2
+	 */
+	public void putAll(final Map<?, ?> values) {
+		Assert.notNull(values, "Values must not be null!");
+		final Map<String, Object> entries = new LinkedHashMap<>(values.size());
+		for (Map.Entry<?, ?> entry : values.entrySet()) {
+			if (!isAllowNullValues() && entry.getValue() == null) {
+				throw new IllegalArgumentException(String.format(
+						"Cache '%s' does not allow 'null' values. Avoid storing null or configure CouchbaseCache to allow 'null' "
+								+ "via CouchbaseCacheConfiguration.",
+						name));
+			}
+			entries.put(createCacheKey(entry.getKey()), entry.getValue());
+		}
+
+		List<BulkResult<Object>> results = cacheWriter.putAll(cacheConfig.getCollectionName(), entries,
+				cacheConfig.getExpiry(), cacheConfig.getValueTranscoder());
+		BulkCacheException failure = null;
+		for (BulkResult<Object> result : results) {
+			invalidateNearCache(result.getId());
+			if (!result.isSuccess()) {
+				failure = BulkCacheException.add(failure, name, result);
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Evicts the given keys with concurrent requests.
+	 *
+	 * @param keys the keys to evict.
+	 * @return the number of keys that were present.
+	 * @throws BulkCacheException if any key could not be evicted; the others are evicted.
+	 * @since 4.2
+	 */
+	public long evictAll(final Collection<?> keys) {
+		Assert.notNull(keys, "Keys must not be null!");
+		final List<String> cacheKeys = new ArrayList<>(keys.size());
+		for (Object key : keys) {
+			cacheKeys.add(createCacheKey(key));
+		}
+
+		List<BulkResult<Boolean>> results = cacheWriter.removeAll(cacheConfig.getCollectionName(), cacheKeys);
+		BulkCacheException failure = null;
+		long removed = 0;
+		for (BulkResult<Boolean> result : results) {
+			invalidateNearCache(result.getId());
+			if (!result.isSuccess()) {
+				failure = BulkCacheException.add(failure, name, result);
+			} else if (result.getValue().orElse(false)) {
+				removed++;
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return removed;
+	}
+
 	@Override
 	public void evict(final Object key) {
-		cacheWriter.remove(cacheConfig.getCollectionName(), createCacheKey(key));
+		evictIfPresent(key);
 	}
 
 	@Override
 	public boolean evictIfPresent(final Object key) {
-		return cacheWriter.remove(cacheConfig.getCollectionName(), createCacheKey(key));
+		final String cacheKey = createCacheKey(key);
+		boolean removed = cacheWriter.remove(cacheConfig.getCollectionName(), cacheKey);
+		invalidateNearCache(cacheKey);
+		return removed;
 	}
 
 	@Override
 	public boolean invalidate() {
-		return cacheWriter.clear(cacheConfig.getKeyPrefixFor(name)) > 0;
+		if (cacheConfig.usesGenerationalClear()) {
+			nextGeneration();
+			return true;
+		}
+		boolean cleared = cacheWriter.clear(cacheConfig.getKeyPrefixFor(name)) > 0;
+		invalidateNearCache(null);
+		return cleared;
 	}
 
 	@Override
 	public void clear() {
+		if (cacheConfig.usesGenerationalClear()) {
+			nextGeneration();
+			return;
+		}
 		cacheWriter.clear(cacheConfig.getKeyPrefixFor(name));
+		invalidateNearCache(null);
+	}
+
+	/**
+	 * Removes the entries left behind by the previous generations of a cache using
+	 * {@link CouchbaseCacheConfiguration#enableGenerationalClear(Duration) generational clears}. This runs a query over
+	 * the keyspace and is meant to be scheduled when the cluster has spare capacity, for caches whose entries do not
+	 * expire or expire late.
+	 *
+	 * @return the number of removed entries.
+	 * @since 4.2
+	 */
+	public long sweepStaleGenerations() {
+		Assert.state(cacheConfig.usesGenerationalClear(), "Cache '" + name + "' does not use generational clears!");
+		return generationalWriter.clearStaleGenerations(cacheConfig.getKeyPrefixFor(name),
+				cacheConfig.getKeyPrefixFor(name, currentGeneration()), generationCounterKey());
+	}
+
+	private void nextGeneration() {
+		long next = generationalWriter.incrementGeneration(cacheConfig.getCollectionName(), generationCounterKey());
+		generation = new Generation(next, System.nanoTime());
+		invalidateNearCache(null);
+	}
+
+	private long currentGeneration() {
+		Generation current = generation;
+		long now = System.nanoTime();
+		if (current == null || now - current.readAt > cacheConfig.getGenerationRefresh().toNanos()) {
+			current = new Generation(
+					generationalWriter.getGeneration(cacheConfig.getCollectionName(), generationCounterKey()), now);
+			generation = current;
+		}
+		return current.value;
+	}
+
+	private String generationCounterKey() {
+		return cacheConfig.getKeyPrefixFor(name) + "generation";
+	}
+
+	/**
+	 * Drops the given key, or all keys if {@literal null}, from the near cache.
+	 */
+	private void invalidateNearCache(@Nullable final String cacheKey) {
+		if (nearCache == null) {
+			return;
+		}
+		if (cacheKey == null) {
+			nearCache.clear();
+		} else {
+			nearCache.remove(cacheKey);
+		}
 	}
 
 	/**
@@ -199,6 +513,9 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 
 	private String prefixCacheKey(final String key) {
 		// allow contextual cache names by computing the key prefix on every call.
+		if (cacheConfig.usesGenerationalClear()) {
+			return cacheConfig.getKeyPrefixFor(name, currentGeneration()) + key;
+		}
 		return cacheConfig.getKeyPrefixFor(name) + key;
 	}
 
@@ -231,4 +548,30 @@ public class CouchbaseCache extends AbstractValueAdaptingCache {
 		throw new IllegalArgumentException(String.format("Cannot convert cache key %s to String.", key));
 	}
 
+	/**
+	 * A load in progress and the thread running it.
+	 */
+	private static final class Load extends CompletableFuture<Object> {
+
+		private final Thread owner;
+
+		private Load(final Thread owner) {
+			this.owner = owner;
+		}
+	}
+
+	/**
+	 * A generation of the cache and when it was read from the counter.
+	 */
+	private static final class Generation {
+
+		private final long value;
+		private final long readAt;
+
+		private Generation(final long value, final long readAt) {
+			this.value = value;
+			this.readAt = readAt;
+		}
+	}
+
 }
@@ -24,6 +24,7 @@ import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.ConverterRegistry;
 import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.java.codec.SerializableTranscoder;
@@ -38,10 +39,12 @@ public class CouchbaseCacheConfiguration {
 	private final Transcoder valueTranscoder;
 	private final ConversionService conversionService;
 	private final String collectionName;
+	private final NearCacheSettings nearCacheSettings;
+	private final Duration generationRefresh;
 
 	private CouchbaseCacheConfiguration(final Duration expiry, final boolean cacheNullValues, final boolean usePrefix,
 			final CacheKeyPrefix keyPrefix, final ConversionService conversionService, final Transcoder valueTranscoder,
-			final String collectionName) {
+			final String collectionName, final NearCacheSettings nearCacheSettings, final Duration generationRefresh) {
 		this.expiry = expiry;
 		this.cacheNullValues = cacheNullValues;
 		this.usePrefix = usePrefix;
@@ -49,6 +52,8 @@ public class CouchbaseCacheConfiguration {
 		this.conversionService = conversionService;
 		this.valueTranscoder = valueTranscoder;
 		this.collectionName = collectionName;
+		this.nearCacheSettings = nearCacheSettings;
+		this.generationRefresh = generationRefresh;
 	}
 
 	public static CouchbaseCacheConfiguration defaultCacheConfig() {
@@ -56,7 +61,7 @@ public class CouchbaseCacheConfiguration {
 		registerDefaultConverters(conversionService);
 
 		return new CouchbaseCacheConfiguration(Duration.ZERO, true, true, CacheKeyPrefix.simple(), conversionService,
-				SerializableTranscoder.INSTANCE, null);
+				SerializableTranscoder.INSTANCE, null, null, null);
 	}
 
 	/**
@@ -82,7 +87,7 @@ public class CouchbaseCacheConfiguration {
 	public CouchbaseCacheConfiguration entryExpiry(final Duration expiry) {
 		Assert.notNull(expiry, "Expiry duration must not be null!");
 		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
-				valueTranscoder, collectionName);
+				valueTranscoder, collectionName, nearCacheSettings, generationRefresh);
 	}
 
 	/**
@@ -94,7 +99,7 @@ public class CouchbaseCacheConfiguration {
 	public CouchbaseCacheConfiguration valueTranscoder(final Transcoder valueTranscoder) {
 		Assert.notNull(valueTranscoder, "Transcoder must not be null!");
 		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
-				valueTranscoder, collectionName);
+				valueTranscoder, collectionName, nearCacheSettings, generationRefresh);
 	}
 
 	/**
@@ -107,7 +112,7 @@ public class CouchbaseCacheConfiguration {
 	 */
 	public CouchbaseCacheConfiguration disableCachingNullValues() {
 		return new CouchbaseCacheConfiguration(expiry, false, usePrefix, keyPrefix, conversionService, valueTranscoder,
-				collectionName);
+				collectionName, nearCacheSettings, generationRefresh);
 	}
 
 	/**
@@ -134,7 +139,45 @@ public class CouchbaseCacheConfiguration {
 	public CouchbaseCacheConfiguration computePrefixWith(CacheKeyPrefix cacheKeyPrefix) {
 		Assert.notNull(cacheKeyPrefix, "Function for computing prefix must not be null!");
 		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, true, cacheKeyPrefix, conversionService,
-				valueTranscoder, collectionName);
+				valueTranscoder, collectionName, nearCacheSettings, generationRefresh);
+	}
+
+	/**
+	 * Keep a bounded in-heap near cache in front of Couchbase. Lookups served from it skip the round trip to Couchbase,
+	 * {@link CouchbaseCache#put(Object, Object) puts}, evictions and clears invalidate it locally.
+	 *
+	 * @param nearCacheSettings must not be {@literal null}.
+	 * @return new {@link CouchbaseCacheConfiguration}.
+	 * @since 4.2
+	 */
+	public CouchbaseCacheConfiguration enableNearCache(final NearCacheSettings nearCacheSettings) {
+		Assert.notNull(nearCacheSettings, "NearCacheSettings must not be null!");
+		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, usePrefix, keyPrefix, conversionService,
+				valueTranscoder, collectionName, nearCacheSettings, generationRefresh);
+	}
+
+	/**
+	 * Clear the cache by moving its entries to a new generation instead of deleting them. The generation is kept in a
+	 * counter document per cache and is part of the key prefix (see {@link CacheKeyPrefix#compute(String, long)}), so a
+	 * clear is a single increment of the counter; the entries of previous generations are no longer reachable and age
+	 * out through their {@link #entryExpiry(Duration) expiry}, or are removed by
+	 * {@link CouchbaseCache#sweepStaleGenerations()}.
+	 * <p>
+	 * Each cache reads the generation again once the refresh interval has passed, so clears by other applications become
+	 * visible after at most that interval. Clears by the cache itself are visible immediately.
+	 * <p>
+	 * The cache writer has to be a {@link GenerationalCouchbaseCacheWriter}, such as the
+	 * {@link DefaultCouchbaseCacheWriter}; creating a cache with any other writer fails.
+	 *
+	 * @param refreshInterval how long the generation read from the counter is used, must not be {@literal null}.
+	 * @return new {@link CouchbaseCacheConfiguration}.
+	 * @since 4.2
+	 */
+	public CouchbaseCacheConfiguration enableGenerationalClear(final Duration refreshInterval) {
+		Assert.notNull(refreshInterval, "Refresh interval must not be null!");
+		Assert.isTrue(!refreshInterval.isNegative(), "Refresh interval must not be negative!");
+		return new CouchbaseCacheConfiguration(expiry, cacheNullValues, true, keyPrefix, conversionService,
+				valueTranscoder, collectionName, nearCacheSettings, refreshInterval);
 	}
 
 	/**
@@ -176,6 +219,17 @@ public class CouchbaseCacheConfiguration {
 		return keyPrefix.compute(cacheName);
 	}
 
+	/**
+	 * Get the computed {@literal key} prefix for a given {@literal cacheName} and generation.
+	 *
+	 * @return never {@literal null}.
+	 * @since 4.2
+	 */
+	public String getKeyPrefixFor(final String cacheName, final long generation) {
+		Assert.notNull(cacheName, "Cache name must not be null!");
+		return keyPrefix.compute(cacheName, generation);
+	}
+
 	/**
 	 * Get the transcoder for encoding and decoding cache values.
 	 */
@@ -190,4 +244,33 @@ public class CouchbaseCacheConfiguration {
 		return collectionName;
 	}
 
+	/**
+	 * The settings of the near cache kept in front of Couchbase, {@literal null} if it is disabled.
+	 *
+	 * @since 4.2
+	 */
+	@Nullable
+	public NearCacheSettings getNearCacheSettings() {
+		return nearCacheSettings;
+	}
+
+	/**
+	 * How long a cache uses the generation read from its counter, {@literal null} if generational clears are disabled.
+	 *
+	 * @since 4.2
+	 * @see #enableGenerationalClear(Duration)
+	 */
+	@Nullable
+	public Duration getGenerationRefresh() {
+		return generationRefresh;
+	}
+
+	/**
+	 * @return {@literal true} if the cache is cleared by moving to a new generation.
+	 * @since 4.2
+	 */
+	public boolean usesGenerationalClear() {
+		return generationRefresh != null;
+	}
+
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running statistics of a {@link CouchbaseCache}.
+ *
+ * @since 4.2
+ */
+public class CouchbaseCacheStatistics {
+
+	private final LongAdder loads = new LongAdder();
+	private final LongAdder loadWaits = new LongAdder();
+	private final LongAdder loadWaitNanos = new LongAdder();
+	private final LongAdder nearHits = new LongAdder();
+	private final LongAdder nearMisses = new LongAdder();
+	private final LongAdder casRevalidations = new LongAdder();
+	private final LongAdder remoteHits = new LongAdder();
+	private final LongAdder remoteMisses = new LongAdder();
+
+	void recordLoad() {
+		loads.increment();
+	}
+
+	void recordLoadWait(final long waitNanos) {
+		loadWaits.increment();
+		loadWaitNanos.add(waitNanos);
+	}
+
+	void recordNearHit() {
+		nearHits.increment();
+	}
+
+	void recordNearMiss() {
+		nearMisses.increment();
+	}
+
+	void recordCasRevalidation() {
+		casRevalidations.increment();
+	}
+
+	void recordRemoteHit() {
+		remoteHits.increment();
+	}
+
+	void recordRemoteMiss() {
+		remoteMisses.increment();
+	}
+
+	/**
+	 * @return the number of lookups served by the near cache.
+	 */
+	public long getNearHits() {
+		return nearHits.sum();
+	}
+
+	/**
+	 * @return the number of lookups the near cache could not serve.
+	 */
+	public long getNearMisses() {
+		return nearMisses.sum();
+	}
+
+	/**
+	 * @return the ratio of lookups served by the near cache, 0 if it was never consulted.
+	 */
+	public double getNearHitRatio() {
+		return ratio(getNearHits(), getNearMisses());
+	}
+
+	/**
+	 * @return the number of near cache entries whose time to live elapsed and whose CAS was checked against Couchbase.
+	 */
+	public long getCasRevalidations() {
+		return casRevalidations.sum();
+	}
+
+	/**
+	 * @return the number of lookups that found the value in Couchbase.
+	 */
+	public long getRemoteHits() {
+		return remoteHits.sum();
+	}
+
+	/**
+	 * @return the number of lookups that did not find the value in Couchbase.
+	 */
+	public long getRemoteMisses() {
+		return remoteMisses.sum();
+	}
+
+	/**
+	 * @return the ratio of Couchbase lookups that found the value, 0 if Couchbase was never consulted.
+	 */
+	public double getRemoteHitRatio() {
+		return ratio(getRemoteHits(), getRemoteMisses());
+	}
+
+	private static double ratio(final long hits, final long misses) {
+		long total = hits + misses;
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	/**
+	 * @return the number of times a value loader was invoked on a cache miss.
+	 */
+	public long getLoads() {
+		return loads.sum();
+	}
+
+	/**
+	 * @return the number of cache misses that waited for a load of the same key already in progress instead of invoking
+	 *         their own value loader.
+	 */
+	public long getLoadWaits() {
+		return loadWaits.sum();
+	}
+
+	/**
+	 * @return the accumulated time spent waiting for loads of the same key already in progress.
+	 */
+	public Duration getLoadWaitTime() {
+		return Duration.ofNanos(loadWaitNanos.sum());
+	}
+
+	@Override
+	public String toString() {
+		return "CouchbaseCacheStatistics{" + "nearHits=" + getNearHits() + ", nearMisses=" + getNearMisses()
+				+ ", casRevalidations=" + getCasRevalidations() + ", remoteHits=" + getRemoteHits() + ", remoteMisses="
+				+ getRemoteMisses() + ", loads=" + getLoads() + ", loadWaits=" + getLoadWaits() + ", loadWaitTime="
+				+ getLoadWaitTime() + '}';
+	}
+}
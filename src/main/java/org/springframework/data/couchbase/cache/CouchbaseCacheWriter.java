@@ -17,7 +17,12 @@
 package org.springframework.data.couchbase.cache;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
+import org.springframework.data.couchbase.core.BulkResult;
 import org.springframework.lang.Nullable;
 
 import com.couchbase.client.java.codec.Transcoder;
@@ -59,6 +64,34 @@ public interface CouchbaseCacheWriter {
 	@Nullable
 	Object get(String collectionName, String key, @Nullable Transcoder transcoder);
 
+	/**
+	 * Get the value stored for the given key together with its CAS.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @return {@literal null} if key does not exist.
+	 * @since 4.2
+	 */
+	@Nullable
+	default CasValue getWithCas(String collectionName, String key, @Nullable Transcoder transcoder) {
+		Object value = get(collectionName, key, transcoder);
+		return value == null ? null : new CasValue(value, 0);
+	}
+
+	/**
+	 * Get the current CAS of the given key without transferring its value.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @return {@literal null} if key does not exist or the CAS cannot be determined.
+	 * @since 4.2
+	 */
+	@Nullable
+	default Long getCas(String collectionName, String key) {
+		return null;
+	}
+
 	/**
 	 * Remove the given key from Couchbase.
 	 *
@@ -68,6 +101,75 @@ public interface CouchbaseCacheWriter {
 	 */
 	boolean remove(String collectionName, String key);
 
+	/**
+	 * Get the values stored for the given keys together with their CAS. Implementations should issue the lookups
+	 * concurrently; by default they are issued one after the other.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param keys must not be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @return one result per key, with an empty value if the key does not exist.
+	 * @since 4.2
+	 */
+	default List<BulkResult<CasValue>> getAll(String collectionName, Collection<String> keys,
+			@Nullable Transcoder transcoder) {
+		List<BulkResult<CasValue>> results = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			try {
+				results.add(BulkResult.success(key, getWithCas(collectionName, key, transcoder)));
+			} catch (RuntimeException ex) {
+				results.add(BulkResult.failure(key, null, ex));
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Write the given key/value pairs to Couchbase and set the expiration time if defined. Implementations should issue
+	 * the writes concurrently; by default they are issued one after the other.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param values The values stored for the keys. Must not be {@literal null}.
+	 * @param expiry Optional expiration time. Can be {@literal null}.
+	 * @param transcoder Optional transcoder to use. Can be {@literal null}.
+	 * @return one result per key, holding the value written.
+	 * @since 4.2
+	 */
+	default List<BulkResult<Object>> putAll(String collectionName, Map<String, ?> values, @Nullable Duration expiry,
+			@Nullable Transcoder transcoder) {
+		List<BulkResult<Object>> results = new ArrayList<>(values.size());
+		for (Map.Entry<String, ?> entry : values.entrySet()) {
+			try {
+				put(collectionName, entry.getKey(), entry.getValue(), expiry, transcoder);
+				results.add(BulkResult.success(entry.getKey(), entry.getValue()));
+			} catch (RuntimeException ex) {
+				results.add(BulkResult.failure(entry.getKey(), entry.getValue(), ex));
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Remove the given keys from Couchbase. Implementations should issue the removals concurrently; by default they are
+	 * issued one after the other.
+	 *
+	 * @param collectionName The cache name must not be {@literal null}.
+	 * @param keys The keys of the cache entries. Must not be {@literal null}.
+	 * @return one result per key, holding true if the document existed on removal.
+	 * @since 4.2
+	 */
+	default List<BulkResult<Boolean>> removeAll(String collectionName, Collection<String> keys) {
+		List<BulkResult<Boolean>> results = new ArrayList<>(keys.size());
+		for (String key : keys) {
+			try {
+				results.add(BulkResult.success(key, remove(collectionName, key)));
+			} catch (RuntimeException ex) {
+				results.add(BulkResult.failure(key, null, ex));
+			}
+		}
+		return results;
+	}
+
 	/**
 	 * Clears the cache with the given key pattern prefix.
 	 *
@@ -76,4 +178,31 @@ public interface CouchbaseCacheWriter {
 	 */
 	long clear(String pattern);
 
+	/**
+	 * A cached value and the CAS of the document holding it.
+	 *
+	 * @since 4.2
+	 */
+	final class CasValue {
+
+		private final Object value;
+		private final long cas;
+
+		public CasValue(final Object value, final long cas) {
+			this.value = value;
+			this.cas = cas;
+		}
+
+		public Object getValue() {
+			return value;
+		}
+
+		/**
+		 * @return the CAS, 0 if unknown.
+		 */
+		public long getCas() {
+			return cas;
+		}
+	}
+
 }
@@ -17,27 +17,41 @@
 package org.springframework.data.couchbase.cache;
 
 import static com.couchbase.client.java.kv.GetOptions.*;
+import static com.couchbase.client.java.kv.IncrementOptions.*;
 import static com.couchbase.client.java.kv.InsertOptions.*;
 import static com.couchbase.client.java.kv.UpsertOptions.*;
 import static com.couchbase.client.java.query.QueryOptions.*;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.springframework.data.couchbase.CouchbaseClientFactory;
+import org.springframework.data.couchbase.core.BulkOptions;
+import org.springframework.data.couchbase.core.BulkResult;
 
 import com.couchbase.client.core.error.DocumentExistsException;
 import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.core.io.CollectionIdentifier;
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.Scope;
+import com.couchbase.client.java.codec.RawStringTranscoder;
 import com.couchbase.client.java.codec.Transcoder;
 import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.ExistsResult;
+import com.couchbase.client.java.kv.GetOptions;
+import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.InsertOptions;
 import com.couchbase.client.java.kv.UpsertOptions;
 import com.couchbase.client.java.query.QueryMetrics;
 import com.couchbase.client.java.query.QueryResult;
 
-public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
+public class DefaultCouchbaseCacheWriter implements GenerationalCouchbaseCacheWriter {
 
 	private final CouchbaseClientFactory clientFactory;
 
@@ -91,6 +105,22 @@ public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 		}
 	}
 
+	@Override
+	public CasValue getWithCas(final String collectionName, final String key, final Transcoder transcoder) {
+		try {
+			GetResult result = getCollection(collectionName).get(key, getOptions().transcoder(transcoder));
+			return new CasValue(result.contentAs(Object.class), result.cas());
+		} catch (DocumentNotFoundException ex) {
+			return null;
+		}
+	}
+
+	@Override
+	public Long getCas(final String collectionName, final String key) {
+		ExistsResult result = getCollection(collectionName).exists(key);
+		return result.exists() ? result.cas() : null;
+	}
+
 	@Override
 	public boolean remove(final String collectionName, final String key) {
 		try {
@@ -101,6 +131,54 @@ public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 		}
 	}
 
+	@Override
+	public List<BulkResult<CasValue>> getAll(final String collectionName, final java.util.Collection<String> keys,
+			final Transcoder transcoder) {
+		final ReactiveCollection collection = getCollection(collectionName).reactive();
+		final GetOptions options = getOptions().transcoder(transcoder);
+		return bulk(keys, key -> collection.get(key, options)
+				.map(result -> BulkResult.success(key, new CasValue(result.contentAs(Object.class), result.cas())))
+				.onErrorResume(DocumentNotFoundException.class, ex -> Mono.just(BulkResult.success(key, null))));
+	}
+
+	@Override
+	public List<BulkResult<Object>> putAll(final String collectionName, final Map<String, ?> values,
+			final Duration expiry, final Transcoder transcoder) {
+		final ReactiveCollection collection = getCollection(collectionName).reactive();
+		final UpsertOptions options = upsertOptions();
+		if (expiry != null) {
+			options.expiry(expiry);
+		}
+		if (transcoder != null) {
+			options.transcoder(transcoder);
+		}
+		return bulk(values.keySet(), key -> {
+			Object value = values.get(key);
+			return collection.upsert(key, value, options).map(result -> BulkResult.success(key, value))
+					.onErrorResume(ex -> Mono.just(BulkResult.failure(key, value, ex)));
+		});
+	}
+
+	@Override
+	public List<BulkResult<Boolean>> removeAll(final String collectionName,
+			final java.util.Collection<String> keys) {
+		final ReactiveCollection collection = getCollection(collectionName).reactive();
+		return bulk(keys, key -> collection.remove(key).map(result -> BulkResult.success(key, true))
+				.onErrorResume(DocumentNotFoundException.class, ex -> Mono.just(BulkResult.success(key, false))));
+	}
+
+	/**
+	 * Runs one request per key, keeping up to {@link BulkOptions#DEFAULT_CONCURRENCY} of them in flight, and waits for
+	 * all of them. A failed request is reported in its result and does not abort the others.
+	 */
+	private <T> List<BulkResult<T>> bulk(final java.util.Collection<String> keys,
+			final Function<String, Mono<BulkResult<T>>> request) {
+		return Flux.fromIterable(keys)
+				.flatMap(key -> request.apply(key).onErrorResume(ex -> Mono.just(BulkResult.failure(key, null, ex))),
+						BulkOptions.DEFAULT_CONCURRENCY)
+				.collectList().block();
+	}
+
 	@Override
 	public long clear(final String pattern) {
 		QueryResult result = clientFactory.getCluster().query(
@@ -109,6 +187,31 @@ public class DefaultCouchbaseCacheWriter implements CouchbaseCacheWriter {
 		return result.metaData().metrics().map(QueryMetrics::mutationCount).orElse(0L);
 	}
 
+	@Override
+	public long getGeneration(final String collectionName, final String counterKey) {
+		try {
+			return Long.parseLong(getCollection(collectionName)
+					.get(counterKey, getOptions().transcoder(RawStringTranscoder.INSTANCE)).contentAs(String.class).trim());
+		} catch (DocumentNotFoundException ex) {
+			return 0;
+		}
+	}
+
+	@Override
+	public long incrementGeneration(final String collectionName, final String counterKey) {
+		return getCollection(collectionName).binary().increment(counterKey, incrementOptions().initial(1)).content();
+	}
+
+	@Override
+	public long clearStaleGenerations(final String pattern, final String currentPattern, final String counterKey) {
+		QueryResult result = clientFactory.getCluster().query(
+				"DELETE FROM `" + clientFactory.getBucket().name()
+						+ "` where meta().id LIKE $pattern AND meta().id NOT LIKE $current AND meta().id != $counter",
+				queryOptions().metrics(true).parameters(JsonObject.create().put("pattern", pattern + "%")
+						.put("current", currentPattern + "%").put("counter", counterKey)));
+		return result.metaData().metrics().map(QueryMetrics::mutationCount).orElse(0L);
+	}
+
 	private Collection getCollection(final String collectionName) {
 		final Scope scope = clientFactory.getScope();
 		if (collectionName == null) {
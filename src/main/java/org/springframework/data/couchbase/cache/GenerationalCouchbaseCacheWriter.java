@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import java.time.Duration;
+
+/**
+ * A {@link CouchbaseCacheWriter} that keeps the generation counters of caches cleared by moving to a new generation.
+ * Caches configured with {@link CouchbaseCacheConfiguration#enableGenerationalClear(Duration)} require a writer
+ * implementing this interface.
+ *
+ * @since 4.2
+ */
+public interface GenerationalCouchbaseCacheWriter extends CouchbaseCacheWriter {
+
+	/**
+	 * Get the current value of a generation counter.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param counterKey the key of the counter document. Must not be {@literal null}.
+	 * @return the generation, 0 if the counter does not exist yet.
+	 */
+	long getGeneration(String collectionName, String counterKey);
+
+	/**
+	 * Atomically increment a generation counter, creating it if needed.
+	 *
+	 * @param collectionName must not be {@literal null}.
+	 * @param counterKey the key of the counter document. Must not be {@literal null}.
+	 * @return the new generation.
+	 */
+	long incrementGeneration(String collectionName, String counterKey);
+
+	/**
+	 * Removes the entries of the previous generations of a cache.
+	 *
+	 * @param pattern the key prefix of all generations of the cache.
+	 * @param currentPattern the key prefix of the current generation, whose entries are kept.
+	 * @param counterKey the key of the counter document, which is kept.
+	 * @return the number of removed entries.
+	 */
+	long clearStaleGenerations(String pattern, String currentPattern, String counterKey);
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Bounded in-heap tier in front of a {@link CouchbaseCache}, evicting in approximately least recently used order.
+ * <p>
+ * Lookups take no lock: they only stamp the entry with the time of the access. Once the maximum size or weight is
+ * exceeded, the least recently accessed entries are evicted in a batch of about a sixteenth of the capacity, so the
+ * cost of ordering the entries is spread over the insertions filling the batch.
+ *
+ * @since 4.2
+ * @see NearCacheSettings
+ */
+class NearCache {
+
+	private final int maximumSize;
+	private final long maximumWeight;
+	private final long timeToLiveNanos;
+	private final NearCacheSettings settings;
+	private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong weight = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+	private final Object evictionLock = new Object();
+
+	NearCache(final NearCacheSettings settings, final long timeToLiveNanos) {
+		this.settings = settings;
+		this.maximumSize = settings.getMaximumSize();
+		this.maximumWeight = settings.getWeigher() != null ? settings.getMaximumWeight() : 0;
+		this.timeToLiveNanos = timeToLiveNanos;
+	}
+
+	/**
+	 * Returns the entry stored for the key, expired or not.
+	 */
+	@Nullable
+	Entry get(final String key) {
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			entry.lastAccess = System.nanoTime();
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns the number of removals and clears so far, taken before reading a value to put.
+	 */
+	long invalidations() {
+		return invalidations.get();
+	}
+
+	/**
+	 * Stores a value read from Couchbase, unless an entry was invalidated since the read started: the value may then be
+	 * older than the write that invalidated it. As removals count themselves before removing, an invalidation racing
+	 * with the check still removes the stored entry.
+	 *
+	 * @param invalidationsBeforeRead the {@link #invalidations()} taken before the value was read.
+	 */
+	void put(final String key, final Object value, final long cas, final long invalidationsBeforeRead) {
+		long entryWeight = maximumWeight > 0 ? settings.getWeigher().applyAsLong(value) : 0;
+		Entry entry = new Entry(value, cas, System.nanoTime() + timeToLiveNanos, entryWeight);
+		Entry previous = entries.put(key, entry);
+		weight.addAndGet(previous != null ? entryWeight - previous.weight : entryWeight);
+		if (invalidations.get() != invalidationsBeforeRead) {
+			remove(key, entry);
+			return;
+		}
+		if (isOverCapacity(maximumSize, maximumWeight)) {
+			evict();
+		}
+	}
+
+	/**
+	 * Extends the time to live of the entry after its CAS was found unchanged.
+	 */
+	void renew(final String key, final Entry entry) {
+		Entry renewed = new Entry(entry.value, entry.cas, System.nanoTime() + timeToLiveNanos, entry.weight);
+		renewed.lastAccess = entry.lastAccess;
+		entries.replace(key, entry, renewed);
+	}
+
+	void remove(final String key) {
+		invalidations.incrementAndGet();
+		Entry removed = entries.remove(key);
+		if (removed != null) {
+			weight.addAndGet(-removed.weight);
+		}
+	}
+
+	void clear() {
+		invalidations.incrementAndGet();
+		for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+			remove(entry.getKey(), entry.getValue());
+		}
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	private void remove(final String key, final Entry entry) {
+		if (entries.remove(key, entry)) {
+			weight.addAndGet(-entry.weight);
+		}
+	}
+
+	private boolean isOverCapacity(final int sizeLimit, final long weightLimit) {
+		return entries.size() > sizeLimit || (weightLimit > 0 && weight.get() > weightLimit);
+	}
+
+	/**
+	 * Evicts the least recently accessed entries down to a sixteenth below the capacity. The access times are copied
+	 * before sorting, as lookups keep updating them.
+	 */
+	private void evict() {
+		synchronized (evictionLock) {
+			if (!isOverCapacity(maximumSize, maximumWeight)) {
+				return;
+			}
+			List<Candidate> candidates = new ArrayList<>(entries.size());
+			for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+				candidates.add(new Candidate(entry.getKey(), entry.getValue()));
+			}
+			candidates.sort((left, right) -> Long.compare(left.lastAccess, right.lastAccess));
+
+			int targetSize = maximumSize - maximumSize / 16;
+			long targetWeight = maximumWeight - maximumWeight / 16;
+			for (Candidate candidate : candidates) {
+				if (!isOverCapacity(targetSize, targetWeight)) {
+					break;
+				}
+				remove(candidate.key, candidate.entry);
+			}
+		}
+	}
+
+	static final class Entry {
+
+		final Object value;
+		final long cas;
+		final long expiresAtNanos;
+		final long weight;
+		volatile long lastAccess = System.nanoTime();
+
+		Entry(final Object value, final long cas, final long expiresAtNanos, final long weight) {
+			this.value = value;
+			this.cas = cas;
+			this.expiresAtNanos = expiresAtNanos;
+			this.weight = weight;
+		}
+
+		boolean isExpired() {
+			return System.nanoTime() - expiresAtNanos >= 0;
+		}
+	}
+
+	private static final class Candidate {
+
+		private final String key;
+		private final Entry entry;
+		private final long lastAccess;
+
+		private Candidate(final String key, final Entry entry) {
+			this.key = key;
+			this.entry = entry;
+			this.lastAccess = entry.lastAccess;
+		}
+	}
+}
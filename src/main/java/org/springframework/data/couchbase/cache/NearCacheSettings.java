@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import java.time.Duration;
+import java.util.function.ToLongFunction;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Settings of the optional in-heap near cache tier kept in front of a {@link CouchbaseCache}. Entries are evicted in
+ * approximately least recently used order once the maximum size or weight is exceeded. When the time to live of an
+ * entry elapses, its CAS is checked against Couchbase: an unchanged document keeps the entry alive without
+ * transferring its value again, a changed or removed document drops it.
+ *
+ * @since 4.2
+ */
+public class NearCacheSettings {
+
+	private final int maximumSize;
+	private final long maximumWeight;
+	private final @Nullable ToLongFunction<Object> weigher;
+	private final Duration timeToLive;
+
+	private NearCacheSettings(final int maximumSize, final long maximumWeight,
+			@Nullable final ToLongFunction<Object> weigher, final Duration timeToLive) {
+		this.maximumSize = maximumSize;
+		this.maximumWeight = maximumWeight;
+		this.weigher = weigher;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Creates near cache settings holding at most {@code maximumSize} entries for one minute each.
+	 *
+	 * @param maximumSize the maximum number of entries, must be positive.
+	 * @return new {@link NearCacheSettings}.
+	 */
+	public static NearCacheSettings maximumSize(final int maximumSize) {
+		Assert.isTrue(maximumSize > 0, "Maximum size must be positive!");
+		return new NearCacheSettings(maximumSize, 0, null, Duration.ofMinutes(1));
+	}
+
+	/**
+	 * Limit the accumulated weight of the entries in addition to their number.
+	 *
+	 * @param maximumWeight the maximum accumulated weight, must be positive.
+	 * @param weigher computes the weight of a cached value, must not be {@literal null}.
+	 * @return new {@link NearCacheSettings}.
+	 */
+	public NearCacheSettings maximumWeight(final long maximumWeight, final ToLongFunction<Object> weigher) {
+		Assert.isTrue(maximumWeight > 0, "Maximum weight must be positive!");
+		Assert.notNull(weigher, "Weigher must not be null!");
+		return new NearCacheSettings(maximumSize, maximumWeight, weigher, timeToLive);
+	}
+
+	/**
+	 * Set how long an entry is served from the near cache before its CAS is checked against Couchbase again. The time
+	 * to live is capped at the {@link CouchbaseCacheConfiguration#getExpiry() expiry} of the cache.
+	 *
+	 * @param timeToLive must not be {@literal null} nor negative.
+	 * @return new {@link NearCacheSettings}.
+	 */
+	public NearCacheSettings timeToLive(final Duration timeToLive) {
+		Assert.notNull(timeToLive, "Time to live must not be null!");
+		Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative!");
+		return new NearCacheSettings(maximumSize, maximumWeight, weigher, timeToLive);
+	}
+
+	/**
+	 * @return the maximum number of entries.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return the maximum accumulated weight of the entries, 0 if unbounded.
+	 */
+	public long getMaximumWeight() {
+		return maximumWeight;
+	}
+
+	/**
+	 * @return the weigher for cached values, {@literal null} if the weight is not bounded.
+	 */
+	@Nullable
+	public ToLongFunction<Object> getWeigher() {
+		return weigher;
+	}
+
+	/**
+	 * @return the time an entry is served before its CAS is checked again.
+	 */
+	public Duration getTimeToLive() {
+		return timeToLive;
+	}
+
+	/**
+	 * Returns the time to live capped at the given remote expiry.
+	 *
+	 * @param expiry the expiry of the cache entries in Couchbase, {@link Duration#ZERO} if they do not expire.
+	 * @return the effective time to live.
+	 */
+	Duration getTimeToLive(@Nullable final Duration expiry) {
+		if (expiry == null || expiry.isZero() || expiry.compareTo(timeToLive) >= 0) {
+			return timeToLive;
+		}
+		return expiry;
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * Controls how {@code removeByQuery} removes a large number of documents in batches: instead of a single
+ * {@code DELETE} statement, {@code DELETE ... LIMIT batchSize} statements are repeated until one removes fewer
+ * documents than the batch size. The statements after the first are run with
+ * {@link com.couchbase.client.java.query.QueryScanConsistency#REQUEST_PLUS request plus} consistency, so that the index
+ * no longer returns the documents removed before. Each statement is short, so none runs into the query timeout, and
+ * the removed documents are counted rather than returned.
+ * <p>
+ * The removal may be split into document id ranges removed in parallel, and throttled to a number of documents per
+ * second across all ranges.
+ *
+ * @since 4.2
+ */
+public final class BatchRemoveOptions {
+
+	/**
+	 * The number of documents removed by a statement by default.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 10_000;
+
+	private static final BatchRemoveOptions DEFAULT = new BatchRemoveOptions(DEFAULT_BATCH_SIZE, 0,
+			Collections.emptyList());
+
+	private final int batchSize;
+	private final double rateLimit;
+	private final List<String> idBoundaries;
+
+	private BatchRemoveOptions(final int batchSize, final double rateLimit, final List<String> idBoundaries) {
+		this.batchSize = batchSize;
+		this.rateLimit = rateLimit;
+		this.idBoundaries = idBoundaries;
+	}
+
+	/**
+	 * @return the default options: batches of {@link #DEFAULT_BATCH_SIZE} documents, one after the other, not throttled.
+	 */
+	public static BatchRemoveOptions batchRemoveOptions() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Set the maximum number of documents removed by a statement.
+	 *
+	 * @param batchSize must be positive.
+	 * @return new {@link BatchRemoveOptions}.
+	 */
+	public BatchRemoveOptions batchSize(final int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be positive!");
+		return new BatchRemoveOptions(batchSize, rateLimit, idBoundaries);
+	}
+
+	/**
+	 * Throttle the removal to the given number of documents per second, across all id ranges.
+	 *
+	 * @param documentsPerSecond must be positive.
+	 * @return new {@link BatchRemoveOptions}.
+	 */
+	public BatchRemoveOptions rateLimit(final double documentsPerSecond) {
+		Assert.isTrue(documentsPerSecond > 0, "Rate limit must be positive!");
+		return new BatchRemoveOptions(batchSize, documentsPerSecond, idBoundaries);
+	}
+
+	/**
+	 * Split the removal into document id ranges removed in parallel. {@code n} boundaries give {@code n + 1} ranges:
+	 * ids below the first boundary, ids from each boundary up to the next, and ids from the last boundary on. The
+	 * boundaries should split the ids evenly, such as {@code "4", "8", "c"} for ids starting with a hex digit.
+	 *
+	 * @param boundaries the boundaries, in ascending order.
+	 * @return new {@link BatchRemoveOptions}.
+	 */
+	public BatchRemoveOptions partitionedById(final String... boundaries) {
+		Assert.notNull(boundaries, "Boundaries must not be null!");
+		for (int i = 0; i < boundaries.length; i++) {
+			Assert.notNull(boundaries[i], "Boundaries must not contain null!");
+			Assert.isTrue(i == 0 || boundaries[i - 1].compareTo(boundaries[i]) < 0,
+					"Boundaries must be in strictly ascending order!");
+		}
+		return new BatchRemoveOptions(batchSize, rateLimit, Collections.unmodifiableList(Arrays.asList(boundaries)));
+	}
+
+	/**
+	 * @return the maximum number of documents removed by a statement.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @return the maximum number of documents removed per second, 0 if not throttled.
+	 */
+	public double getRateLimit() {
+		return rateLimit;
+	}
+
+	/**
+	 * @return the boundaries of the id ranges removed in parallel, empty for a single range.
+	 */
+	public List<String> getIdBoundaries() {
+		return idBoundaries;
+	}
+
+	/**
+	 * @return the id ranges, each as an inclusive lower and an exclusive upper bound, {@literal null} for unbounded.
+	 */
+	List<String[]> idRanges() {
+		List<String[]> ranges = new ArrayList<>(idBoundaries.size() + 1);
+		String from = null;
+		for (String boundary : idBoundaries) {
+			ranges.add(new String[] { from, boundary });
+			from = boundary;
+		}
+		ranges.add(new String[] { from, null });
+		return ranges;
+	}
+
+	/**
+	 * Delays the next batch so that the removal does not exceed the rate limit. The time slots of the batches are
+	 * reserved on a timeline shared by all ranges of a removal.
+	 *
+	 * @param timeline the time, in nanoseconds, from which the next batch may run.
+	 * @param removed the number of documents removed by the previous batch.
+	 * @return completes when the next batch may run.
+	 */
+	Mono<Void> throttle(final AtomicLong timeline, final long removed) {
+		if (rateLimit <= 0 || removed <= 0) {
+			return Mono.empty();
+		}
+		long cost = (long) (removed * 1_000_000_000d / rateLimit);
+		long now = System.nanoTime();
+		long next = timeline.accumulateAndGet(cost, (previous, slot) -> Math.max(previous, now) + slot);
+		return next <= now ? Mono.empty() : Mono.delay(Duration.ofNanos(next - now)).then();
+	}
+
+	@Override
+	public String toString() {
+		return "BatchRemoveOptions{" + "batchSize=" + batchSize + ", rateLimit=" + rateLimit + ", idBoundaries="
+				+ idBoundaries + '}';
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.springframework.util.Assert;
+
+/**
+ * Controls how the {@code all} and {@code bulk} methods of the key/value operations dispatch their individual
+ * requests.
+ * <p>
+ * At most {@link #getConcurrency() concurrency} requests are in flight at any time; further elements are only pulled
+ * from the input once a request completes and the subscriber has signalled demand, so large inputs keep the KV
+ * pipeline saturated without buffering every pending request. Results are emitted as they complete unless
+ * {@link #ordered()} is requested, in which case they follow the order of the input.
+ *
+ * @since 4.2
+ */
+public final class BulkOptions {
+
+	/**
+	 * The number of requests kept in flight by default.
+	 */
+	public static final int DEFAULT_CONCURRENCY = 128;
+
+	private static final BulkOptions DEFAULT = new BulkOptions(DEFAULT_CONCURRENCY, false);
+
+	private final int concurrency;
+	private final boolean ordered;
+
+	private BulkOptions(final int concurrency, final boolean ordered) {
+		this.concurrency = concurrency;
+		this.ordered = ordered;
+	}
+
+	/**
+	 * @return the default options: {@link #DEFAULT_CONCURRENCY} requests in flight, results in completion order.
+	 */
+	public static BulkOptions bulkOptions() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Set the maximum number of requests in flight.
+	 *
+	 * @param concurrency must be positive.
+	 * @return new {@link BulkOptions}.
+	 */
+	public BulkOptions concurrency(final int concurrency) {
+		Assert.isTrue(concurrency > 0, "Concurrency must be positive!");
+		return new BulkOptions(concurrency, ordered);
+	}
+
+	/**
+	 * Emit results in the order of the input. Results completing ahead of an earlier, still running request are held
+	 * back until it completes.
+	 *
+	 * @return new {@link BulkOptions}.
+	 */
+	public BulkOptions ordered() {
+		return new BulkOptions(concurrency, true);
+	}
+
+	/**
+	 * @return the maximum number of requests in flight.
+	 */
+	public int getConcurrency() {
+		return concurrency;
+	}
+
+	/**
+	 * @return true if results follow the order of the input.
+	 */
+	public boolean isOrdered() {
+		return ordered;
+	}
+
+	/**
+	 * Dispatches {@code operation} for every element of {@code source} according to these options.
+	 */
+	<S, R> Flux<R> dispatch(final Iterable<? extends S> source, final Function<S, ? extends Publisher<R>> operation) {
+		Flux<S> elements = Flux.fromIterable(source);
+		return ordered ? elements.flatMapSequential(operation, concurrency)
+				: elements.flatMap(operation, concurrency);
+	}
+
+	@Override
+	public String toString() {
+		return "BulkOptions{" + "concurrency=" + concurrency + ", ordered=" + ordered + '}';
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.Optional;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * The outcome of a single request of a bulk key/value operation. A failed request does not abort the remaining ones,
+ * it is reported through {@link #getError()} instead.
+ *
+ * @param <T> the type of the value.
+ * @since 4.2
+ */
+public final class BulkResult<T> {
+
+	private final @Nullable String id;
+	private final @Nullable T value;
+	private final @Nullable Throwable error;
+
+	private BulkResult(@Nullable final String id, @Nullable final T value, @Nullable final Throwable error) {
+		this.id = id;
+		this.value = value;
+		this.error = error;
+	}
+
+	/**
+	 * @param id the document id.
+	 * @param value the stored or found value, {@literal null} if the document does not exist.
+	 * @return the result of a successful request.
+	 */
+	public static <T> BulkResult<T> success(final String id, @Nullable final T value) {
+		return new BulkResult<>(id, value, null);
+	}
+
+	/**
+	 * @param id the document id, if known.
+	 * @param value the value that could not be stored, if any.
+	 * @param error the error the request failed with.
+	 * @return the result of a failed request.
+	 */
+	public static <T> BulkResult<T> failure(@Nullable final String id, @Nullable final T value, final Throwable error) {
+		return new BulkResult<>(id, value, error);
+	}
+
+	/**
+	 * @return the document id, {@literal null} if the request failed before the id of an entity could be determined.
+	 */
+	@Nullable
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Returns the value of the request: the stored or found entity on success, the entity that could not be stored on
+	 * failure. A lookup of a missing document succeeds with an empty value.
+	 *
+	 * @return the value, if any.
+	 */
+	public Optional<T> getValue() {
+		return Optional.ofNullable(value);
+	}
+
+	/**
+	 * @return the error the request failed with, {@literal null} on success.
+	 */
+	@Nullable
+	public Throwable getError() {
+		return error;
+	}
+
+	/**
+	 * @return true if the request succeeded.
+	 */
+	public boolean isSuccess() {
+		return error == null;
+	}
+
+	@Override
+	public String toString() {
+		return "BulkResult{" + "id='" + id + '\'' + ", value=" + value + ", error=" + error + '}';
+	}
+}
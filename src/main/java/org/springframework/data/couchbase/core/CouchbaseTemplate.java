@@ -16,6 +16,9 @@
 
 package org.springframework.data.couchbase.core;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -120,6 +123,11 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 		return new ExecutableRemoveByQueryOperationSupport(this).removeByQuery(domainType);
 	}
 
+	@Override
+	public <T> ExecutableUpdateByQuery<T> updateByQuery(Class<T> domainType) {
+		return new ExecutableUpdateByQueryOperationSupport(this).updateByQuery(domainType);
+	}
+
 	@Override
 	public String getBucketName() {
 		return clientFactory.getBucket().name();
@@ -154,6 +162,52 @@ public class CouchbaseTemplate implements CouchbaseOperations, ApplicationContex
 		return reactiveCouchbaseTemplate;
 	}
 
+	/**
+	 * Registers the metrics to record every operation of this template with. Operations are not measured unless metrics
+	 * are registered.
+	 *
+	 * @param operationMetrics the metrics, {@literal null} to stop measuring.
+	 * @since 4.2
+	 * @see ReactiveCouchbaseTemplate#setOperationMetrics(OperationMetrics)
+	 */
+	public void setOperationMetrics(@Nullable final OperationMetrics operationMetrics) {
+		reactiveCouchbaseTemplate.setOperationMetrics(operationMetrics);
+	}
+
+	/**
+	 * Sets the minimal time between two expiration resets of the same document by touch on read entities.
+	 *
+	 * @param touchOnReadInterval the interval, {@literal null} or zero to touch on every read.
+	 * @since 4.2
+	 * @see ReactiveCouchbaseTemplate#setTouchOnReadInterval(Duration)
+	 */
+	public void setTouchOnReadInterval(@Nullable final Duration touchOnReadInterval) {
+		reactiveCouchbaseTemplate.setTouchOnReadInterval(touchOnReadInterval);
+	}
+
+	/**
+	 * Sets the policy hedging the reads by id of this template against a slow active node.
+	 *
+	 * @param hedgedReadPolicy the policy, {@literal null} to read from the active node only.
+	 * @since 4.2
+	 * @see ReactiveCouchbaseTemplate#setHedgedReadPolicy(HedgedReadPolicy)
+	 */
+	public void setHedgedReadPolicy(@Nullable final HedgedReadPolicy hedgedReadPolicy) {
+		reactiveCouchbaseTemplate.setHedgedReadPolicy(hedgedReadPolicy);
+	}
+
+	/**
+	 * Sets the {@link Executor} to publish the
+	 * {@link org.springframework.data.couchbase.core.mapping.event.AfterSaveEvent}s of this template on.
+	 *
+	 * @param afterEventExecutor the executor, {@literal null} to publish the events on the completing thread.
+	 * @since 4.2
+	 * @see ReactiveCouchbaseTemplate#setAfterEventExecutor(Executor)
+	 */
+	public void setAfterEventExecutor(@Nullable final Executor afterEventExecutor) {
+		reactiveCouchbaseTemplate.setAfterEventExecutor(afterEventExecutor);
+	}
+
 	@Override
 	public void setApplicationContext(final ApplicationContext applicationContext) throws BeansException {
 		prepareIndexCreator(applicationContext);
@@ -16,29 +16,60 @@
 
 package org.springframework.data.couchbase.core;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.context.event.GenericApplicationListenerAdapter;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.join.N1qlJoinResolver;
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.mapping.PartialUpdate;
 import org.springframework.data.couchbase.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.couchbase.core.mapping.event.AfterSaveEvent;
 import org.springframework.data.couchbase.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.couchbase.core.mapping.event.BeforeConvertEvent;
 import org.springframework.data.couchbase.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.couchbase.core.mapping.event.CouchbaseMappingEvent;
+import org.springframework.data.couchbase.core.query.N1qlJoin;
+import org.springframework.data.couchbase.core.support.TemplateUtils;
 import org.springframework.data.couchbase.repository.support.MappingCouchbaseEntityInformation;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryOptions;
+
 /**
  * Internal encode/decode support for CouchbaseTemplate.
  *
@@ -54,34 +85,118 @@ class CouchbaseTemplateSupport implements ApplicationContextAware {
 	private final CouchbaseConverter converter;
 	private final MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> mappingContext;
 	private final TranslationService translationService;
+	private final DocumentSnapshots snapshots;
+	private final Map<Class<?>, List<CouchbasePersistentProperty>> n1qlJoinProperties = new ConcurrentHashMap<>();
+	private final Map<Class<?>, EntityListeners> entityListeners = new ConcurrentHashMap<>();
 	private EntityCallbacks entityCallbacks;
+	private boolean entityCallbacksFromContext;
 	private ApplicationContext applicationContext;
+	private volatile boolean contextRunning;
+	private volatile boolean missingContextReported;
+	private @Nullable Executor afterEventExecutor;
 
 	public CouchbaseTemplateSupport(final CouchbaseConverter converter, final TranslationService translationService) {
 		this.converter = converter;
 		this.mappingContext = converter.getMappingContext();
 		this.translationService = translationService;
+		this.snapshots = new DocumentSnapshots(translationService);
 	}
 
 	public CouchbaseDocument encodeEntity(final Object entityToEncode) {
-		maybeEmitEvent(new BeforeConvertEvent<>(entityToEncode));
-		Object maybeNewEntity = maybeCallBeforeConvert(entityToEncode, "");
-		final CouchbaseDocument converted = new CouchbaseDocument();
+		EntityListeners listeners = listenersFor(entityToEncode.getClass());
+		if (listeners.beforeConvertEvent) {
+			maybeEmitEvent(new BeforeConvertEvent<>(entityToEncode));
+		}
+		Object maybeNewEntity = listeners.beforeConvertCallback ? maybeCallBeforeConvert(entityToEncode, "")
+				: entityToEncode;
+		final CouchbaseDocument converted = mappingContext.hasPersistentEntityFor(maybeNewEntity.getClass())
+				? new CouchbaseDocument(null, CouchbaseDocument.DEFAULT_EXPIRATION_TIME,
+						mappingContext.getRequiredPersistentEntity(maybeNewEntity.getClass()).getMetadata().getProjectedFields()
+								.size() + 1)
+				: new CouchbaseDocument();
 		converter.write(maybeNewEntity, converted);
-		maybeCallAfterConvert(entityToEncode, converted, "");
-		maybeEmitEvent(new BeforeSaveEvent<>(entityToEncode, converted));
+		if (listeners.afterConvertCallback) {
+			maybeCallAfterConvert(entityToEncode, converted, "");
+		}
+		if (listeners.beforeSaveEvent) {
+			maybeEmitEvent(new BeforeSaveEvent<>(entityToEncode, converted));
+		}
 		return converted;
 	}
 
+	/**
+	 * Publishes the {@link AfterSaveEvent} of a stored entity, if any listener handles it. The event is dispatched on
+	 * the {@link #setAfterEventExecutor(Executor) after event executor}, if there is one.
+	 *
+	 * @param saved the stored entity.
+	 * @param converted the document the entity was stored as.
+	 * @return the stored entity.
+	 */
+	public <T> T afterSave(final T saved, final CouchbaseDocument converted) {
+		if (listenersFor(saved.getClass()).afterSaveEvent) {
+			maybeEmitAfterEvent(new AfterSaveEvent<>(saved, converted));
+		}
+		return saved;
+	}
+
+	/**
+	 * Serializes an {@link #encodeEntity(Object) encoded} entity to raw JSON in a single pass over the document tree. The
+	 * result is stored with the {@link com.couchbase.client.java.codec.RawJsonTranscoder}, so the tree is neither
+	 * exported into maps nor walked again by the serializer of the SDK.
+	 *
+	 * @param converted the encoded entity.
+	 * @return the UTF-8 encoded JSON.
+	 */
+	public byte[] encodeJson(final CouchbaseDocument converted) {
+		return translationService.encodeToBytes(converted);
+	}
+
 	public <T> T decodeEntity(String id, String source, long cas, Class<T> entityClass) {
 		final CouchbaseDocument converted = new CouchbaseDocument(id);
+		translationService.decode(source, converted);
+		return decodeEntity(id, converted, cas, entityClass);
+	}
+
+	/**
+	 * Decodes a raw query or analytics result row in a single pass. When the row was selected with the meta data, the
+	 * {@link TemplateUtils#SELECT_ID} and {@link TemplateUtils#SELECT_CAS} fields are taken out of the decoded document
+	 * instead of being parsed separately.
+	 *
+	 * @param row the raw JSON row.
+	 * @param withMeta whether the row contains the id and cas fields.
+	 * @param entityClass the class to decode into.
+	 * @return the decoded entity.
+	 */
+	public <T> T decodeRow(byte[] row, boolean withMeta, Class<T> entityClass) {
+		final CouchbaseDocument converted = new CouchbaseDocument();
+		translationService.decode(row, converted);
+		return decodeRow(converted, withMeta, entityClass);
+	}
+
+	private <T> T decodeRow(CouchbaseDocument converted, boolean withMeta, Class<T> entityClass) {
+		String id = "";
+		long cas = 0;
+		if (withMeta) {
+			Object rowId = converted.remove(TemplateUtils.SELECT_ID);
+			Object rowCas = converted.remove(TemplateUtils.SELECT_CAS);
+			id = rowId != null ? rowId.toString() : null;
+			cas = rowCas instanceof Number ? ((Number) rowCas).longValue() : 0;
+		}
+		return decodeEntity(id, converted, cas, entityClass);
+	}
+
+	private <T> T decodeEntity(String id, CouchbaseDocument converted, long cas, Class<T> entityClass) {
 		converted.setId(id);
 		CouchbasePersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(entityClass);
-		if (cas != 0 && persistentEntity.getVersionProperty() != null) {
+		if (cas != 0 && persistentEntity.isAnnotationPresent(PartialUpdate.class)) {
+			snapshots.record(entityClass, converted, cas);
+		}
+		if (cas != 0 && persistentEntity.getVersionProperty() != null
+				&& !converted.containsKey(persistentEntity.getVersionProperty().getName())) {
 			converted.put(persistentEntity.getVersionProperty().getName(), cas);
 		}
 
-		T readEntity = converter.read(entityClass, (CouchbaseDocument) translationService.decode(source, converted));
+		T readEntity = converter.read(entityClass, converted);
 		final ConvertingPropertyAccessor<T> accessor = getPropertyAccessor(readEntity);
 
 		if (persistentEntity.getVersionProperty() != null) {
@@ -90,6 +205,137 @@ class CouchbaseTemplateSupport implements ApplicationContextAware {
 		return accessor.getBean();
 	}
 
+	/**
+	 * Resolves the {@link N1qlJoin} properties of decoded entities. The entities are processed in batches of
+	 * {@link N1qlJoin#batchSize()}, so each join property costs one query per batch instead of one query per entity.
+	 * Lazy joins are given proxies which load the associated entities of the whole batch once any of them is touched.
+	 *
+	 * @param template the template to run the join queries with.
+	 * @param entities the decoded entities.
+	 * @param entityClass the class the entities were decoded into.
+	 * @return the entities with their joins resolved.
+	 */
+	public <T> Flux<T> resolveN1qlJoins(ReactiveCouchbaseTemplate template, Flux<T> entities, Class<T> entityClass) {
+		final CouchbasePersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(entityClass);
+		final List<CouchbasePersistentProperty> joinProperties = n1qlJoinProperties.computeIfAbsent(entityClass,
+				key -> findN1qlJoinProperties(persistentEntity));
+		if (joinProperties.isEmpty()) {
+			return entities;
+		}
+		int batchSize = Integer.MAX_VALUE;
+		for (CouchbasePersistentProperty prop : joinProperties) {
+			batchSize = Math.min(batchSize, Math.max(1, prop.findAnnotation(N1qlJoin.class).batchSize()));
+		}
+		return entities.buffer(batchSize)
+				.concatMap(batch -> resolveN1qlJoins(template, batch, persistentEntity, joinProperties));
+	}
+
+	private <T> Flux<T> resolveN1qlJoins(ReactiveCouchbaseTemplate template, List<T> batch,
+			CouchbasePersistentEntity<?> persistentEntity, List<CouchbasePersistentProperty> joinProperties) {
+		final List<ConvertingPropertyAccessor<T>> accessors = new ArrayList<>(batch.size());
+		final List<String> ids = new ArrayList<>(batch.size());
+		for (T entity : batch) {
+			ConvertingPropertyAccessor<T> accessor = getPropertyAccessor(entity);
+			accessors.add(accessor);
+			ids.add(accessor.getProperty(persistentEntity.getRequiredIdProperty(), String.class));
+		}
+
+		return Flux.fromIterable(joinProperties).concatMap(prop -> {
+			N1qlJoin definition = prop.findAnnotation(N1qlJoin.class);
+			N1qlJoinResolver.N1qlJoinResolverParameters parameters = new N1qlJoinResolver.N1qlJoinResolverParameters(
+					definition, null, persistentEntity.getTypeInformation(), prop.getTypeInformation().getActualType());
+			if (N1qlJoinResolver.isLazyJoin(definition)) {
+				N1qlJoinResolver.N1qlJoinBatch joinBatch = new N1qlJoinResolver.N1qlJoinBatch(ids,
+						lksIds -> findN1qlJoin(template, parameters, lksIds).block());
+				for (int i = 0; i < accessors.size(); i++) {
+					accessors.get(i).setProperty(prop, joinBatch.proxy(ids.get(i)));
+				}
+				return Mono.empty();
+			}
+			return findN1qlJoin(template, parameters, ids).doOnNext(resolved -> {
+				for (int i = 0; i < accessors.size(); i++) {
+					accessors.get(i).setProperty(prop, resolved.getOrDefault(ids.get(i), new ArrayList<>()));
+				}
+			});
+		}).thenMany(Flux.fromIterable(accessors).map(ConvertingPropertyAccessor::getBean));
+	}
+
+	private Mono<Map<String, List<Object>>> findN1qlJoin(ReactiveCouchbaseTemplate template,
+			N1qlJoinResolver.N1qlJoinResolverParameters parameters, Collection<String> lksIds) {
+		final String statement = N1qlJoinResolver.buildQuery(template, parameters);
+		final Class<?> associatedEntityClass = parameters.getAssociatedEntityTypeInfo().getType();
+		if (LOG.isDebugEnabled()) {
+			LOG.debug("Join query executed " + statement);
+		}
+		QueryOptions options = QueryOptions.queryOptions().parameters(
+				JsonObject.create().put(N1qlJoinResolver.LKS_IDS_PARAMETER, JsonArray.from(new ArrayList<>(lksIds))));
+		return template.getCouchbaseClientFactory().getCluster().reactive().query(statement, options)
+				.onErrorMap(throwable -> {
+					if (throwable instanceof RuntimeException) {
+						return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+					} else {
+						return throwable;
+					}
+				}).flatMapMany(result -> result.rowsAs(byte[].class)).collect(HashMap::new, (resolved, row) -> {
+					final CouchbaseDocument converted = new CouchbaseDocument();
+					translationService.decode(row, converted);
+					Object lksId = converted.remove(N1qlJoinResolver.SELECT_LKS_ID);
+					resolved.computeIfAbsent(String.valueOf(lksId), key -> new ArrayList<>())
+							.add(decodeRow(converted, true, associatedEntityClass));
+				});
+	}
+
+	private static List<CouchbasePersistentProperty> findN1qlJoinProperties(
+			CouchbasePersistentEntity<?> persistentEntity) {
+		final List<CouchbasePersistentProperty> joinProperties = new ArrayList<>();
+		if (persistentEntity.getIdProperty() != null) {
+			persistentEntity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) prop -> {
+				if (prop.isAnnotationPresent(N1qlJoin.class)) {
+					joinProperties.add(prop);
+				}
+			});
+		}
+		return Collections.unmodifiableList(joinProperties);
+	}
+
+	/**
+	 * Finds the fields changed by saving an entity annotated with {@link PartialUpdate}, from the snapshot of the
+	 * document it was read from or last saved as.
+	 *
+	 * @param entity the saved entity.
+	 * @param converted the document the entity is saved as.
+	 * @return the changed fields, {@literal null} if the whole document has to be written.
+	 * @since 4.2
+	 */
+	@Nullable
+	public DocumentSnapshots.Delta partialUpdate(final Object entity, final CouchbaseDocument converted) {
+		final CouchbasePersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(entity.getClass());
+		final PartialUpdate partialUpdate = persistentEntity.findAnnotation(PartialUpdate.class);
+		if (partialUpdate == null || persistentEntity.getVersionProperty() == null) {
+			return null;
+		}
+		return snapshots.diff(entity.getClass(), converted, getCas(entity), converter.getTypeKey(),
+				partialUpdate.maxChangedFields());
+	}
+
+	/**
+	 * Takes the snapshot of a saved entity annotated with {@link PartialUpdate}, so that its next save can be partial.
+	 *
+	 * @param entity the saved entity.
+	 * @param converted the document the entity was saved as.
+	 * @param cas the CAS of the stored document.
+	 * @param delta the changed fields if the save was partial, {@literal null} if the whole document was written.
+	 * @since 4.2
+	 */
+	public void snapshot(final Object entity, final CouchbaseDocument converted, final long cas,
+			@Nullable final DocumentSnapshots.Delta delta) {
+		if (delta != null) {
+			snapshots.record(delta, cas);
+		} else if (mappingContext.getRequiredPersistentEntity(entity.getClass()).isAnnotationPresent(PartialUpdate.class)) {
+			snapshots.record(entity.getClass(), converted, cas);
+		}
+	}
+
 	public Object applyUpdatedCas(final Object entity, final long cas) {
 		final ConvertingPropertyAccessor<Object> accessor = getPropertyAccessor(entity);
 		final CouchbasePersistentEntity<?> persistentEntity = mappingContext.getRequiredPersistentEntity(entity.getClass());
@@ -144,9 +390,12 @@ class CouchbaseTemplateSupport implements ApplicationContextAware {
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		this.applicationContext = applicationContext;
+		this.contextRunning = false;
 		if (entityCallbacks == null) {
 			setEntityCallbacks(EntityCallbacks.create(applicationContext));
+			entityCallbacksFromContext = true;
 		}
+		entityListeners.clear();
 	}
 
 	/**
@@ -162,21 +411,125 @@ class CouchbaseTemplateSupport implements ApplicationContextAware {
 	public void setEntityCallbacks(EntityCallbacks entityCallbacks) {
 		Assert.notNull(entityCallbacks, "EntityCallbacks must not be null!");
 		this.entityCallbacks = entityCallbacks;
+		this.entityCallbacksFromContext = false;
+		entityListeners.clear();
+	}
+
+	/**
+	 * Set the {@link Executor} to dispatch {@link AfterSaveEvent}s on, so that slow listeners do not hold up the thread
+	 * completing the operation, usually an I/O thread of the SDK. The executor should be bounded: when it rejects an
+	 * event, the event is published on the calling thread instead.
+	 *
+	 * @param afterEventExecutor the executor, {@literal null} to publish the events on the calling thread.
+	 * @since 4.2
+	 */
+	public void setAfterEventExecutor(@Nullable Executor afterEventExecutor) {
+		this.afterEventExecutor = afterEventExecutor;
+	}
+
+	/**
+	 * Returns which events and callbacks are handled for the given entity type. Until the application context is
+	 * running, its listeners may not all be registered yet, so all events are published and all callbacks run. Once it
+	 * is running, the listeners and callbacks are resolved once per entity type; listeners registered later are only
+	 * taken into account for entity types not written yet.
+	 *
+	 * @param entityType the type of the entity.
+	 * @return the handled events and callbacks.
+	 */
+	private EntityListeners listenersFor(final Class<?> entityType) {
+		if (!isContextRunning()) {
+			return EntityListeners.ALL;
+		}
+		return entityListeners.computeIfAbsent(entityType,
+				type -> new EntityListeners(hasEventListener(BeforeConvertEvent.class, type),
+						hasEventListener(BeforeSaveEvent.class, type), hasEventListener(AfterSaveEvent.class, type),
+						hasEntityCallback(BeforeConvertCallback.class, type), hasEntityCallback(AfterConvertCallback.class, type)));
+	}
+
+	private boolean isContextRunning() {
+		if (!contextRunning && applicationContext instanceof ConfigurableApplicationContext) {
+			try {
+				contextRunning = ((ConfigurableApplicationContext) applicationContext).isRunning();
+			} catch (IllegalStateException e) {
+				// not refreshed yet
+			}
+		}
+		return contextRunning;
+	}
+
+	private boolean hasEventListener(final Class<?> eventClass, final Class<?> entityType) {
+		ResolvableType eventType = ResolvableType.forClassWithGenerics(eventClass, entityType);
+		for (ApplicationContext context = applicationContext; context != null; context = context.getParent()) {
+			if (!(context instanceof AbstractApplicationContext)) {
+				return true;
+			}
+			for (String name : context.getBeanNamesForType(ApplicationListener.class, true, false)) {
+				if (!context.isSingleton(name)) {
+					return true;
+				}
+			}
+			for (ApplicationListener<?> listener : ((AbstractApplicationContext) context).getApplicationListeners()) {
+				GenericApplicationListener genericListener = listener instanceof GenericApplicationListener
+						? (GenericApplicationListener) listener
+						: new GenericApplicationListenerAdapter(listener);
+				if (genericListener.supportsEventType(eventType) && genericListener.supportsSourceType(entityType)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean hasEntityCallback(final Class<?> callbackType, final Class<?> entityType) {
+		if (entityCallbacks == null) {
+			return false;
+		}
+		if (!entityCallbacksFromContext) {
+			return true;
+		}
+		for (String name : BeanFactoryUtils.beanNamesForTypeIncludingAncestors(applicationContext, callbackType)) {
+			Class<?> beanType = applicationContext.getType(name);
+			if (beanType == null) {
+				return true;
+			}
+			Class<?> callbackEntityType = ResolvableType.forClass(beanType).as(callbackType).getGeneric(0).resolve();
+			if (callbackEntityType == null || callbackEntityType.isAssignableFrom(entityType)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	void maybeEmitEvent(CouchbaseMappingEvent<?> event) {
 		if (canPublishEvent()) {
 			try {
-				this.applicationContext.publishEvent(event);
+				OperationObservation.callback(() -> {
+					this.applicationContext.publishEvent(event);
+					return null;
+				});
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
-		} else {
+		} else if (!missingContextReported) {
+			missingContextReported = true;
 			LOG.info("maybeEmitEvent called, but CouchbaseTemplate not initialized with applicationContext");
 		}
 
 	}
 
+	private void maybeEmitAfterEvent(CouchbaseMappingEvent<?> event) {
+		Executor executor = afterEventExecutor;
+		if (executor == null) {
+			maybeEmitEvent(event);
+			return;
+		}
+		try {
+			executor.execute(() -> maybeEmitEvent(event));
+		} catch (RejectedExecutionException e) {
+			maybeEmitEvent(event);
+		}
+	}
+
 	private boolean canPublishEvent() {
 		return this.applicationContext != null;
 	}
@@ -184,7 +537,8 @@ class CouchbaseTemplateSupport implements ApplicationContextAware {
 	protected <T> T maybeCallBeforeConvert(T object, String collection) {
 		if (entityCallbacks != null) {
 			try {
-				return entityCallbacks.callback(BeforeConvertCallback.class, object, collection);
+				return OperationObservation
+						.callback(() -> entityCallbacks.callback(BeforeConvertCallback.class, object, collection));
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
@@ -194,9 +548,33 @@ class CouchbaseTemplateSupport implements ApplicationContextAware {
 		return object;
 	}
 
+	/**
+	 * The events and callbacks handled for an entity type.
+	 */
+	private static final class EntityListeners {
+
+		private static final EntityListeners ALL = new EntityListeners(true, true, true, true, true);
+
+		private final boolean beforeConvertEvent;
+		private final boolean beforeSaveEvent;
+		private final boolean afterSaveEvent;
+		private final boolean beforeConvertCallback;
+		private final boolean afterConvertCallback;
+
+		private EntityListeners(boolean beforeConvertEvent, boolean beforeSaveEvent, boolean afterSaveEvent,
+				boolean beforeConvertCallback, boolean afterConvertCallback) {
+			this.beforeConvertEvent = beforeConvertEvent;
+			this.beforeSaveEvent = beforeSaveEvent;
+			this.afterSaveEvent = afterSaveEvent;
+			this.beforeConvertCallback = beforeConvertCallback;
+			this.afterConvertCallback = afterConvertCallback;
+		}
+	}
+
 	protected <T> T maybeCallAfterConvert(T object, CouchbaseDocument document, String collection) {
 		if (null != entityCallbacks) {
-			return entityCallbacks.callback(AfterConvertCallback.class, object, document, collection);
+			return OperationObservation
+					.callback(() -> entityCallbacks.callback(AfterConvertCallback.class, object, document, collection));
 		} else {
 			LOG.info("maybeCallAfterConvert called, but CouchbaseTemplate not initialized with applicationContext");
 		}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.data.couchbase.core.convert.translation.TranslationService;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbaseList;
+import org.springframework.data.couchbase.core.mapping.PartialUpdate;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.DigestUtils;
+
+import com.couchbase.client.java.kv.MutateInSpec;
+
+/**
+ * Fingerprints of the documents that entities annotated with {@link PartialUpdate} were read from or last saved as,
+ * from which the fields changed by a save are found.
+ * <p>
+ * A snapshot is only used when the entity still has the CAS the document had when the snapshot was taken, so a
+ * snapshot never stands for anything but the stored document. The snapshots are held softly.
+ *
+ * @since 4.2
+ */
+final class DocumentSnapshots {
+
+	/**
+	 * The most paths a sub-document mutation may change.
+	 */
+	static final int MAX_SPECS = 16;
+
+	private final TranslationService translationService;
+	private final Map<String, Snapshot> snapshots = new ConcurrentReferenceHashMap<>(16,
+			ConcurrentReferenceHashMap.ReferenceType.SOFT);
+
+	DocumentSnapshots(final TranslationService translationService) {
+		this.translationService = translationService;
+	}
+
+	/**
+	 * Takes the snapshot of a document read or written.
+	 *
+	 * @param entityClass the type of the entity.
+	 * @param document the document, with its id.
+	 * @param cas the CAS of the stored document.
+	 */
+	void record(final Class<?> entityClass, final CouchbaseDocument document, final long cas) {
+		if (cas != 0 && document.getId() != null && !document.getId().isEmpty()) {
+			snapshots.put(key(entityClass, document.getId()), new Snapshot(cas, fingerprint(document)));
+		}
+	}
+
+	/**
+	 * Takes the snapshot of a document written by the given delta.
+	 *
+	 * @param delta the applied delta.
+	 * @param cas the CAS of the stored document.
+	 */
+	void record(final Delta delta, final long cas) {
+		snapshots.put(delta.key, new Snapshot(cas, delta.fields));
+	}
+
+	/**
+	 * Finds the fields of the given document that differ from the snapshot of the stored document.
+	 *
+	 * @param entityClass the type of the entity.
+	 * @param document the document the entity is saved as.
+	 * @param cas the CAS of the entity.
+	 * @param typeKey the field holding the type of the entity.
+	 * @param maxChangedFields the most fields a delta may change.
+	 * @return the delta, {@literal null} if the whole document has to be written.
+	 */
+	@Nullable
+	Delta diff(final Class<?> entityClass, final CouchbaseDocument document, final long cas, final String typeKey,
+			final int maxChangedFields) {
+		String key = key(entityClass, document.getId());
+		Snapshot snapshot = cas == 0 ? null : snapshots.get(key);
+		if (snapshot == null || snapshot.cas != cas) {
+			return null;
+		}
+		Map<String, byte[]> fields = fingerprint(document);
+		Map<String, Object> values = document.exportView();
+		List<MutateInSpec> specs = new ArrayList<>();
+		for (Map.Entry<String, byte[]> field : fields.entrySet()) {
+			if (!Arrays.equals(field.getValue(), snapshot.fields.get(field.getKey()))) {
+				if (isEscapedInPath(field.getKey())) {
+					return null;
+				}
+				specs.add(MutateInSpec.upsert(field.getKey(), values.get(field.getKey())));
+			}
+		}
+		for (String field : snapshot.fields.keySet()) {
+			if (!fields.containsKey(field)) {
+				if (isEscapedInPath(field)) {
+					return null;
+				}
+				specs.add(MutateInSpec.remove(field));
+			}
+		}
+		if (specs.isEmpty() && document.containsKey(typeKey)) {
+			// nothing changed, but the save still has to check the CAS and apply the expiry and durability
+			specs.add(MutateInSpec.upsert(typeKey, document.get(typeKey)));
+		}
+		if (specs.isEmpty() || specs.size() > Math.min(maxChangedFields, MAX_SPECS)) {
+			return null;
+		}
+		return new Delta(key, fields, specs);
+	}
+
+	/**
+	 * Fingerprints each top-level field by the digest of its JSON, with the keys of nested objects sorted: the order of
+	 * the keys of a {@link CouchbaseDocument} depends on the capacity it was created with, which differs between a
+	 * decoded and a converted document.
+	 */
+	private Map<String, byte[]> fingerprint(final CouchbaseDocument document) {
+		Map<String, byte[]> fields = new HashMap<>(document.size() * 2);
+		for (Map.Entry<String, Object> entry : document.getContent().entrySet()) {
+			CouchbaseDocument field = new CouchbaseDocument(null, CouchbaseDocument.DEFAULT_EXPIRATION_TIME, 1);
+			field.putUnchecked(entry.getKey(), sorted(entry.getValue()));
+			fields.put(entry.getKey(), DigestUtils.md5Digest(translationService.encodeToBytes(field)));
+		}
+		return fields;
+	}
+
+	/**
+	 * Copies nested objects into maps sorted by key, keeping the order of arrays.
+	 */
+	private static Object sorted(final Object value) {
+		if (value instanceof CouchbaseDocument) {
+			return sorted(((CouchbaseDocument) value).getContent());
+		}
+		if (value instanceof Map) {
+			Map<String, Object> sorted = new TreeMap<>();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				sorted.put(String.valueOf(entry.getKey()), sorted(entry.getValue()));
+			}
+			return sorted;
+		}
+		if (value instanceof CouchbaseList) {
+			CouchbaseList list = (CouchbaseList) value;
+			List<Object> sorted = new ArrayList<>(list.size());
+			for (int i = 0; i < list.size(); i++) {
+				sorted.add(sorted(list.get(i)));
+			}
+			return sorted;
+		}
+		return value;
+	}
+
+	/**
+	 * @return true if the name of the field is not a sub-document path by itself.
+	 */
+	private static boolean isEscapedInPath(final String field) {
+		return field.indexOf('.') >= 0 || field.indexOf('[') >= 0 || field.indexOf('`') >= 0;
+	}
+
+	private static String key(final Class<?> entityClass, final String id) {
+		return entityClass.getName() + ':' + id;
+	}
+
+	/**
+	 * The changed fields of a document, and the fingerprints of the document once they are written.
+	 */
+	static final class Delta {
+
+		private final String key;
+		private final Map<String, byte[]> fields;
+		private final List<MutateInSpec> specs;
+
+		private Delta(final String key, final Map<String, byte[]> fields, final List<MutateInSpec> specs) {
+			this.key = key;
+			this.fields = fields;
+			this.specs = specs;
+		}
+
+		List<MutateInSpec> getSpecs() {
+			return specs;
+		}
+
+	}
+
+	private static final class Snapshot {
+
+		private final long cas;
+		private final Map<String, byte[]> fields;
+
+		private Snapshot(final long cas, final Map<String, byte[]> fields) {
+			this.cas = cas;
+			this.fields = fields;
+		}
+
+	}
+
+}
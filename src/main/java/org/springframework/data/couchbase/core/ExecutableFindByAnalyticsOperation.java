@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.core;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
@@ -89,6 +90,27 @@ public interface ExecutableFindByAnalyticsOperation {
 		 */
 		Stream<T> stream();
 
+		/**
+		 * Stream all matching elements, keeping at most {@code batchSize} decoded rows ahead of the consumer. The query
+		 * stays open until the stream is exhausted or closed, so the stream should be consumed in a try-with-resources
+		 * block; closing it early cancels the remaining rows.
+		 *
+		 * @param batchSize the number of rows requested at a time, must be positive.
+		 * @return a {@link Stream} of results. Never {@literal null}.
+		 * @since 4.2
+		 */
+		Stream<T> stream(int batchSize);
+
+		/**
+		 * Hand all matching elements to the consumer in batches of at most {@code batchSize}, holding no more than the
+		 * current and the next batch in memory. If the consumer throws, the remaining rows are cancelled.
+		 *
+		 * @param batchSize the maximum number of elements per batch, must be positive.
+		 * @param batchConsumer the consumer of each batch, must not be {@literal null}.
+		 * @since 4.2
+		 */
+		void forEach(int batchSize, Consumer<? super List<T>> batchConsumer);
+
 		/**
 		 * Get the number of matching elements.
 		 *
@@ -16,10 +16,12 @@
 package org.springframework.data.couchbase.core;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.springframework.data.couchbase.core.ReactiveFindByAnalyticsOperationSupport.ReactiveFindByAnalyticsSupport;
 import org.springframework.data.couchbase.core.query.AnalyticsQuery;
+import org.springframework.util.Assert;
 
 import com.couchbase.client.java.analytics.AnalyticsScanConsistency;
 
@@ -93,6 +95,21 @@ public class ExecutableFindByAnalyticsOperationSupport implements ExecutableFind
 			return reactiveSupport.all().toStream();
 		}
 
+		@Override
+		public Stream<T> stream(final int batchSize) {
+			Assert.isTrue(batchSize > 0, "Batch size must be positive!");
+			return reactiveSupport.all().toStream(batchSize);
+		}
+
+		@Override
+		public void forEach(final int batchSize, final Consumer<? super List<T>> batchConsumer) {
+			Assert.isTrue(batchSize > 0, "Batch size must be positive!");
+			Assert.notNull(batchConsumer, "Batch consumer must not be null!");
+			try (Stream<List<T>> batches = reactiveSupport.all().buffer(batchSize).toStream(1)) {
+				batches.forEach(batchConsumer);
+			}
+		}
+
 		@Override
 		public long count() {
 			return reactiveSupport.count().block();
@@ -100,7 +117,7 @@ public class ExecutableFindByAnalyticsOperationSupport implements ExecutableFind
 
 		@Override
 		public boolean exists() {
-			return count() > 0;
+			return reactiveSupport.exists().block();
 		}
 
 	}
@@ -16,6 +16,7 @@
 package org.springframework.data.couchbase.core;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.couchbase.core.support.OneAndAllId;
 import org.springframework.data.couchbase.core.support.WithCollection;
@@ -48,6 +49,27 @@ public interface ExecutableFindByIdOperation {
 		 */
 		Collection<? extends T> all(Collection<String> ids);
 
+		/**
+		 * Finds a list of documents based on the given IDs, keeping as many requests in flight as the options allow.
+		 *
+		 * @param ids the document ID ids.
+		 * @param options controls concurrency and ordering of the requests.
+		 * @return the list of found entities.
+		 * @since 4.2
+		 */
+		Collection<? extends T> all(Collection<String> ids, BulkOptions options);
+
+		/**
+		 * Looks up the documents based on the given IDs, keeping as many requests in flight as the options allow, and
+		 * reports the outcome of every ID individually instead of aborting on the first failure.
+		 *
+		 * @param ids the document ID ids.
+		 * @param options controls concurrency and ordering of the requests.
+		 * @return one {@link BulkResult} per ID, with an empty value if the document does not exist.
+		 * @since 4.2
+		 */
+		List<BulkResult<T>> bulk(Collection<String> ids, BulkOptions options);
+
 	}
 
 	interface FindByIdWithCollection<T> extends TerminatingFindById<T>, WithCollection<T> {
@@ -72,6 +94,18 @@ public interface ExecutableFindByIdOperation {
 
 	}
 
-	interface ExecutableFindById<T> extends FindByIdWithProjection<T> {}
+	interface FindByIdWithHedging<T> extends FindByIdWithProjection<T> {
+
+		/**
+		 * Hedges the reads against a slow active node with replica reads, overriding the policy of the template.
+		 *
+		 * @param hedging the hedged read policy.
+		 * @since 4.2
+		 */
+		FindByIdWithProjection<T> withHedging(HedgedReadPolicy hedging);
+
+	}
+
+	interface ExecutableFindById<T> extends FindByIdWithHedging<T> {}
 
 }
@@ -32,7 +32,7 @@ public class ExecutableFindByIdOperationSupport implements ExecutableFindByIdOpe
 
 	@Override
 	public <T> ExecutableFindById<T> findById(Class<T> domainType) {
-		return new ExecutableFindByIdSupport<>(template, domainType, null, null);
+		return new ExecutableFindByIdSupport<>(template, domainType, null, null, null);
 	}
 
 	static class ExecutableFindByIdSupport<T> implements ExecutableFindById<T> {
@@ -41,14 +41,18 @@ public class ExecutableFindByIdOperationSupport implements ExecutableFindByIdOpe
 		private final Class<T> domainType;
 		private final String collection;
 		private final List<String> fields;
+		private final HedgedReadPolicy hedging;
 		private final ReactiveFindByIdSupport<T> reactiveSupport;
 
-		ExecutableFindByIdSupport(CouchbaseTemplate template, Class<T> domainType, String collection, List<String> fields) {
+		ExecutableFindByIdSupport(CouchbaseTemplate template, Class<T> domainType, String collection, List<String> fields,
+				HedgedReadPolicy hedging) {
 			this.template = template;
 			this.domainType = domainType;
 			this.collection = collection;
 			this.fields = fields;
-			this.reactiveSupport = new ReactiveFindByIdSupport<>(template.reactive(), domainType, collection, fields);
+			this.hedging = hedging;
+			this.reactiveSupport = new ReactiveFindByIdSupport<>(template.reactive(), domainType, collection, fields,
+					hedging);
 		}
 
 		@Override
@@ -61,16 +65,32 @@ public class ExecutableFindByIdOperationSupport implements ExecutableFindByIdOpe
 			return reactiveSupport.all(ids).collectList().block();
 		}
 
+		@Override
+		public Collection<? extends T> all(final Collection<String> ids, final BulkOptions options) {
+			return reactiveSupport.all(ids, options).collectList().block();
+		}
+
+		@Override
+		public List<BulkResult<T>> bulk(final Collection<String> ids, final BulkOptions options) {
+			return reactiveSupport.bulk(ids, options).collectList().block();
+		}
+
 		@Override
 		public TerminatingFindById<T> inCollection(final String collection) {
 			Assert.hasText(collection, "Collection must not be null nor empty.");
-			return new ExecutableFindByIdSupport<>(template, domainType, collection, fields);
+			return new ExecutableFindByIdSupport<>(template, domainType, collection, fields, hedging);
+		}
+
+		@Override
+		public FindByIdWithProjection<T> withHedging(final HedgedReadPolicy hedging) {
+			Assert.notNull(hedging, "HedgedReadPolicy must not be null!");
+			return new ExecutableFindByIdSupport<>(template, domainType, collection, fields, hedging);
 		}
 
 		@Override
 		public FindByIdWithCollection<T> project(String... fields) {
 			Assert.notEmpty(fields, "Fields must not be null nor empty.");
-			return new ExecutableFindByIdSupport<>(template, domainType, collection, Arrays.asList(fields));
+			return new ExecutableFindByIdSupport<>(template, domainType, collection, Arrays.asList(fields), hedging);
 		}
 	}
 
@@ -16,6 +16,7 @@
 package org.springframework.data.couchbase.core;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.springframework.data.couchbase.core.ReactiveFindByQueryOperationSupport.ReactiveFindByQuerySupport;
@@ -137,6 +138,21 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 			return reactiveSupport.all().toStream();
 		}
 
+		@Override
+		public Stream<T> stream(final int batchSize) {
+			Assert.isTrue(batchSize > 0, "Batch size must be positive!");
+			return reactiveSupport.all().toStream(batchSize);
+		}
+
+		@Override
+		public void forEach(final int batchSize, final Consumer<? super List<T>> batchConsumer) {
+			Assert.isTrue(batchSize > 0, "Batch size must be positive!");
+			Assert.notNull(batchConsumer, "Batch consumer must not be null!");
+			try (Stream<List<T>> batches = reactiveSupport.all().buffer(batchSize).toStream(1)) {
+				batches.forEach(batchConsumer);
+			}
+		}
+
 		@Override
 		public long count() {
 			return reactiveSupport.count().block();
@@ -144,7 +160,7 @@ public class ExecutableFindByQueryOperationSupport implements ExecutableFindByQu
 
 		@Override
 		public boolean exists() {
-			return count() > 0;
+			return reactiveSupport.exists().block();
 		}
 	}
 
@@ -71,6 +71,16 @@ public class ExecutableRemoveByIdOperationSupport implements ExecutableRemoveByI
 			return reactiveRemoveByIdSupport.all(ids).collectList().block();
 		}
 
+		@Override
+		public List<RemoveResult> all(final Collection<String> ids, final BulkOptions options) {
+			return reactiveRemoveByIdSupport.all(ids, options).collectList().block();
+		}
+
+		@Override
+		public List<BulkResult<RemoveResult>> bulk(final Collection<String> ids, final BulkOptions options) {
+			return reactiveRemoveByIdSupport.bulk(ids, options).collectList().block();
+		}
+
 		@Override
 		public TerminatingRemoveById inCollection(final String collection) {
 			Assert.hasText(collection, "Collection must not be null nor empty.");
@@ -33,6 +33,23 @@ public interface ExecutableRemoveByQueryOperation {
 
 		List<RemoveResult> all();
 
+		/**
+		 * Remove the matching documents without returning them.
+		 *
+		 * @return the number of documents removed.
+		 * @since 4.2
+		 */
+		long countRemoved();
+
+		/**
+		 * Remove the matching documents in batches, without returning them.
+		 *
+		 * @param options how the documents are removed.
+		 * @return the number of documents removed.
+		 * @since 4.2
+		 */
+		long countRemoved(BatchRemoveOptions options);
+
 	}
 
 	interface RemoveByQueryWithQuery<T> extends TerminatingRemoveByQuery<T>, WithQuery<T> {
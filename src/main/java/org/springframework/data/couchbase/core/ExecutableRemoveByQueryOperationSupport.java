@@ -64,6 +64,16 @@ public class ExecutableRemoveByQueryOperationSupport implements ExecutableRemove
 			return reactiveSupport.all().collectList().block();
 		}
 
+		@Override
+		public long countRemoved() {
+			return reactiveSupport.countRemoved().block();
+		}
+
+		@Override
+		public long countRemoved(final BatchRemoveOptions options) {
+			return reactiveSupport.countRemoved(options).block();
+		}
+
 		@Override
 		public TerminatingRemoveByQuery<T> matching(final Query query) {
 			return new ExecutableRemoveByQuerySupport<>(template, domainType, query, scanConsistency, collection);
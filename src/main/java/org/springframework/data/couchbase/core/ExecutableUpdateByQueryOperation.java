@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.List;
+
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.QueryCriteriaDefinition;
+import org.springframework.data.couchbase.core.query.Update;
+import org.springframework.data.couchbase.core.support.WithCollection;
+import org.springframework.data.couchbase.core.support.WithConsistency;
+import org.springframework.data.couchbase.core.support.WithQuery;
+
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * Updates the documents matching a query on the server with a N1QL {@code UPDATE} statement, without loading them.
+ *
+ * @since 4.2
+ */
+public interface ExecutableUpdateByQueryOperation {
+
+	<T> ExecutableUpdateByQuery<T> updateByQuery(Class<T> domainType);
+
+	interface TerminatingUpdateByQuery<T> {
+
+		/**
+		 * Update the matching documents.
+		 *
+		 * @return the updated documents.
+		 */
+		List<T> all();
+
+		/**
+		 * Update the matching documents without returning them.
+		 *
+		 * @return the number of documents updated.
+		 */
+		long countUpdated();
+
+	}
+
+	interface UpdateByQueryWithProjection<T> extends TerminatingUpdateByQuery<T> {
+
+		/**
+		 * Return the updated documents as the given type, which may be a projection of the domain type.
+		 *
+		 * @param returnType the type of the returned documents.
+		 * @return the operation.
+		 */
+		<R> TerminatingUpdateByQuery<R> as(Class<R> returnType);
+
+	}
+
+	interface UpdateByQueryWithUpdate<T> {
+
+		UpdateByQueryWithProjection<T> apply(Update update);
+
+	}
+
+	interface UpdateByQueryWithQuery<T> extends UpdateByQueryWithUpdate<T>, WithQuery<T> {
+
+		UpdateByQueryWithUpdate<T> matching(Query query);
+
+		default UpdateByQueryWithUpdate<T> matching(QueryCriteriaDefinition criteria) {
+			return matching(Query.query(criteria));
+		}
+
+	}
+
+	interface UpdateByQueryInCollection<T> extends UpdateByQueryWithQuery<T>, WithCollection<T> {
+
+		UpdateByQueryWithQuery<T> inCollection(String collection);
+
+	}
+
+	interface UpdateByQueryWithConsistency<T> extends UpdateByQueryInCollection<T>, WithConsistency<T> {
+
+		UpdateByQueryInCollection<T> withConsistency(QueryScanConsistency scanConsistency);
+
+	}
+
+	interface ExecutableUpdateByQuery<T> extends UpdateByQueryWithConsistency<T> {}
+
+}
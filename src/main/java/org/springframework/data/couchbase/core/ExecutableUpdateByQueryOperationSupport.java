@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.util.List;
+
+import org.springframework.data.couchbase.core.ReactiveUpdateByQueryOperationSupport.ReactiveUpdateByQuerySupport;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.Update;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+public class ExecutableUpdateByQueryOperationSupport implements ExecutableUpdateByQueryOperation {
+
+	private final CouchbaseTemplate template;
+
+	public ExecutableUpdateByQueryOperationSupport(final CouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ExecutableUpdateByQuery<T> updateByQuery(Class<T> domainType) {
+		return new ExecutableUpdateByQuerySupport<>(template, domainType, domainType, null, null,
+				QueryScanConsistency.NOT_BOUNDED, null);
+	}
+
+	static class ExecutableUpdateByQuerySupport<T>
+			implements ExecutableUpdateByQuery<T>, UpdateByQueryWithProjection<T> {
+
+		private final CouchbaseTemplate template;
+		private final Class<?> domainType;
+		private final Class<T> returnType;
+		private final Query query;
+		private final Update update;
+		private final ReactiveUpdateByQuerySupport<T> reactiveSupport;
+		private final QueryScanConsistency scanConsistency;
+		private final String collection;
+
+		ExecutableUpdateByQuerySupport(final CouchbaseTemplate template, final Class<?> domainType,
+				final Class<T> returnType, final Query query, final Update update,
+				final QueryScanConsistency scanConsistency, final String collection) {
+			this.template = template;
+			this.domainType = domainType;
+			this.returnType = returnType;
+			this.query = query;
+			this.update = update;
+			this.reactiveSupport = new ReactiveUpdateByQuerySupport<>(template.reactive(), domainType, returnType, query,
+					update, scanConsistency, collection);
+			this.scanConsistency = scanConsistency;
+			this.collection = collection;
+		}
+
+		@Override
+		public List<T> all() {
+			return reactiveSupport.all().collectList().block();
+		}
+
+		@Override
+		public long countUpdated() {
+			return reactiveSupport.countUpdated().block();
+		}
+
+		@Override
+		public <R> TerminatingUpdateByQuery<R> as(final Class<R> returnType) {
+			Assert.notNull(returnType, "returnType must not be null!");
+			return new ExecutableUpdateByQuerySupport<>(template, domainType, returnType, query, update, scanConsistency,
+					collection);
+		}
+
+		@Override
+		public UpdateByQueryWithProjection<T> apply(final Update update) {
+			Assert.notNull(update, "Update must not be null!");
+			return new ExecutableUpdateByQuerySupport<>(template, domainType, returnType, query, update, scanConsistency,
+					collection);
+		}
+
+		@Override
+		public UpdateByQueryWithUpdate<T> matching(final Query query) {
+			return new ExecutableUpdateByQuerySupport<>(template, domainType, returnType, query, update, scanConsistency,
+					collection);
+		}
+
+		@Override
+		public UpdateByQueryWithQuery<T> inCollection(final String collection) {
+			Assert.hasText(collection, "Collection must not be null nor empty.");
+			return new ExecutableUpdateByQuerySupport<>(template, domainType, returnType, query, update, scanConsistency,
+					collection);
+		}
+
+		@Override
+		public UpdateByQueryInCollection<T> withConsistency(final QueryScanConsistency scanConsistency) {
+			return new ExecutableUpdateByQuerySupport<>(template, domainType, returnType, query, update, scanConsistency,
+					collection);
+		}
+
+	}
+
+}
@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.core;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.couchbase.core.support.OneAndAllEntity;
 import org.springframework.data.couchbase.core.support.WithCollection;
@@ -37,6 +38,27 @@ public interface ExecutableUpsertByIdOperation {
 		@Override
 		Collection<? extends T> all(Collection<? extends T> objects);
 
+		/**
+		 * Stores the entities, keeping as many requests in flight as the options allow.
+		 *
+		 * @param objects the entities to store.
+		 * @param options controls concurrency and ordering of the requests.
+		 * @return the stored entities; the first failure aborts the operation.
+		 * @since 4.2
+		 */
+		Collection<? extends T> all(Collection<? extends T> objects, BulkOptions options);
+
+		/**
+		 * Stores the entities, keeping as many requests in flight as the options allow, and reports the outcome of
+		 * every entity individually instead of aborting on the first failure.
+		 *
+		 * @param objects the entities to store.
+		 * @param options controls concurrency and ordering of the requests.
+		 * @return one {@link BulkResult} per entity.
+		 * @since 4.2
+		 */
+		List<BulkResult<T>> bulk(Collection<? extends T> objects, BulkOptions options);
+
 	}
 
 	interface UpsertByIdWithCollection<T> extends TerminatingUpsertById<T>, WithCollection<T> {
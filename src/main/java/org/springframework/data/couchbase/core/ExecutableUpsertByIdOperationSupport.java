@@ -17,6 +17,7 @@ package org.springframework.data.couchbase.core;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.util.Assert;
 import org.springframework.data.couchbase.core.ReactiveUpsertByIdOperationSupport.ReactiveUpsertByIdSupport;
@@ -75,6 +76,16 @@ public class ExecutableUpsertByIdOperationSupport implements ExecutableUpsertByI
 			return reactiveSupport.all(objects).collectList().block();
 		}
 
+		@Override
+		public Collection<? extends T> all(Collection<? extends T> objects, BulkOptions options) {
+			return reactiveSupport.all(objects, options).collectList().block();
+		}
+
+		@Override
+		public List<BulkResult<T>> bulk(Collection<? extends T> objects, BulkOptions options) {
+			return reactiveSupport.bulk(objects, options).collectList().block();
+		}
+
 		@Override
 		public TerminatingUpsertById<T> inCollection(final String collection) {
 			Assert.hasText(collection, "Collection must not be null nor empty.");
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Hedges reads by id against a slow active node: when the active copy of a document has not been returned within the
+ * hedge delay, a replica read is sent as well and the first copy found is used. The delay is either fixed or follows
+ * a percentile of the latencies of the active reads observed so far.
+ * <p>
+ * Replica reads may return stale documents. To keep hedging from multiplying the load of the cluster, the hedges are
+ * capped by a budget: a fraction of the reads, {@value #DEFAULT_BUDGET} by default, plus a small burst allowance.
+ * <p>
+ * A policy keeps its latency window and counters across reads, so share one instance per use case.
+ *
+ * @since 4.2
+ * @see ReactiveCouchbaseTemplate#setHedgedReadPolicy(HedgedReadPolicy)
+ */
+public final class HedgedReadPolicy {
+
+	/**
+	 * The default fraction of reads that may be hedged.
+	 */
+	public static final double DEFAULT_BUDGET = 0.1;
+
+	private static final int WINDOW_SIZE = 1024;
+	private static final int RECOMPUTE_INTERVAL = 64;
+	private static final long TOKEN = 1_000_000;
+	private static final long MAX_TOKENS = 10 * TOKEN;
+
+	private final long fixedDelayNanos;
+	private final double percentile;
+	private final double budget;
+	private final long tokensPerRead;
+
+	private final AtomicLong tokens = new AtomicLong(MAX_TOKENS);
+	private final long[] window = new long[WINDOW_SIZE];
+	private long samples;
+	private volatile long percentileDelayNanos;
+
+	private final LongAdder reads = new LongAdder();
+	private final LongAdder hedges = new LongAdder();
+	private final LongAdder hedgesWon = new LongAdder();
+	private final LongAdder hedgesDenied = new LongAdder();
+
+	private HedgedReadPolicy(final long fixedDelayNanos, final double percentile, final double budget) {
+		this.fixedDelayNanos = fixedDelayNanos;
+		this.percentile = percentile;
+		this.budget = budget;
+		this.tokensPerRead = (long) (budget * TOKEN);
+		this.percentileDelayNanos = fixedDelayNanos;
+	}
+
+	/**
+	 * Hedges the reads that have not completed after the given delay.
+	 *
+	 * @param delay the delay after which a replica read is sent.
+	 * @return the policy.
+	 */
+	public static HedgedReadPolicy afterDelay(final Duration delay) {
+		Assert.notNull(delay, "Delay must not be null!");
+		Assert.isTrue(!delay.isNegative(), "Delay must not be negative!");
+		return new HedgedReadPolicy(delay.toNanos(), 0, DEFAULT_BUDGET);
+	}
+
+	/**
+	 * Hedges the reads that take longer than the given percentile of the active reads, such as {@literal 0.95} for the
+	 * reads slower than 95% of the others. Until enough reads have been observed, the initial delay is used.
+	 *
+	 * @param percentile the percentile, between 0 and 1 exclusive.
+	 * @param initialDelay the delay used until the percentile is known.
+	 * @return the policy.
+	 */
+	public static HedgedReadPolicy atPercentile(final double percentile, final Duration initialDelay) {
+		Assert.isTrue(percentile > 0 && percentile < 1, "Percentile must be between 0 and 1 exclusive!");
+		Assert.notNull(initialDelay, "Initial delay must not be null!");
+		Assert.isTrue(!initialDelay.isNegative(), "Initial delay must not be negative!");
+		return new HedgedReadPolicy(initialDelay.toNanos(), percentile, DEFAULT_BUDGET);
+	}
+
+	/**
+	 * Caps the hedges at the given fraction of the reads.
+	 *
+	 * @param budget the fraction of the reads that may be hedged, between 0 and 1.
+	 * @return a new policy with the given budget.
+	 */
+	public HedgedReadPolicy withBudget(final double budget) {
+		Assert.isTrue(budget >= 0 && budget <= 1, "Budget must be between 0 and 1!");
+		return new HedgedReadPolicy(fixedDelayNanos, percentile, budget);
+	}
+
+	public double getBudget() {
+		return budget;
+	}
+
+	/**
+	 * @return the current hedge delay.
+	 */
+	public Duration getDelay() {
+		return Duration.ofNanos(percentile > 0 ? percentileDelayNanos : fixedDelayNanos);
+	}
+
+	/**
+	 * @return the number of reads run with this policy.
+	 */
+	public long getReads() {
+		return reads.sum();
+	}
+
+	/**
+	 * @return the number of replica reads sent.
+	 */
+	public long getHedges() {
+		return hedges.sum();
+	}
+
+	/**
+	 * @return the number of reads answered by the replica read.
+	 */
+	public long getHedgesWon() {
+		return hedgesWon.sum();
+	}
+
+	/**
+	 * @return the number of replica reads not sent because the budget was exhausted.
+	 */
+	public long getHedgesDenied() {
+		return hedgesDenied.sum();
+	}
+
+	/**
+	 * Runs the active read, and the replica read as well if the active one has not completed within the delay. The first
+	 * document found is emitted; an empty or failed replica read defers to the active one.
+	 *
+	 * @param active the read of the active copy.
+	 * @param replica the read of any replica.
+	 * @return the first document found.
+	 */
+	<T> Mono<T> hedge(final Mono<T> active, final Mono<? extends T> replica) {
+		return Mono.defer(() -> {
+			reads.increment();
+			refill();
+			final long start = System.nanoTime();
+			final Duration delay = getDelay();
+			Mono<T> timedActive = active.doOnSuccess(value -> recordLatency(System.nanoTime() - start))
+					.doFinally(signal -> {
+						// an active read outrun by the replica read took at least as long as it ran, so it is recorded at that
+						// lower bound; leaving it out would only keep the fast reads and shrink the delay
+						long elapsed = System.nanoTime() - start;
+						if (signal == SignalType.CANCEL && elapsed >= delay.toNanos()) {
+							recordLatency(elapsed);
+						}
+					});
+			Mono<T> hedged = Mono.delay(delay).flatMap(tick -> {
+				if (!tryAcquire()) {
+					hedgesDenied.increment();
+					return Mono.never();
+				}
+				hedges.increment();
+				return replica.<T> map(value -> value).onErrorResume(throwable -> Mono.never())
+						.switchIfEmpty(Mono.never()).doOnNext(value -> hedgesWon.increment());
+			});
+			return Mono.firstWithSignal(timedActive, hedged);
+		});
+	}
+
+	private void refill() {
+		long current;
+		do {
+			current = tokens.get();
+			if (current >= MAX_TOKENS) {
+				return;
+			}
+		} while (!tokens.compareAndSet(current, Math.min(MAX_TOKENS, current + tokensPerRead)));
+	}
+
+	private boolean tryAcquire() {
+		long current;
+		do {
+			current = tokens.get();
+			if (current < TOKEN) {
+				return false;
+			}
+		} while (!tokens.compareAndSet(current, current - TOKEN));
+		return true;
+	}
+
+	private void recordLatency(final long nanos) {
+		if (percentile <= 0) {
+			return;
+		}
+		synchronized (window) {
+			window[(int) (samples++ % WINDOW_SIZE)] = nanos;
+			if (samples >= RECOMPUTE_INTERVAL && samples % RECOMPUTE_INTERVAL == 0) {
+				long[] sorted = Arrays.copyOf(window, (int) Math.min(samples, WINDOW_SIZE));
+				Arrays.sort(sorted);
+				percentileDelayNanos = sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)];
+			}
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link OperationMetrics} publishing to a Micrometer {@link MeterRegistry}. Micrometer is an optional dependency and
+ * must be on the class path to use this class. Every sample is tagged with the {@literal operation}, the
+ * {@literal entity} type and the {@literal collection}, and records:
+ * <ul>
+ * <li>{@literal <prefix>.operation}: a timer of the whole operation, additionally tagged with its {@literal outcome}
+ * and {@literal exception}. Its count is the number of operations.</li>
+ * <li>{@literal <prefix>.operation.phase}: a timer per {@literal phase}, one of {@literal encode},
+ * {@literal round-trip}, {@literal decode} and {@literal callbacks}.</li>
+ * <li>{@literal <prefix>.operation.rows} and {@literal <prefix>.operation.bytes}: the rows and bytes returned by
+ * queries.</li>
+ * </ul>
+ *
+ * @since 4.2
+ */
+public class MicrometerOperationMetrics implements OperationMetrics {
+
+	/**
+	 * The default prefix of the meter names.
+	 */
+	public static final String DEFAULT_PREFIX = "spring.data.couchbase";
+
+	private static final String NONE = "none";
+
+	private final MeterRegistry registry;
+	private final String operationTimer;
+	private final String phaseTimer;
+	private final String rowsSummary;
+	private final String bytesSummary;
+
+	public MicrometerOperationMetrics(final MeterRegistry registry) {
+		this(registry, DEFAULT_PREFIX);
+	}
+
+	/**
+	 * Creates metrics publishing meters named after the given prefix.
+	 *
+	 * @param registry the registry to publish to.
+	 * @param prefix the prefix of the meter names.
+	 */
+	public MicrometerOperationMetrics(final MeterRegistry registry, final String prefix) {
+		Assert.notNull(registry, "MeterRegistry must not be null!");
+		Assert.hasText(prefix, "Prefix must not be null nor empty!");
+		this.registry = registry;
+		this.operationTimer = prefix + ".operation";
+		this.phaseTimer = prefix + ".operation.phase";
+		this.rowsSummary = prefix + ".operation.rows";
+		this.bytesSummary = prefix + ".operation.bytes";
+	}
+
+	@Override
+	public void record(final OperationSample sample) {
+		Tags tags = Tags.of("operation", sample.getOperation(), //
+				"entity", sample.getDomainType() == null ? NONE : sample.getDomainType().getName(), //
+				"collection", sample.getCollection() == null ? NONE : sample.getCollection());
+
+		registry.timer(operationTimer, tags.and("outcome", sample.getOutcome().name().toLowerCase(Locale.ROOT), //
+				"exception", sample.getError() == null ? NONE : sample.getError().getClass().getSimpleName()))
+				.record(sample.getTotalNanos(), TimeUnit.NANOSECONDS);
+
+		registry.timer(phaseTimer, tags.and("phase", "encode")).record(sample.getEncodeNanos(), TimeUnit.NANOSECONDS);
+		registry.timer(phaseTimer, tags.and("phase", "round-trip")).record(sample.getRoundTripNanos(),
+				TimeUnit.NANOSECONDS);
+		registry.timer(phaseTimer, tags.and("phase", "decode")).record(sample.getDecodeNanos(), TimeUnit.NANOSECONDS);
+		registry.timer(phaseTimer, tags.and("phase", "callbacks")).record(sample.getCallbackNanos(),
+				TimeUnit.NANOSECONDS);
+
+		if (sample.getRows() >= 0) {
+			DistributionSummary.builder(rowsSummary).tags(tags).baseUnit("rows").register(registry)
+					.record(sample.getRows());
+			DistributionSummary.builder(bytesSummary).tags(tags).baseUnit("bytes").register(registry)
+					.record(sample.getBytes());
+		}
+	}
+}
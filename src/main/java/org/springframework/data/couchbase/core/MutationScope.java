@@ -0,0 +1,193 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.core.msg.kv.MutationToken;
+import com.couchbase.client.java.kv.MutationResult;
+import com.couchbase.client.java.kv.MutationState;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * Collects the {@link MutationToken}s of the writes of a unit of work, such as a request, so that the queries of the
+ * same unit of work see them. Such queries are run {@link QueryOptions#consistentWith(MutationState) consistent with}
+ * the collected mutations: the query service only waits for the indexes to catch up with these mutations, rather than
+ * with all mutations of the bucket as {@link QueryScanConsistency#REQUEST_PLUS} does.
+ * <p>
+ * A scope is bound to the current thread for the blocking {@link CouchbaseTemplate} with {@link #run(Supplier)}, and
+ * to the subscriber context of a reactive pipeline with {@link #apply(Mono)} or {@link #apply(Flux)}:
+ *
+ * <pre class="code">
+ * MutationScope.run(() -&gt; {
+ * 	template.upsertById(Airport.class).one(airport);
+ * 	return template.findByQuery(Airport.class).matching(query).all(); // sees the upserted airport
+ * });
+ * </pre>
+ *
+ * Queries with an explicit {@link QueryScanConsistency#REQUEST_PLUS} consistency keep it. The SDK only returns
+ * mutation tokens if they are enabled in its environment, which is the default.
+ *
+ * @since 4.2
+ */
+public final class MutationScope {
+
+	private static final Object CONTEXT_KEY = MutationScope.class;
+
+	private static final ThreadLocal<MutationScope> CURRENT = new ThreadLocal<>();
+
+	private final Map<String, MutationToken> tokens = new HashMap<>();
+
+	MutationScope() {}
+
+	/**
+	 * Runs the given work with a new scope bound to the current thread.
+	 *
+	 * @param work the work.
+	 * @return the result of the work.
+	 */
+	public static <T> T run(final Supplier<T> work) {
+		Assert.notNull(work, "Work must not be null!");
+		MutationScope previous = CURRENT.get();
+		CURRENT.set(new MutationScope());
+		try {
+			return work.get();
+		} finally {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Runs the given pipeline with a new scope in its subscriber context.
+	 *
+	 * @param pipeline the pipeline.
+	 * @return the pipeline.
+	 */
+	public static <T> Mono<T> apply(final Mono<T> pipeline) {
+		return pipeline.contextWrite(context -> context.put(CONTEXT_KEY, new MutationScope()));
+	}
+
+	/**
+	 * Runs the given pipeline with a new scope in its subscriber context.
+	 *
+	 * @param pipeline the pipeline.
+	 * @return the pipeline.
+	 */
+	public static <T> Flux<T> apply(final Flux<T> pipeline) {
+		return pipeline.contextWrite(context -> context.put(CONTEXT_KEY, new MutationScope()));
+	}
+
+	/**
+	 * @return the scope bound to the current thread, if any.
+	 */
+	@Nullable
+	public static MutationScope current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Propagates the scope bound to the subscribing thread into the subscriber context, so that it is found on whatever
+	 * thread the operation continues.
+	 */
+	static Context bindThreadScope(final Context context) {
+		MutationScope scope = CURRENT.get();
+		return scope == null || context.hasKey(CONTEXT_KEY) ? context : context.put(CONTEXT_KEY, scope);
+	}
+
+	/**
+	 * @return the scope of the given subscriber context, if any.
+	 */
+	@Nullable
+	static MutationScope from(final ContextView context) {
+		return context.getOrDefault(CONTEXT_KEY, null);
+	}
+
+	/**
+	 * Adds the mutation tokens of the writes of the given pipeline to the scope of its subscriber context.
+	 *
+	 * @param write the write.
+	 * @return the write.
+	 */
+	static <R extends MutationResult> Mono<R> capture(final Mono<R> write) {
+		return Mono.deferContextual(context -> {
+			MutationScope scope = from(context);
+			return scope == null ? write : write.doOnNext(scope::add);
+		});
+	}
+
+	/**
+	 * Makes the query consistent with the mutations of the given scope, unless it has none or already waits for all
+	 * mutations.
+	 *
+	 * @param options the options of the query.
+	 * @param scanConsistency the consistency requested for the query.
+	 * @param scope the scope, if any.
+	 * @return the options.
+	 */
+	static QueryOptions consistentWith(final QueryOptions options, @Nullable final QueryScanConsistency scanConsistency,
+			@Nullable final MutationScope scope) {
+		if (scope != null && scanConsistency != QueryScanConsistency.REQUEST_PLUS) {
+			MutationState state = scope.toMutationState();
+			if (state != null) {
+				options.consistentWith(state);
+			}
+		}
+		return options;
+	}
+
+	/**
+	 * Adds the mutation token of the given write, if it has one.
+	 *
+	 * @param result the result of the write.
+	 */
+	public void add(final MutationResult result) {
+		result.mutationToken().ifPresent(this::add);
+	}
+
+	/**
+	 * Adds the given mutation token.
+	 *
+	 * @param token the token.
+	 */
+	public synchronized void add(final MutationToken token) {
+		// only the latest mutation of each partition matters
+		tokens.merge(token.bucketName() + '/' + token.partitionID(), token,
+				(previous, next) -> next.sequenceNumber() > previous.sequenceNumber() ? next : previous);
+	}
+
+	/**
+	 * @return the collected mutations, {@literal null} if there are none.
+	 */
+	@Nullable
+	public synchronized MutationState toMutationState() {
+		return tokens.isEmpty() ? null : MutationState.from(tokens.values().toArray(new MutationToken[0]));
+	}
+}
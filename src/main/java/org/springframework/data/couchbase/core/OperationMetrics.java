@@ -0,0 +1,39 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+/**
+ * Receives an {@link OperationSample} for every fluent operation run by a {@link ReactiveCouchbaseTemplate} or a
+ * {@link CouchbaseTemplate}. Metrics are opt-in: they are only taken once an implementation has been registered through
+ * {@link ReactiveCouchbaseTemplate#setOperationMetrics(OperationMetrics)} or
+ * {@link CouchbaseTemplate#setOperationMetrics(OperationMetrics)}.
+ * <p>
+ * Samples are recorded on the thread completing the operation, usually an I/O thread of the SDK, so implementations
+ * must not block.
+ *
+ * @since 4.2
+ * @see MicrometerOperationMetrics
+ */
+@FunctionalInterface
+public interface OperationMetrics {
+
+	/**
+	 * Records a completed, failed or cancelled operation.
+	 *
+	 * @param sample the measurements of the operation.
+	 */
+	void record(OperationSample sample);
+}
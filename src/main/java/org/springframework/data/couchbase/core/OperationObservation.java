@@ -0,0 +1,215 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.couchbase.core.OperationSample.Outcome;
+import org.springframework.lang.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures a single template operation for the {@link OperationMetrics} of the template. Encoding and decoding are
+ * timed around the synchronous calls doing them; the callbacks and events they run are timed through a thread local
+ * and taken out of the encode and decode phases.
+ * <p>
+ * Without registered metrics, the {@link #NONE} observation is used and nothing is measured.
+ *
+ * @since 4.2
+ */
+final class OperationObservation {
+
+	private static final Logger LOG = LoggerFactory.getLogger(OperationObservation.class);
+
+	static final OperationObservation NONE = new OperationObservation(null, "none", null, null, false);
+
+	private static final ThreadLocal<Frame> CURRENT = new ThreadLocal<>();
+
+	private final @Nullable OperationMetrics metrics;
+	private final String operation;
+	private final @Nullable Class<?> domainType;
+	private final @Nullable String collection;
+	private final boolean countsRows;
+	private final long start = System.nanoTime();
+	private final LongAdder encodeNanos = new LongAdder();
+	private final LongAdder decodeNanos = new LongAdder();
+	private final LongAdder callbackNanos = new LongAdder();
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder bytes = new LongAdder();
+	private final AtomicBoolean stopped = new AtomicBoolean();
+
+	private OperationObservation(@Nullable final OperationMetrics metrics, final String operation,
+			@Nullable final Class<?> domainType, @Nullable final String collection, final boolean countsRows) {
+		this.metrics = metrics;
+		this.operation = operation;
+		this.domainType = domainType;
+		this.collection = collection;
+		this.countsRows = countsRows;
+	}
+
+	/**
+	 * Observes an operation emitting at most one element, from its subscription to its end. As this wraps every
+	 * operation, it also propagates the {@link MutationScope} of the subscribing thread into the operation.
+	 *
+	 * @param template the template running the operation.
+	 * @param operation the name of the operation.
+	 * @param domainType the entity type, if any.
+	 * @param collection the collection, if any.
+	 * @param countsRows whether the operation runs a query whose rows are counted.
+	 * @param body creates the operation, given the observation to report the phases to.
+	 * @return the observed operation.
+	 */
+	static <T> Mono<T> observe(final ReactiveCouchbaseTemplate template, final String operation,
+			@Nullable final Class<?> domainType, @Nullable final String collection, final boolean countsRows,
+			final Function<OperationObservation, Mono<T>> body) {
+		final OperationMetrics metrics = template.getOperationMetrics();
+		if (metrics == null) {
+			return body.apply(NONE).contextWrite(MutationScope::bindThreadScope);
+		}
+		return Mono.defer(() -> {
+			OperationObservation observation = new OperationObservation(metrics, operation, domainType, collection,
+					countsRows);
+			return body.apply(observation).doOnSuccess(value -> observation.stop(Outcome.SUCCESS, null))
+					.doOnError(throwable -> observation.stop(Outcome.ERROR, throwable))
+					.doOnCancel(() -> observation.stop(Outcome.CANCELLED, null));
+		}).contextWrite(MutationScope::bindThreadScope);
+	}
+
+	/**
+	 * Observes an operation emitting any number of elements, from its subscription to its end.
+	 *
+	 * @see #observe(ReactiveCouchbaseTemplate, String, Class, String, boolean, Function)
+	 */
+	static <T> Flux<T> observeMany(final ReactiveCouchbaseTemplate template, final String operation,
+			@Nullable final Class<?> domainType, @Nullable final String collection, final boolean countsRows,
+			final Function<OperationObservation, Flux<T>> body) {
+		final OperationMetrics metrics = template.getOperationMetrics();
+		if (metrics == null) {
+			return body.apply(NONE).contextWrite(MutationScope::bindThreadScope);
+		}
+		return Flux.defer(() -> {
+			OperationObservation observation = new OperationObservation(metrics, operation, domainType, collection,
+					countsRows);
+			return body.apply(observation).doOnComplete(() -> observation.stop(Outcome.SUCCESS, null))
+					.doOnError(throwable -> observation.stop(Outcome.ERROR, throwable))
+					.doOnCancel(() -> observation.stop(Outcome.CANCELLED, null));
+		}).contextWrite(MutationScope::bindThreadScope);
+	}
+
+	/**
+	 * Runs the callbacks or event listeners of an encode or decode phase, attributing their time to the callbacks.
+	 *
+	 * @param callback the invocation of the callbacks.
+	 * @return the result of the callbacks.
+	 */
+	static <T> T callback(final Supplier<T> callback) {
+		Frame frame = CURRENT.get();
+		if (frame == null) {
+			return callback.get();
+		}
+		long callbackStart = System.nanoTime();
+		try {
+			return callback.get();
+		} finally {
+			frame.callbackNanos += System.nanoTime() - callbackStart;
+		}
+	}
+
+	/**
+	 * Converts and serializes entities.
+	 *
+	 * @param encoding the encoding.
+	 * @return the encoded entity.
+	 */
+	<T> T encode(final Supplier<T> encoding) {
+		return time(encodeNanos, encoding);
+	}
+
+	/**
+	 * Parses documents or rows and converts them into entities.
+	 *
+	 * @param decoding the decoding.
+	 * @return the decoded entity.
+	 */
+	<T> T decode(final Supplier<T> decoding) {
+		return time(decodeNanos, decoding);
+	}
+
+	/**
+	 * Counts a row returned by a query.
+	 *
+	 * @param row the raw row.
+	 * @return the row.
+	 */
+	byte[] row(final byte[] row) {
+		if (metrics != null) {
+			rows.increment();
+			bytes.add(row.length);
+		}
+		return row;
+	}
+
+	private <T> T time(final LongAdder phase, final Supplier<T> work) {
+		if (metrics == null) {
+			return work.get();
+		}
+		Frame previous = CURRENT.get();
+		Frame frame = new Frame();
+		CURRENT.set(frame);
+		long phaseStart = System.nanoTime();
+		try {
+			return work.get();
+		} finally {
+			long elapsed = System.nanoTime() - phaseStart;
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+			phase.add(elapsed - frame.callbackNanos);
+			callbackNanos.add(frame.callbackNanos);
+		}
+	}
+
+	private void stop(final Outcome outcome, @Nullable final Throwable error) {
+		if (metrics == null || !stopped.compareAndSet(false, true)) {
+			return;
+		}
+		OperationSample sample = new OperationSample(operation, domainType, collection, outcome, error,
+				System.nanoTime() - start, encodeNanos.sum(), decodeNanos.sum(), callbackNanos.sum(),
+				countsRows ? rows.sum() : -1, countsRows ? bytes.sum() : -1);
+		try {
+			metrics.record(sample);
+		} catch (RuntimeException e) {
+			LOG.warn("Could not record " + sample, e);
+		}
+	}
+
+	/**
+	 * The callback time of an encode or decode phase running on the current thread.
+	 */
+	private static final class Frame {
+		private long callbackNanos;
+	}
+}
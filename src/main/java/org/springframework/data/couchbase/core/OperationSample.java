@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * The measurements of a single template operation, split into the phases the time was spent in. All durations are in
+ * nanoseconds.
+ * <p>
+ * The time spent encoding entities, decoding entities and running entity callbacks and mapping events is measured
+ * directly; the {@link #getRoundTripNanos() round trip} is the remainder of the total and covers the SDK call, the
+ * server and the network.
+ *
+ * @since 4.2
+ * @see OperationMetrics
+ */
+public final class OperationSample {
+
+	/**
+	 * How an operation ended.
+	 */
+	public enum Outcome {
+		SUCCESS, ERROR, CANCELLED
+	}
+
+	private final String operation;
+	private final @Nullable Class<?> domainType;
+	private final @Nullable String collection;
+	private final Outcome outcome;
+	private final @Nullable Throwable error;
+	private final long totalNanos;
+	private final long encodeNanos;
+	private final long decodeNanos;
+	private final long callbackNanos;
+	private final long rows;
+	private final long bytes;
+
+	OperationSample(final String operation, @Nullable final Class<?> domainType, @Nullable final String collection,
+			final Outcome outcome, @Nullable final Throwable error, final long totalNanos, final long encodeNanos,
+			final long decodeNanos, final long callbackNanos, final long rows, final long bytes) {
+		this.operation = operation;
+		this.domainType = domainType;
+		this.collection = collection;
+		this.outcome = outcome;
+		this.error = error;
+		this.totalNanos = totalNanos;
+		this.encodeNanos = encodeNanos;
+		this.decodeNanos = decodeNanos;
+		this.callbackNanos = callbackNanos;
+		this.rows = rows;
+		this.bytes = bytes;
+	}
+
+	/**
+	 * @return the name of the operation, such as {@literal findById} or {@literal removeByQuery}.
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the entity type of the operation, {@literal null} for operations by id only.
+	 */
+	@Nullable
+	public Class<?> getDomainType() {
+		return domainType;
+	}
+
+	/**
+	 * @return the collection of the operation, {@literal null} for the default collection.
+	 */
+	@Nullable
+	public String getCollection() {
+		return collection;
+	}
+
+	public Outcome getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * @return the error the operation failed with, {@literal null} unless the outcome is {@link Outcome#ERROR}.
+	 */
+	@Nullable
+	public Throwable getError() {
+		return error;
+	}
+
+	/**
+	 * @return the time from the subscription to the end of the operation.
+	 */
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+
+	/**
+	 * @return the time spent converting entities into documents and serializing them, without callbacks and events.
+	 */
+	public long getEncodeNanos() {
+		return encodeNanos;
+	}
+
+	/**
+	 * @return the time spent parsing documents and rows and converting them into entities, without callbacks and events.
+	 */
+	public long getDecodeNanos() {
+		return decodeNanos;
+	}
+
+	/**
+	 * @return the time spent in entity callbacks and mapping event listeners.
+	 */
+	public long getCallbackNanos() {
+		return callbackNanos;
+	}
+
+	/**
+	 * @return the time not spent in the framework: the SDK call, the server and the network.
+	 */
+	public long getRoundTripNanos() {
+		return Math.max(0, totalNanos - encodeNanos - decodeNanos - callbackNanos);
+	}
+
+	/**
+	 * @return the number of rows returned by a query, {@literal -1} for operations that do not run a query.
+	 */
+	public long getRows() {
+		return rows;
+	}
+
+	/**
+	 * @return the number of bytes of the rows returned by a query, {@literal -1} for operations that do not run a query.
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	@Override
+	public String toString() {
+		return "OperationSample{" + "operation='" + operation + '\'' + ", domainType=" + domainType + ", collection='"
+				+ collection + '\'' + ", outcome=" + outcome + ", totalNanos=" + totalNanos + ", encodeNanos=" + encodeNanos
+				+ ", decodeNanos=" + decodeNanos + ", callbackNanos=" + callbackNanos + ", rows=" + rows + ", bytes=" + bytes
+				+ '}';
+	}
+}
@@ -16,6 +16,9 @@
 
 package org.springframework.data.couchbase.core;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
@@ -25,6 +28,7 @@ import org.springframework.data.couchbase.CouchbaseClientFactory;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.convert.translation.JacksonTranslationService;
 import org.springframework.data.couchbase.core.convert.translation.TranslationService;
+import org.springframework.lang.Nullable;
 
 import com.couchbase.client.java.Collection;
 
@@ -41,6 +45,9 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 	private final CouchbaseConverter converter;
 	private final PersistenceExceptionTranslator exceptionTranslator;
 	private final CouchbaseTemplateSupport templateSupport;
+	private @Nullable OperationMetrics operationMetrics;
+	private @Nullable TouchCoalescer touchCoalescer;
+	private @Nullable HedgedReadPolicy hedgedReadPolicy;
 
 	public ReactiveCouchbaseTemplate(final CouchbaseClientFactory clientFactory, final CouchbaseConverter converter) {
 		this(clientFactory, converter, new JacksonTranslationService());
@@ -94,6 +101,11 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 		return new ReactiveRemoveByQueryOperationSupport(this).removeByQuery(domainType);
 	}
 
+	@Override
+	public <T> ReactiveUpdateByQuery<T> updateByQuery(Class<T> domainType) {
+		return new ReactiveUpdateByQueryOperationSupport(this).updateByQuery(domainType);
+	}
+
 	@Override
 	public <T> ReactiveReplaceById<T> replaceById(Class<T> domainType) {
 		return new ReactiveReplaceByIdOperationSupport(this).replaceById(domainType);
@@ -138,6 +150,70 @@ public class ReactiveCouchbaseTemplate implements ReactiveCouchbaseOperations, A
 		return templateSupport;
 	}
 
+	/**
+	 * Registers the metrics to record every operation of this template with. Operations are not measured unless metrics
+	 * are registered.
+	 *
+	 * @param operationMetrics the metrics, {@literal null} to stop measuring.
+	 * @since 4.2
+	 */
+	public void setOperationMetrics(@Nullable final OperationMetrics operationMetrics) {
+		this.operationMetrics = operationMetrics;
+	}
+
+	@Nullable
+	OperationMetrics getOperationMetrics() {
+		return operationMetrics;
+	}
+
+	/**
+	 * Sets the minimal time between two expiration resets of the same document by
+	 * {@link org.springframework.data.couchbase.core.mapping.Document#touchOnRead() touch on read} entities. Reads within
+	 * the interval after a touch are plain gets, so that a frequently read document is not written on every read. The
+	 * interval of a document is capped at half the expiry of its entity, so that it cannot expire while being read. By
+	 * default, every read touches.
+	 *
+	 * @param touchOnReadInterval the interval, {@literal null} or zero to touch on every read.
+	 * @since 4.2
+	 */
+	public void setTouchOnReadInterval(@Nullable final Duration touchOnReadInterval) {
+		this.touchCoalescer = TouchCoalescer.of(touchOnReadInterval);
+	}
+
+	@Nullable
+	TouchCoalescer getTouchCoalescer() {
+		return touchCoalescer;
+	}
+
+	/**
+	 * Sets the policy hedging the reads by id of this template, including those of the repositories using it, against a
+	 * slow active node. Reads are not hedged by default. A policy set through
+	 * {@link ReactiveFindByIdOperation.FindByIdWithHedging#withHedging(HedgedReadPolicy)} takes precedence.
+	 *
+	 * @param hedgedReadPolicy the policy, {@literal null} to read from the active node only.
+	 * @since 4.2
+	 */
+	public void setHedgedReadPolicy(@Nullable final HedgedReadPolicy hedgedReadPolicy) {
+		this.hedgedReadPolicy = hedgedReadPolicy;
+	}
+
+	@Nullable
+	HedgedReadPolicy getHedgedReadPolicy() {
+		return hedgedReadPolicy;
+	}
+
+	/**
+	 * Sets the {@link Executor} to publish the {@link org.springframework.data.couchbase.core.mapping.event.AfterSaveEvent}s
+	 * of this template on, so that slow listeners do not hold up the thread completing the operation, usually an I/O
+	 * thread of the SDK. Use a bounded executor: an event it rejects is published on the completing thread instead.
+	 *
+	 * @param afterEventExecutor the executor, {@literal null} to publish the events on the completing thread.
+	 * @since 4.2
+	 */
+	public void setAfterEventExecutor(@Nullable final Executor afterEventExecutor) {
+		templateSupport.setAfterEventExecutor(afterEventExecutor);
+	}
+
 	/**
 	 * Tries to convert the given {@link RuntimeException} into a {@link DataAccessException} but returns the original
 	 * exception if the conversation failed. Thus allows safe re-throwing of the return value.
@@ -54,6 +54,17 @@ public class ReactiveExistsByIdOperationSupport implements ReactiveExistsByIdOpe
 
 		@Override
 		public Mono<Boolean> one(final String id) {
+			return OperationObservation.observe(template, "existsById", null, collection, false, observation -> exists(id));
+		}
+
+		@Override
+		public Mono<Map<String, Boolean>> all(final Collection<String> ids) {
+			return OperationObservation.observe(template, "existsById", null, collection, false,
+					observation -> Flux.fromIterable(ids).flatMap(id -> exists(id).map(result -> Tuples.of(id, result)))
+							.collectMap(Tuple2::getT1, Tuple2::getT2));
+		}
+
+		private Mono<Boolean> exists(final String id) {
 			return Mono.just(id).flatMap(
 					docId -> template.getCollection(collection).reactive().exists(id, existsOptions()).map(ExistsResult::exists))
 					.onErrorMap(throwable -> {
@@ -65,12 +76,6 @@ public class ReactiveExistsByIdOperationSupport implements ReactiveExistsByIdOpe
 					});
 		}
 
-		@Override
-		public Mono<Map<String, Boolean>> all(final Collection<String> ids) {
-			return Flux.fromIterable(ids).flatMap(id -> one(id).map(result -> Tuples.of(id, result)))
-					.collectMap(Tuple2::getT1, Tuple2::getT2);
-		}
-
 		@Override
 		public TerminatingExistsById inCollection(final String collection) {
 			Assert.hasText(collection, "Collection must not be null nor empty.");
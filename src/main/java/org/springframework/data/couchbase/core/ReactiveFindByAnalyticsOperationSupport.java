@@ -72,16 +72,22 @@ public class ReactiveFindByAnalyticsOperationSupport implements ReactiveFindByAn
 
 		@Override
 		public Mono<T> one() {
-			return all().singleOrEmpty();
+			return OperationObservation.observe(template, "findByAnalytics", domainType, null, true,
+					observation -> find(observation).singleOrEmpty());
 		}
 
 		@Override
 		public Mono<T> first() {
-			return all().next();
+			return OperationObservation.observe(template, "findByAnalytics", domainType, null, true,
+					observation -> find(observation).next());
 		}
 
 		@Override
 		public Flux<T> all() {
+			return OperationObservation.observeMany(template, "findByAnalytics", domainType, null, true, this::find);
+		}
+
+		private Flux<T> find(final OperationObservation observation) {
 			return Flux.defer(() -> {
 				String statement = assembleEntityQuery(false);
 				return template.getCouchbaseClientFactory().getCluster().reactive()
@@ -91,34 +97,46 @@ public class ReactiveFindByAnalyticsOperationSupport implements ReactiveFindByAn
 							} else {
 								return throwable;
 							}
-						}).flatMapMany(ReactiveAnalyticsResult::rowsAsObject).map(row -> {
-							String id = row.getString("__id");
-							long cas = row.getLong("__cas");
-							row.removeKey("__id");
-							row.removeKey("__cas");
-							return template.support().decodeEntity(id, row.toString(), cas, domainType);
-						});
+						}).flatMapMany(result -> result.rowsAs(byte[].class)).map(observation::row)
+						.map(row -> observation.decode(() -> template.support().decodeRow(row, true, domainType)));
 			});
 		}
 
 		@Override
 		public Mono<Long> count() {
-			return Mono.defer(() -> {
-				String statement = assembleEntityQuery(true);
-				return template.getCouchbaseClientFactory().getCluster().reactive()
-						.analyticsQuery(statement, buildAnalyticsOptions()).onErrorMap(throwable -> {
-							if (throwable instanceof RuntimeException) {
-								return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-							} else {
-								return throwable;
-							}
-						}).flatMapMany(ReactiveAnalyticsResult::rowsAsObject).map(row -> row.getLong("__count")).next();
-			});
+			return OperationObservation.observe(template, "countByAnalytics", domainType, null, false,
+					observation -> Mono.defer(() -> {
+						String statement = assembleEntityQuery(true);
+						return template.getCouchbaseClientFactory().getCluster().reactive()
+								.analyticsQuery(statement, buildAnalyticsOptions()).onErrorMap(throwable -> {
+									if (throwable instanceof RuntimeException) {
+										return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+									} else {
+										return throwable;
+									}
+								}).flatMapMany(ReactiveAnalyticsResult::rowsAsObject).map(row -> row.getLong("__count"))
+								.next();
+					}));
 		}
 
 		@Override
 		public Mono<Boolean> exists() {
-			return count().map(count -> count > 0);
+			return OperationObservation.observe(template, "existsByAnalytics", domainType, null, false,
+					observation -> Mono.defer(() -> {
+						String statement = assembleExistsQuery();
+						return template.getCouchbaseClientFactory().getCluster().reactive()
+								.analyticsQuery(statement, buildAnalyticsOptions()).onErrorMap(throwable -> {
+									if (throwable instanceof RuntimeException) {
+										return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+									} else {
+										return throwable;
+									}
+								}).flatMapMany(result -> result.rowsAs(byte[].class)).hasElements();
+					}));
+		}
+
+		private String assembleExistsQuery() {
+			return "SELECT RAW 1 FROM " + template.support().getJavaNameForEntity(domainType) + " LIMIT 1";
 		}
 
 		private String assembleEntityQuery(final boolean count) {
@@ -15,20 +15,26 @@
  */
 package org.springframework.data.couchbase.core;
 
+import static com.couchbase.client.java.kv.GetAndTouchOptions.getAndTouchOptions;
+import static com.couchbase.client.java.kv.GetAnyReplicaOptions.getAnyReplicaOptions;
 import static com.couchbase.client.java.kv.GetOptions.getOptions;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.codec.RawJsonTranscoder;
 import com.couchbase.client.java.kv.GetOptions;
+import com.couchbase.client.java.kv.GetResult;
 
 public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperation {
 
@@ -40,7 +46,7 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 
 	@Override
 	public <T> ReactiveFindById<T> findById(Class<T> domainType) {
-		return new ReactiveFindByIdSupport<>(template, domainType, null, null);
+		return new ReactiveFindByIdSupport<>(template, domainType, null, null, null);
 	}
 
 	static class ReactiveFindByIdSupport<T> implements ReactiveFindById<T> {
@@ -49,24 +55,76 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 		private final Class<T> domainType;
 		private final String collection;
 		private final List<String> fields;
+		private final HedgedReadPolicy hedging;
 
 		ReactiveFindByIdSupport(ReactiveCouchbaseTemplate template, Class<T> domainType, String collection,
-				List<String> fields) {
+				List<String> fields, HedgedReadPolicy hedging) {
 			this.template = template;
 			this.domainType = domainType;
 			this.collection = collection;
 			this.fields = fields;
+			this.hedging = hedging;
 		}
 
 		@Override
 		public Mono<T> one(final String id) {
+			return OperationObservation.observe(template, "findById", domainType, collection, false,
+					observation -> findWithJoins(id, observation));
+		}
+
+		@Override
+		public Flux<? extends T> all(final Collection<String> ids) {
+			return all(ids, BulkOptions.bulkOptions());
+		}
+
+		@Override
+		public Flux<? extends T> all(final Collection<String> ids, final BulkOptions options) {
+			Assert.notNull(options, "BulkOptions must not be null!");
+			return OperationObservation.observeMany(template, "findById", domainType, collection, false,
+					observation -> template.support().resolveN1qlJoins(template,
+							options.dispatch(ids, id -> find(id, observation)), domainType));
+		}
+
+		@Override
+		public Flux<BulkResult<T>> bulk(final Collection<String> ids, final BulkOptions options) {
+			Assert.notNull(options, "BulkOptions must not be null!");
+			return OperationObservation.observeMany(template, "findById", domainType, collection, false,
+					observation -> options.dispatch(ids, id -> bulkOne(id, observation)));
+		}
+
+		private Mono<BulkResult<T>> bulkOne(final String id, final OperationObservation observation) {
+			return findWithJoins(id, observation).map(found -> BulkResult.success(id, found))
+					.defaultIfEmpty(BulkResult.success(id, null))
+					.onErrorResume(throwable -> Mono.just(BulkResult.failure(id, null, throwable)));
+		}
+
+		private Mono<T> findWithJoins(final String id, final OperationObservation observation) {
+			return template.support().resolveN1qlJoins(template, find(id, observation).flux(), domainType).next();
+		}
+
+		private Mono<T> find(final String id, final OperationObservation observation) {
 			return Mono.just(id).flatMap(docId -> {
+				Duration touchExpiry = touchExpiry(docId);
+				if (touchExpiry != null) {
+					Mono<GetResult> touch = template.getCollection(collection).reactive().getAndTouch(docId, touchExpiry,
+							getAndTouchOptions().transcoder(RawJsonTranscoder.INSTANCE));
+					TouchCoalescer coalescer = template.getTouchCoalescer();
+					return coalescer == null ? touch : touch.doOnError(throwable -> coalescer.release(collection, docId));
+				}
 				GetOptions options = getOptions().transcoder(RawJsonTranscoder.INSTANCE);
 				if (fields != null && !fields.isEmpty()) {
 					options.project(fields);
+					return template.getCollection(collection).reactive().get(docId, options);
+				}
+				HedgedReadPolicy policy = hedging != null ? hedging : template.getHedgedReadPolicy();
+				if (policy == null) {
+					return template.getCollection(collection).reactive().get(docId, options);
 				}
-				return template.getCollection(collection).reactive().get(docId, options);
-			}).map(result -> template.support().decodeEntity(id, result.contentAs(String.class), result.cas(), domainType))
+				return policy.hedge(template.getCollection(collection).reactive().get(docId, options),
+						template.getCollection(collection).reactive().getAnyReplica(docId,
+								getAnyReplicaOptions().transcoder(RawJsonTranscoder.INSTANCE)));
+			}).map(result -> observation.decode(
+					() -> template.support().decodeEntity(id, result.contentAs(String.class), result.cas(), domainType)))
 					.onErrorResume(throwable -> {
 						if (throwable instanceof RuntimeException) {
 							if (throwable instanceof DocumentNotFoundException) {
@@ -83,21 +141,50 @@ public class ReactiveFindByIdOperationSupport implements ReactiveFindByIdOperati
 					});
 		}
 
-		@Override
-		public Flux<? extends T> all(final Collection<String> ids) {
-			return Flux.fromIterable(ids).flatMap(this::one);
+		/**
+		 * Returns the expiry to reset the document to while reading it, if the entity is touched on read. Projected reads
+		 * cannot touch, and reads within the {@link ReactiveCouchbaseTemplate#setTouchOnReadInterval(Duration) touch
+		 * interval} of the document do not.
+		 */
+		@Nullable
+		private Duration touchExpiry(final String id) {
+			if (fields != null && !fields.isEmpty()) {
+				return null;
+			}
+			CouchbasePersistentEntity<?> entity = template.getConverter().getMappingContext()
+					.getPersistentEntity(domainType);
+			if (entity == null || !entity.isTouchOnRead()) {
+				return null;
+			}
+			long expiry = entity.getExpiry();
+			if (expiry > CouchbasePersistentEntity.TTL_IN_SECONDS_INCLUSIVE_END) {
+				// an absolute expiration time, the SDK takes the time left
+				expiry = Math.max(1, expiry - System.currentTimeMillis() / 1000);
+			}
+			Duration touchExpiry = Duration.ofSeconds(expiry);
+			TouchCoalescer coalescer = template.getTouchCoalescer();
+			if (coalescer != null && !coalescer.tryTouch(collection, id, touchExpiry)) {
+				return null;
+			}
+			return touchExpiry;
 		}
 
 		@Override
 		public TerminatingFindById<T> inCollection(final String collection) {
 			Assert.hasText(collection, "Collection must not be null nor empty.");
-			return new ReactiveFindByIdSupport<>(template, domainType, collection, fields);
+			return new ReactiveFindByIdSupport<>(template, domainType, collection, fields, hedging);
+		}
+
+		@Override
+		public FindByIdWithProjection<T> withHedging(final HedgedReadPolicy hedging) {
+			Assert.notNull(hedging, "HedgedReadPolicy must not be null!");
+			return new ReactiveFindByIdSupport<>(template, domainType, collection, fields, hedging);
 		}
 
 		@Override
 		public FindByIdWithCollection<T> project(String... fields) {
 			Assert.notEmpty(fields, "Fields must not be null nor empty.");
-			return new ReactiveFindByIdSupport<>(template, domainType, collection, Arrays.asList(fields));
+			return new ReactiveFindByIdSupport<>(template, domainType, collection, Arrays.asList(fields), hedging);
 		}
 	}
 
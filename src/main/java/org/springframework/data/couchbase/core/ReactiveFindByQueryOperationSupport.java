@@ -17,11 +17,14 @@ package org.springframework.data.couchbase.core;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.StringQuery;
 import org.springframework.data.couchbase.core.support.TemplateUtils;
 import org.springframework.util.Assert;
 
+import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryScanConsistency;
 import com.couchbase.client.java.query.ReactiveQueryResult;
 
@@ -120,68 +123,92 @@ public class ReactiveFindByQueryOperationSupport implements ReactiveFindByQueryO
 
 		@Override
 		public Mono<T> one() {
-			return all().singleOrEmpty();
+			return OperationObservation.observe(template, "findByQuery", domainType, collection, true,
+					observation -> find(observation).singleOrEmpty());
 		}
 
 		@Override
 		public Mono<T> first() {
-			return all().next();
+			return OperationObservation.observe(template, "findByQuery", domainType, collection, true,
+					observation -> find(observation).next());
 		}
 
 		@Override
 		public Flux<T> all() {
-			return Flux.defer(() -> {
+			return OperationObservation.observeMany(template, "findByQuery", domainType, collection, true, this::find);
+		}
+
+		private Flux<T> find(final OperationObservation observation) {
+			return Flux.deferContextual(context -> {
 				String statement = assembleEntityQuery(false, distinctFields);
 				Mono<ReactiveQueryResult> allResult = this.collection == null
 						? template.getCouchbaseClientFactory().getCluster().reactive().query(statement,
-								query.buildQueryOptions(scanConsistency))
+								buildQueryOptions(context))
 						: template.getCouchbaseClientFactory().getScope().reactive().query(statement,
-								query.buildQueryOptions(scanConsistency));
-				return allResult.onErrorMap(throwable -> {
+								buildQueryOptions(context));
+				Flux<T> entities = allResult.onErrorMap(throwable -> {
 					if (throwable instanceof RuntimeException) {
 						return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
 					} else {
 						return throwable;
 					}
-				}).flatMapMany(ReactiveQueryResult::rowsAsObject).map(row -> {
-					String id = "";
-					long cas = 0;
-					if (distinctFields == null) {
-						id = row.getString(TemplateUtils.SELECT_ID);
-						cas = row.getLong(TemplateUtils.SELECT_CAS);
-						row.removeKey(TemplateUtils.SELECT_ID);
-						row.removeKey(TemplateUtils.SELECT_CAS);
-					}
-					return template.support().decodeEntity(id, row.toString(), cas, returnType);
-				});
+				}).flatMapMany(result -> result.rowsAs(byte[].class)).map(observation::row).map(row -> observation
+						.decode(() -> template.support().decodeRow(row, distinctFields == null, returnType)));
+				return distinctFields == null ? template.support().resolveN1qlJoins(template, entities, returnType)
+						: entities;
 			});
 		}
 
 		@Override
 		public Mono<Long> count() {
-			return Mono.defer(() -> {
-				String statement = assembleEntityQuery(true, distinctFields);
-				Mono<ReactiveQueryResult> countResult = this.collection == null
-						? template.getCouchbaseClientFactory().getCluster().reactive().query(statement,
-								query.buildQueryOptions(scanConsistency))
-						: template.getCouchbaseClientFactory().getScope().reactive().query(statement,
-								query.buildQueryOptions(scanConsistency));
-				return countResult.onErrorMap(throwable -> {
-					if (throwable instanceof RuntimeException) {
-						return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-					} else {
-						return throwable;
-					}
-				}).flatMapMany(ReactiveQueryResult::rowsAsObject).map(row -> {
-					return row.getLong(TemplateUtils.SELECT_COUNT);
-				}).next();
-			});
+			return OperationObservation.observe(template, "countByQuery", domainType, collection, false,
+					observation -> Mono.deferContextual(context -> {
+						String statement = assembleEntityQuery(true, distinctFields);
+						Mono<ReactiveQueryResult> countResult = this.collection == null
+								? template.getCouchbaseClientFactory().getCluster().reactive().query(statement,
+										buildQueryOptions(context))
+								: template.getCouchbaseClientFactory().getScope().reactive().query(statement,
+										buildQueryOptions(context));
+						return countResult.onErrorMap(throwable -> {
+							if (throwable instanceof RuntimeException) {
+								return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+							} else {
+								return throwable;
+							}
+						}).flatMapMany(ReactiveQueryResult::rowsAsObject).map(row -> {
+							return row.getLong(TemplateUtils.SELECT_COUNT);
+						}).next();
+					}));
 		}
 
 		@Override
 		public Mono<Boolean> exists() {
-			return count().map(count -> count > 0);
-		} // not efficient, just need the first one
+			return OperationObservation.observe(template, "existsByQuery", domainType, collection, false,
+					observation -> Mono.deferContextual(context -> {
+						String statement = query.toN1qlExistsString(template, this.collection, this.domainType);
+						Mono<ReactiveQueryResult> existsResult = this.collection == null
+								? template.getCouchbaseClientFactory().getCluster().reactive().query(statement,
+										buildQueryOptions(context))
+								: template.getCouchbaseClientFactory().getScope().reactive().query(statement,
+										buildQueryOptions(context));
+						return existsResult.onErrorMap(throwable -> {
+							if (throwable instanceof RuntimeException) {
+								return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+							} else {
+								return throwable;
+							}
+						}).flatMapMany(result -> query instanceof StringQuery
+								// the row selected by a string query may be the count of the matching documents
+								? result.rowsAsObject().map(row -> !row.containsKey(TemplateUtils.SELECT_COUNT)
+										|| row.getLong(TemplateUtils.SELECT_COUNT) > 0)
+								: result.rowsAs(byte[].class).map(row -> true)).next().defaultIfEmpty(false);
+					}));
+		}
+
+		private QueryOptions buildQueryOptions(final ContextView context) {
+			return MutationScope.consistentWith(query.buildQueryOptions(scanConsistency), scanConsistency,
+					MutationScope.from(context));
+		}
 
 		private String assembleEntityQuery(final boolean count, String[] distinctFields) {
 			return query.toN1qlSelectString(template, this.collection, this.domainType, this.returnType, count,
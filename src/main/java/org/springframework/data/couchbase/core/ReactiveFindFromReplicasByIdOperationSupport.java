@@ -57,10 +57,22 @@ public class ReactiveFindFromReplicasByIdOperationSupport implements ReactiveFin
 
 		@Override
 		public Mono<T> any(final String id) {
+			return OperationObservation.observe(template, "findFromReplicasById", domainType, collection, false,
+					observation -> find(id, observation));
+		}
+
+		@Override
+		public Flux<? extends T> any(Collection<String> ids) {
+			return OperationObservation.observeMany(template, "findFromReplicasById", domainType, collection, false,
+					observation -> Flux.fromIterable(ids).flatMap(id -> find(id, observation)));
+		}
+
+		private Mono<T> find(final String id, final OperationObservation observation) {
 			return Mono.just(id).flatMap(docId -> {
 				GetAnyReplicaOptions options = getAnyReplicaOptions().transcoder(RawJsonTranscoder.INSTANCE);
 				return template.getCollection(collection).reactive().getAnyReplica(docId, options);
-			}).map(result -> template.support().decodeEntity(id, result.contentAs(String.class), result.cas(), returnType))
+			}).map(result -> observation.decode(
+					() -> template.support().decodeEntity(id, result.contentAs(String.class), result.cas(), returnType)))
 					.onErrorMap(throwable -> {
 						if (throwable instanceof RuntimeException) {
 							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
@@ -70,11 +82,6 @@ public class ReactiveFindFromReplicasByIdOperationSupport implements ReactiveFin
 					});
 		}
 
-		@Override
-		public Flux<? extends T> any(Collection<String> ids) {
-			return Flux.fromIterable(ids).flatMap(this::any);
-		}
-
 		@Override
 		public TerminatingFindFromReplicasById<T> inCollection(final String collection) {
 			Assert.hasText(collection, "Collection must not be null nor empty.");
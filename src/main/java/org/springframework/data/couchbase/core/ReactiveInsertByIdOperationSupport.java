@@ -26,6 +26,7 @@ import org.springframework.data.couchbase.core.mapping.Document;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.codec.RawJsonTranscoder;
 import com.couchbase.client.java.kv.InsertOptions;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.ReplicateTo;
@@ -69,12 +70,27 @@ public class ReactiveInsertByIdOperationSupport implements ReactiveInsertByIdOpe
 
 		@Override
 		public Mono<T> one(T object) {
+			return OperationObservation.observe(template, "insertById", domainType, collection, false,
+					observation -> insert(object, observation));
+		}
+
+		@Override
+		public Flux<? extends T> all(Collection<? extends T> objects) {
+			return OperationObservation.observeMany(template, "insertById", domainType, collection, false,
+					observation -> Flux.fromIterable(objects).flatMap(object -> insert(object, observation)));
+		}
+
+		private Mono<T> insert(final T object, final OperationObservation observation) {
 			return Mono.just(object).flatMap(o -> {
-				CouchbaseDocument converted = template.support().encodeEntity(o);
-				return template.getCollection(collection).reactive()
-						.insert(converted.getId(), converted.export(), buildInsertOptions(converted)).map(result -> {
+				CouchbaseDocument converted = observation.encode(() -> template.support().encodeEntity(o));
+				byte[] json = observation.encode(() -> template.support().encodeJson(converted));
+				return MutationScope
+						.capture(template.getCollection(collection).reactive().insert(converted.getId(), json,
+								buildInsertOptions(converted)))
+						.map(result -> {
 							Object updatedObject = template.support().applyUpdatedId(o, converted.getId());
-							return (T) template.support().applyUpdatedCas(updatedObject, result.cas());
+							return template.support().afterSave((T) template.support().applyUpdatedCas(updatedObject, result.cas()),
+									converted);
 						});
 			}).onErrorMap(throwable -> {
 				if (throwable instanceof RuntimeException) {
@@ -85,13 +101,9 @@ public class ReactiveInsertByIdOperationSupport implements ReactiveInsertByIdOpe
 			});
 		}
 
-		@Override
-		public Flux<? extends T> all(Collection<? extends T> objects) {
-			return Flux.fromIterable(objects).flatMap(this::one);
-		}
-
 		private InsertOptions buildInsertOptions(CouchbaseDocument doc) { // CouchbaseDocument converted
 			final InsertOptions options = InsertOptions.insertOptions();
+			options.transcoder(RawJsonTranscoder.INSTANCE);
 			if (persistTo != PersistTo.NONE || replicateTo != ReplicateTo.NONE) {
 				options.durability(persistTo, replicateTo);
 			} else if (durabilityLevel != DurabilityLevel.NONE) {
@@ -37,6 +37,27 @@ public interface ReactiveRemoveByIdOperation {
 
 		Flux<RemoveResult> all(Collection<String> ids);
 
+		/**
+		 * Removes the documents, keeping as many requests in flight as the options allow.
+		 *
+		 * @param ids the document IDs.
+		 * @param options controls concurrency and ordering of the requests.
+		 * @return the results of the removals; the first failure aborts the operation.
+		 * @since 4.2
+		 */
+		Flux<RemoveResult> all(Collection<String> ids, BulkOptions options);
+
+		/**
+		 * Removes the documents, keeping as many requests in flight as the options allow, and reports the outcome of
+		 * every ID individually instead of aborting on the first failure.
+		 *
+		 * @param ids the document IDs.
+		 * @param options controls concurrency and ordering of the requests.
+		 * @return one {@link BulkResult} per ID.
+		 * @since 4.2
+		 */
+		Flux<BulkResult<RemoveResult>> bulk(Collection<String> ids, BulkOptions options);
+
 	}
 
 	interface RemoveByIdWithCollection extends TerminatingRemoveById, WithCollection<RemoveResult> {
@@ -61,8 +61,13 @@ public class ReactiveRemoveByIdOperationSupport implements ReactiveRemoveByIdOpe
 
 		@Override
 		public Mono<RemoveResult> one(final String id) {
-			return Mono.just(id).flatMap(docId -> template.getCollection(collection).reactive()
-					.remove(id, buildRemoveOptions()).map(r -> RemoveResult.from(docId, r))).onErrorMap(throwable -> {
+			return OperationObservation.observe(template, "removeById", null, collection, false, observation -> remove(id));
+		}
+
+		private Mono<RemoveResult> remove(final String id) {
+			return Mono.just(id).flatMap(docId -> MutationScope
+					.capture(template.getCollection(collection).reactive().remove(id, buildRemoveOptions()))
+					.map(r -> RemoveResult.from(docId, r))).onErrorMap(throwable -> {
 						if (throwable instanceof RuntimeException) {
 							return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
 						} else {
@@ -73,7 +78,26 @@ public class ReactiveRemoveByIdOperationSupport implements ReactiveRemoveByIdOpe
 
 		@Override
 		public Flux<RemoveResult> all(final Collection<String> ids) {
-			return Flux.fromIterable(ids).flatMap(this::one);
+			return all(ids, BulkOptions.bulkOptions());
+		}
+
+		@Override
+		public Flux<RemoveResult> all(final Collection<String> ids, final BulkOptions options) {
+			Assert.notNull(options, "BulkOptions must not be null!");
+			return OperationObservation.observeMany(template, "removeById", null, collection, false,
+					observation -> options.dispatch(ids, this::remove));
+		}
+
+		@Override
+		public Flux<BulkResult<RemoveResult>> bulk(final Collection<String> ids, final BulkOptions options) {
+			Assert.notNull(options, "BulkOptions must not be null!");
+			return OperationObservation.observeMany(template, "removeById", null, collection, false,
+					observation -> options.dispatch(ids, this::bulkOne));
+		}
+
+		private Mono<BulkResult<RemoveResult>> bulkOne(final String id) {
+			return remove(id).map(removed -> BulkResult.success(id, removed))
+					.onErrorResume(throwable -> Mono.just(BulkResult.failure(id, null, throwable)));
 		}
 
 		private RemoveOptions buildRemoveOptions() {
@@ -16,6 +16,7 @@
 package org.springframework.data.couchbase.core;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.core.query.QueryCriteriaDefinition;
@@ -31,6 +32,23 @@ public interface ReactiveRemoveByQueryOperation {
 
 	interface TerminatingRemoveByQuery<T> {
 		Flux<RemoveResult> all();
+
+		/**
+		 * Remove the matching documents without returning them.
+		 *
+		 * @return the number of documents removed.
+		 * @since 4.2
+		 */
+		Mono<Long> countRemoved();
+
+		/**
+		 * Remove the matching documents in batches, without returning them.
+		 *
+		 * @param options how the documents are removed.
+		 * @return the number of documents removed.
+		 * @since 4.2
+		 */
+		Mono<Long> countRemoved(BatchRemoveOptions options);
 	}
 
 	interface RemoveByQueryWithQuery<T> extends TerminatingRemoveByQuery<T>, WithQuery<RemoveResult> {
@@ -17,13 +17,19 @@ package org.springframework.data.couchbase.core;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.core.support.TemplateUtils;
 import org.springframework.util.Assert;
 
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.query.QueryMetrics;
 import com.couchbase.client.java.query.QueryOptions;
 import com.couchbase.client.java.query.QueryScanConsistency;
 import com.couchbase.client.java.query.ReactiveQueryResult;
@@ -45,6 +51,9 @@ public class ReactiveRemoveByQueryOperationSupport implements ReactiveRemoveByQu
 
 	static class ReactiveRemoveByQuerySupport<T> implements ReactiveRemoveByQuery<T> {
 
+		private static final String ID_FROM = "__idFrom";
+		private static final String ID_TO = "__idTo";
+
 		private final ReactiveCouchbaseTemplate template;
 		private final Class<T> domainType;
 		private final Query query;
@@ -62,29 +71,103 @@ public class ReactiveRemoveByQueryOperationSupport implements ReactiveRemoveByQu
 
 		@Override
 		public Flux<RemoveResult> all() {
-			return Flux.defer(() -> {
-				String statement = assembleDeleteQuery();
-				Mono<ReactiveQueryResult> allResult = this.collection == null
-						? template.getCouchbaseClientFactory().getCluster().reactive().query(statement, buildQueryOptions())
-						: template.getCouchbaseClientFactory().getScope().reactive().query(statement, buildQueryOptions());
-				return allResult.onErrorMap(throwable -> {
-					if (throwable instanceof RuntimeException) {
-						return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
-					} else {
-						return throwable;
-					}
-				}).flatMapMany(ReactiveQueryResult::rowsAsObject)
-						.map(row -> new RemoveResult(row.getString(TemplateUtils.SELECT_ID), row.getLong(TemplateUtils.SELECT_CAS),
-								Optional.empty()));
+			return OperationObservation.observeMany(template, "removeByQuery", domainType, collection, false,
+					observation -> Flux.deferContextual(context -> {
+						String statement = assembleDeleteQuery();
+						return execute(statement, buildQueryOptions(context))
+								.flatMapMany(ReactiveQueryResult::rowsAsObject)
+								.map(row -> new RemoveResult(row.getString(TemplateUtils.SELECT_ID),
+										row.getLong(TemplateUtils.SELECT_CAS), Optional.empty()));
+					}));
+		}
+
+		@Override
+		public Mono<Long> countRemoved() {
+			return OperationObservation.observe(template, "removeByQuery", domainType, collection, false,
+					observation -> Mono.deferContextual(context -> executeCounting(
+							query.toN1qlRemoveString(template, collection, domainType, null, null, 0),
+							buildQueryOptions(context))));
+		}
+
+		@Override
+		public Mono<Long> countRemoved(final BatchRemoveOptions options) {
+			Assert.notNull(options, "BatchRemoveOptions must not be null!");
+			return OperationObservation.observe(template, "removeByQuery", domainType, collection, false,
+					observation -> Mono.deferContextual(context -> {
+						AtomicLong timeline = new AtomicLong(System.nanoTime());
+						List<String[]> ranges = options.idRanges();
+						return Flux.fromIterable(ranges)
+								.flatMap(range -> removeInBatches(range, options, timeline, context), ranges.size())
+								.reduce(0L, Long::sum);
+					}));
+		}
+
+		/**
+		 * Repeats the batch statement on the given id range until a batch run with {@link QueryScanConsistency#REQUEST_PLUS}
+		 * removes fewer documents than the batch size. The batches after the first are run with that consistency whatever
+		 * the consistency of the removal: an index lagging behind the removals of the previous batches would still return
+		 * their keys, so a short batch would not mean that the range is empty.
+		 */
+		private Mono<Long> removeInBatches(final String[] range, final BatchRemoveOptions options,
+				final AtomicLong timeline, final ContextView context) {
+			String statement = query.toN1qlRemoveString(template, collection, domainType, range[0] != null ? ID_FROM : null,
+					range[1] != null ? ID_TO : null, options.getBatchSize());
+			return Mono.defer(() -> {
+				AtomicBoolean requestPlus = new AtomicBoolean(scanConsistency == QueryScanConsistency.REQUEST_PLUS);
+				Mono<Long> first = Mono
+						.defer(() -> executeCounting(statement, withIdRange(buildQueryOptions(context), range)));
+				Mono<Long> next = Mono.defer(() -> {
+					requestPlus.set(true);
+					return executeCounting(statement,
+							withIdRange(buildQueryOptions(context).scanConsistency(QueryScanConsistency.REQUEST_PLUS), range));
+				});
+				return first.expand(removed -> removed < options.getBatchSize() && requestPlus.get() ? Mono.empty()
+						: options.throttle(timeline, removed).then(next)).reduce(0L, Long::sum);
+			});
+		}
+
+		private static QueryOptions withIdRange(final QueryOptions queryOptions, final String[] range) {
+			if (range[0] != null || range[1] != null) {
+				JsonObject bounds = JsonObject.create();
+				if (range[0] != null) {
+					bounds.put(ID_FROM, range[0]);
+				}
+				if (range[1] != null) {
+					bounds.put(ID_TO, range[1]);
+				}
+				queryOptions.parameters(bounds);
+			}
+			return queryOptions;
+		}
+
+		/**
+		 * Runs a statement without {@code RETURNING} clause and reads the number of removed documents from its metrics.
+		 */
+		private Mono<Long> executeCounting(final String statement, final QueryOptions options) {
+			return execute(statement, options.metrics(true))
+					.flatMap(result -> result.rowsAsObject().then(result.metaData()))
+					.map(metaData -> metaData.metrics().map(QueryMetrics::mutationCount).orElse(0L));
+		}
+
+		private Mono<ReactiveQueryResult> execute(final String statement, final QueryOptions options) {
+			Mono<ReactiveQueryResult> result = this.collection == null
+					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement, options)
+					: template.getCouchbaseClientFactory().getScope().reactive().query(statement, options);
+			return result.onErrorMap(throwable -> {
+				if (throwable instanceof RuntimeException) {
+					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+				} else {
+					return throwable;
+				}
 			});
 		}
 
-		private QueryOptions buildQueryOptions() {
+		private QueryOptions buildQueryOptions(final ContextView context) {
 			final QueryOptions options = QueryOptions.queryOptions();
 			if (scanConsistency != null) {
 				options.scanConsistency(scanConsistency);
 			}
-			return options;
+			return MutationScope.consistentWith(options, scanConsistency, MutationScope.from(context));
 		}
 
 		@Override
@@ -25,6 +25,8 @@ import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.codec.RawJsonTranscoder;
+import com.couchbase.client.java.kv.MutateInOptions;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.ReplaceOptions;
 import com.couchbase.client.java.kv.ReplicateTo;
@@ -68,11 +70,31 @@ public class ReactiveReplaceByIdOperationSupport implements ReactiveReplaceByIdO
 
 		@Override
 		public Mono<T> one(T object) {
+			return OperationObservation.observe(template, "replaceById", domainType, collection, false,
+					observation -> replace(object, observation));
+		}
+
+		@Override
+		public Flux<? extends T> all(Collection<? extends T> objects) {
+			return OperationObservation.observeMany(template, "replaceById", domainType, collection, false,
+					observation -> Flux.fromIterable(objects).flatMap(object -> replace(object, observation)));
+		}
+
+		private Mono<T> replace(final T object, final OperationObservation observation) {
 			return Mono.just(object).flatMap(o -> {
-				CouchbaseDocument converted = template.support().encodeEntity(o);
-				return template.getCollection(collection).reactive()
-						.replace(converted.getId(), converted.export(), buildReplaceOptions(o, converted))
-						.map(result -> (T) template.support().applyUpdatedCas(o, result.cas()));
+				CouchbaseDocument converted = observation.encode(() -> template.support().encodeEntity(o));
+				DocumentSnapshots.Delta delta = template.support().partialUpdate(o, converted);
+				if (delta != null) {
+					return MutationScope
+							.capture(template.getCollection(collection).reactive().mutateIn(converted.getId(), delta.getSpecs(),
+									buildMutateInOptions(o, converted)))
+							.map(result -> saved(o, converted, result.cas(), delta));
+				}
+				byte[] json = observation.encode(() -> template.support().encodeJson(converted));
+				return MutationScope
+						.capture(template.getCollection(collection).reactive().replace(converted.getId(), json,
+								buildReplaceOptions(o, converted)))
+						.map(result -> saved(o, converted, result.cas(), null));
 			}).onErrorMap(throwable -> {
 				if (throwable instanceof RuntimeException) {
 					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
@@ -82,13 +104,34 @@ public class ReactiveReplaceByIdOperationSupport implements ReactiveReplaceByIdO
 			});
 		}
 
-		@Override
-		public Flux<? extends T> all(Collection<? extends T> objects) {
-			return Flux.fromIterable(objects).flatMap(this::one);
+		private T saved(final T object, final CouchbaseDocument converted, final long cas,
+				final DocumentSnapshots.Delta delta) {
+			template.support().snapshot(object, converted, cas, delta);
+			return template.support().afterSave((T) template.support().applyUpdatedCas(object, cas), converted);
+		}
+
+		/**
+		 * Builds the options of a partial update, which are those of the replace it stands for.
+		 */
+		private MutateInOptions buildMutateInOptions(T object, CouchbaseDocument doc) {
+			final MutateInOptions options = MutateInOptions.mutateInOptions();
+			if (persistTo != PersistTo.NONE || replicateTo != ReplicateTo.NONE) {
+				options.durability(persistTo, replicateTo);
+			} else if (durabilityLevel != DurabilityLevel.NONE) {
+				options.durability(durabilityLevel);
+			}
+			if (expiry != null) {
+				options.expiry(expiry);
+			} else if (doc.getExpiration() != 0) {
+				options.expiry(Duration.ofSeconds(doc.getExpiration()));
+			}
+			options.cas(template.support().getCas(object));
+			return options;
 		}
 
 		private ReplaceOptions buildReplaceOptions(T object, CouchbaseDocument doc) {
 			final ReplaceOptions options = ReplaceOptions.replaceOptions();
+			options.transcoder(RawJsonTranscoder.INSTANCE);
 			if (persistTo != PersistTo.NONE || replicateTo != ReplicateTo.NONE) {
 				options.durability(persistTo, replicateTo);
 			} else if (durabilityLevel != DurabilityLevel.NONE) {
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.Update;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.query.QueryMetrics;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+import com.couchbase.client.java.query.ReactiveQueryResult;
+
+public class ReactiveUpdateByQueryOperationSupport implements ReactiveUpdateByQueryOperation {
+
+	private final ReactiveCouchbaseTemplate template;
+
+	public ReactiveUpdateByQueryOperationSupport(final ReactiveCouchbaseTemplate template) {
+		this.template = template;
+	}
+
+	@Override
+	public <T> ReactiveUpdateByQuery<T> updateByQuery(Class<T> domainType) {
+		return new ReactiveUpdateByQuerySupport<>(template, domainType, domainType, null, null,
+				QueryScanConsistency.NOT_BOUNDED, null);
+	}
+
+	static class ReactiveUpdateByQuerySupport<T> implements ReactiveUpdateByQuery<T>, UpdateByQueryWithProjection<T> {
+
+		private final ReactiveCouchbaseTemplate template;
+		private final Class<?> domainType;
+		private final Class<T> returnType;
+		private final Query query;
+		private final Update update;
+		private final QueryScanConsistency scanConsistency;
+		private final String collection;
+
+		ReactiveUpdateByQuerySupport(final ReactiveCouchbaseTemplate template, final Class<?> domainType,
+				final Class<T> returnType, final Query query, final Update update,
+				final QueryScanConsistency scanConsistency, final String collection) {
+			this.template = template;
+			this.domainType = domainType;
+			this.returnType = returnType;
+			this.query = query;
+			this.update = update;
+			this.scanConsistency = scanConsistency;
+			this.collection = collection;
+		}
+
+		@Override
+		public Flux<T> all() {
+			return OperationObservation.observeMany(template, "updateByQuery", domainType, collection, true,
+					observation -> Flux.deferContextual(context -> {
+						Query query = query();
+						String statement = query.toN1qlUpdateString(template, collection, domainType, update,
+								returnType);
+						return execute(statement, buildQueryOptions(query, context))
+								.flatMapMany(result -> result.rowsAs(byte[].class)).map(observation::row).map(row -> observation
+										.decode(() -> template.support().decodeRow(row, true, returnType)));
+					}));
+		}
+
+		@Override
+		public Mono<Long> countUpdated() {
+			return OperationObservation.observe(template, "updateByQuery", domainType, collection, false,
+					observation -> Mono.deferContextual(context -> {
+						Query query = query();
+						String statement = query.toN1qlUpdateString(template, collection, domainType, update, null);
+						return execute(statement, buildQueryOptions(query, context).metrics(true))
+								.flatMap(result -> result.rowsAsObject().then(result.metaData()))
+								.map(metaData -> metaData.metrics().map(QueryMetrics::mutationCount).orElse(0L));
+					}));
+		}
+
+		/**
+		 * The values of the update are bound to the parameters of the query, so all documents are matched by a fresh
+		 * query rather than a shared one.
+		 */
+		private Query query() {
+			Assert.notNull(update, "Update must not be null!");
+			return query != null ? query : new Query();
+		}
+
+		private QueryOptions buildQueryOptions(final Query query, final ContextView context) {
+			QueryScanConsistency scanCons = query.getScanConsistency() != null ? query.getScanConsistency()
+					: scanConsistency;
+			return MutationScope.consistentWith(query.buildQueryOptions(scanCons), scanCons, MutationScope.from(context));
+		}
+
+		private Mono<ReactiveQueryResult> execute(final String statement, final QueryOptions options) {
+			Mono<ReactiveQueryResult> result = this.collection == null
+					? template.getCouchbaseClientFactory().getCluster().reactive().query(statement, options)
+					: template.getCouchbaseClientFactory().getScope().reactive().query(statement, options);
+			return result.onErrorMap(throwable -> {
+				if (throwable instanceof RuntimeException) {
+					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
+				} else {
+					return throwable;
+				}
+			});
+		}
+
+		@Override
+		public <R> TerminatingUpdateByQuery<R> as(final Class<R> returnType) {
+			Assert.notNull(returnType, "returnType must not be null!");
+			return new ReactiveUpdateByQuerySupport<>(template, domainType, returnType, query, update, scanConsistency,
+					collection);
+		}
+
+		@Override
+		public UpdateByQueryWithProjection<T> apply(final Update update) {
+			Assert.notNull(update, "Update must not be null!");
+			return new ReactiveUpdateByQuerySupport<>(template, domainType, returnType, query, update, scanConsistency,
+					collection);
+		}
+
+		@Override
+		public UpdateByQueryWithUpdate<T> matching(final Query query) {
+			return new ReactiveUpdateByQuerySupport<>(template, domainType, returnType, query, update, scanConsistency,
+					collection);
+		}
+
+		@Override
+		public UpdateByQueryWithQuery<T> inCollection(final String collection) {
+			Assert.hasText(collection, "Collection must not be null nor empty.");
+			return new ReactiveUpdateByQuerySupport<>(template, domainType, returnType, query, update, scanConsistency,
+					collection);
+		}
+
+		@Override
+		public UpdateByQueryInCollection<T> withConsistency(final QueryScanConsistency scanConsistency) {
+			return new ReactiveUpdateByQuerySupport<>(template, domainType, returnType, query, update, scanConsistency,
+					collection);
+		}
+
+	}
+
+}
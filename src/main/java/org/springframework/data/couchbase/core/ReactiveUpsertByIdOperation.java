@@ -38,6 +38,27 @@ public interface ReactiveUpsertByIdOperation {
 
 		Flux<? extends T> all(Collection<? extends T> objects);
 
+		/**
+		 * Stores the entities, keeping as many requests in flight as the options allow.
+		 *
+		 * @param objects the entities to store.
+		 * @param options controls concurrency and ordering of the requests.
+		 * @return the stored entities; the first failure aborts the operation.
+		 * @since 4.2
+		 */
+		Flux<? extends T> all(Collection<? extends T> objects, BulkOptions options);
+
+		/**
+		 * Stores the entities, keeping as many requests in flight as the options allow, and reports the outcome of
+		 * every entity individually instead of aborting on the first failure.
+		 *
+		 * @param objects the entities to store.
+		 * @param options controls concurrency and ordering of the requests.
+		 * @return one {@link BulkResult} per entity.
+		 * @since 4.2
+		 */
+		Flux<BulkResult<T>> bulk(Collection<? extends T> objects, BulkOptions options);
+
 	}
 
 	interface UpsertByIdWithCollection<T> extends TerminatingUpsertById<T>, WithCollection<T> {
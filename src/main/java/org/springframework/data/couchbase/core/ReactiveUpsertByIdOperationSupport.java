@@ -24,7 +24,11 @@ import java.util.Collection;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
 import org.springframework.util.Assert;
 
+import com.couchbase.client.core.error.CasMismatchException;
+import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.core.msg.kv.DurabilityLevel;
+import com.couchbase.client.java.codec.RawJsonTranscoder;
+import com.couchbase.client.java.kv.MutateInOptions;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.ReplicateTo;
 import com.couchbase.client.java.kv.UpsertOptions;
@@ -68,13 +72,60 @@ public class ReactiveUpsertByIdOperationSupport implements ReactiveUpsertByIdOpe
 
 		@Override
 		public Mono<T> one(T object) {
-			return Mono.just(object).flatMap(o -> {
-				CouchbaseDocument converted = template.support().encodeEntity(o);
-				return template.getCollection(collection).reactive()
-						.upsert(converted.getId(), converted.export(), buildUpsertOptions(converted)).map(result -> {
-							Object updatedObject = template.support().applyUpdatedId(o, converted.getId());
-							return (T) template.support().applyUpdatedCas(updatedObject, result.cas());
-						});
+			return OperationObservation.observe(template, "upsertById", domainType, collection, false,
+					observation -> upsertOne(object, observation));
+		}
+
+		@Override
+		public Flux<? extends T> all(Collection<? extends T> objects) {
+			return all(objects, BulkOptions.bulkOptions());
+		}
+
+		@Override
+		public Flux<? extends T> all(Collection<? extends T> objects, BulkOptions options) {
+			Assert.notNull(options, "BulkOptions must not be null!");
+			return OperationObservation.observeMany(template, "upsertById", domainType, collection, false,
+					observation -> options.dispatch(objects, object -> upsertOne(object, observation)));
+		}
+
+		@Override
+		public Flux<BulkResult<T>> bulk(Collection<? extends T> objects, BulkOptions options) {
+			Assert.notNull(options, "BulkOptions must not be null!");
+			return OperationObservation.observeMany(template, "upsertById", domainType, collection, false,
+					observation -> options.dispatch(objects, object -> bulkOne(object, observation)));
+		}
+
+		private Mono<T> upsertOne(final T object, final OperationObservation observation) {
+			return Mono.just(object)
+					.flatMap(o -> upsert(o, observation.encode(() -> template.support().encodeEntity(o)), observation));
+		}
+
+		private Mono<BulkResult<T>> bulkOne(final T object, final OperationObservation observation) {
+			return Mono.fromCallable(() -> observation.encode(() -> template.support().encodeEntity(object)))
+					.flatMap(converted -> upsert(object, converted, observation)
+							.map(saved -> BulkResult.success(converted.getId(), saved))
+							.onErrorResume(throwable -> Mono.just(BulkResult.failure(converted.getId(), object, throwable))))
+					.onErrorResume(throwable -> Mono.just(BulkResult.failure(null, object, throwable)));
+		}
+
+		private Mono<T> upsert(final T object, final CouchbaseDocument converted, final OperationObservation observation) {
+			return Mono.defer(() -> {
+				DocumentSnapshots.Delta delta = template.support().partialUpdate(object, converted);
+				Mono<T> upsert = Mono.fromCallable(() -> observation.encode(() -> template.support().encodeJson(converted)))
+						.flatMap(json -> MutationScope.capture(template.getCollection(collection).reactive()
+								.upsert(converted.getId(), json, buildUpsertOptions(converted))))
+						.map(result -> saved(object, converted, result.cas(), null));
+				if (delta == null) {
+					return upsert;
+				}
+				// the document changed or vanished since it was read, so it is overwritten as an upsert would
+				return MutationScope
+						.capture(template.getCollection(collection).reactive().mutateIn(converted.getId(), delta.getSpecs(),
+								buildMutateInOptions(object, converted)))
+						.map(result -> saved(object, converted, result.cas(), delta))
+						.onErrorResume(
+								throwable -> throwable instanceof CasMismatchException || throwable instanceof DocumentNotFoundException,
+								throwable -> upsert);
 			}).onErrorMap(throwable -> {
 				if (throwable instanceof RuntimeException) {
 					return template.potentiallyConvertRuntimeException((RuntimeException) throwable);
@@ -84,13 +135,36 @@ public class ReactiveUpsertByIdOperationSupport implements ReactiveUpsertByIdOpe
 			});
 		}
 
-		@Override
-		public Flux<? extends T> all(Collection<? extends T> objects) {
-			return Flux.fromIterable(objects).flatMap(this::one);
+		private T saved(final T object, final CouchbaseDocument converted, final long cas,
+				final DocumentSnapshots.Delta delta) {
+			template.support().snapshot(object, converted, cas, delta);
+			Object updatedObject = template.support().applyUpdatedId(object, converted.getId());
+			return template.support().afterSave((T) template.support().applyUpdatedCas(updatedObject, cas), converted);
+		}
+
+		/**
+		 * Builds the options of a partial update, which are those of the upsert it stands for, protected by the CAS the
+		 * entity was read with.
+		 */
+		private MutateInOptions buildMutateInOptions(T object, CouchbaseDocument doc) {
+			final MutateInOptions options = MutateInOptions.mutateInOptions();
+			if (persistTo != PersistTo.NONE || replicateTo != ReplicateTo.NONE) {
+				options.durability(persistTo, replicateTo);
+			} else if (durabilityLevel != DurabilityLevel.NONE) {
+				options.durability(durabilityLevel);
+			}
+			if (expiry != null) {
+				options.expiry(expiry);
+			} else if (doc.getExpiration() != 0) {
+				options.expiry(Duration.ofSeconds(doc.getExpiration()));
+			}
+			options.cas(template.support().getCas(object));
+			return options;
 		}
 
 		private UpsertOptions buildUpsertOptions(CouchbaseDocument doc) {
 			final UpsertOptions options = UpsertOptions.upsertOptions();
+			options.transcoder(RawJsonTranscoder.INSTANCE);
 			if (persistTo != PersistTo.NONE || replicateTo != ReplicateTo.NONE) {
 				options.durability(persistTo, replicateTo);
 			} else if (durabilityLevel != DurabilityLevel.NONE) {
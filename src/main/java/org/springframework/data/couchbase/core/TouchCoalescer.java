@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Decides whether a read of a {@link org.springframework.data.couchbase.core.mapping.Document#touchOnRead() touch on
+ * read} entity resets its expiration. A document is touched at most once per interval; the reads in between are plain
+ * gets. The interval of a document is capped at half its expiry, so that it is touched before it expires, and a touch
+ * that fails is released, so that the next read touches again. The time of the last touch is kept per document and
+ * dropped once the interval has passed, by a sweep that runs at most once per interval.
+ *
+ * @since 4.2
+ */
+final class TouchCoalescer {
+
+	private static final int SWEEP_THRESHOLD = 10_000;
+
+	private final long intervalNanos;
+	private final ConcurrentMap<String, Long> lastTouches = new ConcurrentHashMap<>();
+	private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+	private TouchCoalescer(final long intervalNanos) {
+		this.intervalNanos = intervalNanos;
+	}
+
+	/**
+	 * @param interval the minimal time between two touches of a document, {@literal null} or zero to touch on every read.
+	 * @return the coalescer, {@literal null} if every read touches.
+	 */
+	@Nullable
+	static TouchCoalescer of(@Nullable final Duration interval) {
+		return interval == null || interval.isZero() || interval.isNegative() ? null
+				: new TouchCoalescer(interval.toNanos());
+	}
+
+	/**
+	 * Claims the touch of a document, if it was not touched within the interval, capped at half the expiry of the
+	 * document.
+	 *
+	 * @param collection the collection of the document, {@literal null} for the default collection.
+	 * @param id the id of the document.
+	 * @param expiry the expiry the touch resets the document to, zero if the document does not expire.
+	 * @return true if the read should touch the document.
+	 */
+	boolean tryTouch(@Nullable final String collection, final String id, final Duration expiry) {
+		final long now = System.nanoTime();
+		final long interval = expiry.isZero() ? intervalNanos : Math.min(intervalNanos, expiry.toNanos() / 2);
+		final boolean[] claimed = new boolean[1];
+		lastTouches.compute(key(collection, id), (key, last) -> {
+			if (last != null && now - last < interval) {
+				return last;
+			}
+			claimed[0] = true;
+			return now;
+		});
+		if (claimed[0] && lastTouches.size() > SWEEP_THRESHOLD) {
+			sweep(now);
+		}
+		return claimed[0];
+	}
+
+	/**
+	 * Releases the touch of a document claimed by {@link #tryTouch(String, String, Duration)} that failed, so that the
+	 * next read touches the document.
+	 *
+	 * @param collection the collection of the document, {@literal null} for the default collection.
+	 * @param id the id of the document.
+	 */
+	void release(@Nullable final String collection, final String id) {
+		lastTouches.remove(key(collection, id));
+	}
+
+	int size() {
+		return lastTouches.size();
+	}
+
+	private static String key(@Nullable final String collection, final String id) {
+		return collection == null ? id : collection + '/' + id;
+	}
+
+	/**
+	 * Drops the touches older than the interval, unless another sweep ran within the interval: until then, no touch
+	 * kept by that sweep can have expired.
+	 */
+	private void sweep(final long now) {
+		long last = lastSweep.get();
+		if (now - last >= intervalNanos && lastSweep.compareAndSet(last, now)) {
+			lastTouches.values().removeIf(touch -> now - touch >= intervalNanos);
+		}
+	}
+}
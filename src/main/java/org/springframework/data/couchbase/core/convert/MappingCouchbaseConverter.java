@@ -19,6 +19,7 @@ package org.springframework.data.couchbase.core.convert;
 import static org.springframework.data.couchbase.core.mapping.id.GenerationStrategy.UNIQUE;
 import static org.springframework.data.couchbase.core.mapping.id.GenerationStrategy.USE_ATTRIBUTES;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -26,14 +27,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.CollectionFactory;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.convert.EntityInstantiator;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
 import org.springframework.data.couchbase.core.mapping.CouchbaseList;
@@ -47,7 +50,6 @@ import org.springframework.data.couchbase.core.mapping.id.IdPrefix;
 import org.springframework.data.couchbase.core.mapping.id.IdSuffix;
 import org.springframework.data.couchbase.core.query.N1qlJoin;
 import org.springframework.data.mapping.Alias;
-import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
@@ -67,6 +69,7 @@ import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -109,6 +112,15 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 	 * The Couchbase specific type mapper in use.
 	 */
 	protected CouchbaseTypeMapper typeMapper;
+	/**
+	 * The type aliases resolved by the {@link #typeMapper}, per type.
+	 */
+	private final Map<TypeInformation<?>, Alias> typeAliases = new ConcurrentHashMap<>();
+	/**
+	 * The plans writing and reading the properties of an entity, per entity.
+	 */
+	private final Map<CouchbasePersistentEntity<?>, WritePlan> writePlans = new ConcurrentHashMap<>();
+	private final Map<CouchbasePersistentEntity<?>, ReadPlan> readPlans = new ConcurrentHashMap<>();
 
 	/**
 	 * Callbacks for Audit Mechanism
@@ -175,6 +187,12 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		return left.isAssignableFrom(right) && !left.equals(right);
 	}
 
+	@Override
+	public void setCustomConversions(final CustomConversions conversions) {
+		super.setCustomConversions(conversions);
+		writePlans.clear();
+	}
+
 	@Override
 	public MappingContext<? extends CouchbasePersistentEntity<?>, CouchbasePersistentProperty> getMappingContext() {
 		return mappingContext;
@@ -187,7 +205,7 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 
 	@Override
 	public Alias getTypeAlias(TypeInformation<?> info) {
-		return typeMapper.getTypeAlias(info);
+		return typeAliases.computeIfAbsent(info, typeMapper::getTypeAlias);
 	}
 
 	@Override
@@ -238,10 +256,6 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		return read(entity, source, parent);
 	}
 
-	private boolean isIdConstructionProperty(final CouchbasePersistentProperty property) {
-		return property.isAnnotationPresent(IdPrefix.class) || property.isAnnotationPresent(IdSuffix.class);
-	}
-
 	/**
 	 * Read an incoming {@link CouchbaseDocument} into the target entity.
 	 *
@@ -259,32 +273,21 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 
 		final R instance = instantiator.createInstance(entity, provider);
 		final ConvertingPropertyAccessor accessor = getPropertyAccessor(instance);
+		final ReadPlan plan = readPlans.computeIfAbsent(entity, ReadPlan::new);
 
-		entity.doWithProperties(new PropertyHandler<CouchbasePersistentProperty>() {
-			@Override
-			public void doWithPersistentProperty(final CouchbasePersistentProperty prop) {
-				if (!doesPropertyExistInSource(prop) || entity.isConstructorArgument(prop) || isIdConstructionProperty(prop)
-						|| prop.isAnnotationPresent(N1qlJoin.class)) {
-					return;
-				}
-				Object obj = prop.isIdProperty() && parent == null ? source.getId() : getValueInternal(prop, source, instance);
-				accessor.setProperty(prop, obj);
-			}
-
-			private boolean doesPropertyExistInSource(final CouchbasePersistentProperty property) {
-				return property.isIdProperty() || source.containsKey(property.getFieldName());
-			}
-
-			private boolean isIdConstructionProperty(final CouchbasePersistentProperty property) {
-				return property.isAnnotationPresent(IdPrefix.class) || property.isAnnotationPresent(IdSuffix.class);
+		for (PropertyPlan property : plan.properties) {
+			if (!property.isId && !source.containsKey(property.fieldName)) {
+				continue;
 			}
-		});
+			CouchbasePersistentProperty prop = property.property;
+			Object obj = property.isId && parent == null ? source.getId() : getValueInternal(prop, source, instance);
+			accessor.setProperty(prop, obj);
+		}
 
-		entity.doWithAssociations((AssociationHandler<CouchbasePersistentProperty>) association -> {
-			CouchbasePersistentProperty inverseProp = association.getInverse();
+		for (CouchbasePersistentProperty inverseProp : plan.associations) {
 			Object obj = getValueInternal(inverseProp, source, instance);
 			accessor.setProperty(inverseProp, obj);
-		});
+		}
 
 		return instance;
 	}
@@ -336,7 +339,7 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		Assert.notNull(source, "CouchbaseDocument must not be null!");
 
 		Class<?> mapType = typeMapper.readType(source, type).getType();
-		Map<Object, Object> map = CollectionFactory.createMap(mapType, source.export().keySet().size());
+		Map<Object, Object> map = CollectionFactory.createMap(mapType, source.size());
 		Map<String, Object> sourceMap = source.getContent();
 
 		for (Map.Entry<String, Object> entry : sourceMap.entrySet()) {
@@ -455,8 +458,8 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 	 * @param target the target document.
 	 */
 	protected void copyCouchbaseDocument(final CouchbaseDocument source, final CouchbaseDocument target) {
-		for (Map.Entry<String, Object> entry : source.export().entrySet()) {
-			target.put(entry.getKey(), entry.getValue());
+		for (Map.Entry<String, Object> entry : source.getContent().entrySet()) {
+			target.putUnchecked(entry.getKey(), entry.getValue());
 		}
 		target.setId(source.getId());
 		target.setExpiration(source.getExpiration());
@@ -491,61 +494,60 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		}
 
 		final ConvertingPropertyAccessor<Object> accessor = getPropertyAccessor(source);
-		final CouchbasePersistentProperty idProperty = withId ? entity.getIdProperty() : null;
-		final CouchbasePersistentProperty versionProperty = entity.getVersionProperty();
+		final WritePlan plan = writePlans.computeIfAbsent(entity, this::createWritePlan);
+		final CouchbasePersistentProperty idProperty = withId ? plan.idProperty : null;
+		final boolean generatesId = idProperty != null && plan.generatedValue != null;
 
-		GeneratedValue generatedValueInfo = null;
-		final TreeMap<Integer, String> prefixes = new TreeMap<>();
-		final TreeMap<Integer, String> suffixes = new TreeMap<>();
-		final TreeMap<Integer, String> idAttributes = new TreeMap<>();
+		final String[] prefixes = generatesId ? new String[plan.prefixCount] : null;
+		final String[] suffixes = generatesId ? new String[plan.suffixCount] : null;
+		final String[] idAttributes = generatesId ? new String[plan.idAttributeCount] : null;
 
 		target.setExpiration(entity.getExpiry());
 
-		entity.doWithProperties(new PropertyHandler<CouchbasePersistentProperty>() {
-			@Override
-			public void doWithPersistentProperty(final CouchbasePersistentProperty prop) {
-				if (prop.equals(idProperty) || (versionProperty != null && prop.equals(versionProperty))) {
-					return;
-				} else if (prop.isAnnotationPresent(N1qlJoin.class)) {
-					return;
+		for (PropertyPlan property : plan.properties) {
+			CouchbasePersistentProperty prop = property.property;
+			if (prop.equals(idProperty)) {
+				continue;
+			}
+
+			Object propertyObj = accessor.getProperty(prop, prop.getType());
+			if (null == propertyObj) {
+				continue;
+			}
+
+			if (property.idPart == IdPart.PREFIX) {
+				if (generatesId) {
+					prefixes[property.idPartIndex] = convertToString(propertyObj);
+				}
+				continue;
+			} else if (property.idPart == IdPart.SUFFIX) {
+				if (generatesId) {
+					suffixes[property.idPartIndex] = convertToString(propertyObj);
 				}
+				continue;
+			} else if (property.idPart == IdPart.ATTRIBUTE && generatesId) {
+				idAttributes[property.idPartIndex] = convertToString(propertyObj);
+			}
 
-				Object propertyObj = accessor.getProperty(prop, prop.getType());
-				if (null != propertyObj) {
-					if (prop.isAnnotationPresent(IdPrefix.class)) {
-						IdPrefix prefix = prop.findAnnotation(IdPrefix.class);
-						int order = prefix.order();
-						prefixes.put(order, convertToString(propertyObj));
-						return;
-					}
-
-					if (prop.isAnnotationPresent(IdSuffix.class)) {
-						IdSuffix suffix = prop.findAnnotation(IdSuffix.class);
-						int order = suffix.order();
-						suffixes.put(order, convertToString(propertyObj));
-						return;
-					}
-
-					if (prop.isAnnotationPresent(IdAttribute.class)) {
-						IdAttribute idAttribute = prop.findAnnotation(IdAttribute.class);
-						int order = idAttribute.order();
-						idAttributes.put(order, convertToString(propertyObj));
-					}
-
-					if (!conversions.isSimpleType(propertyObj.getClass())) {
-						writePropertyInternal(propertyObj, target, prop, false);
-					} else {
-						writeSimpleInternal(propertyObj, target, prop.getFieldName());
-					}
+			if (property.simpleWrite == null) {
+				if (!conversions.isSimpleType(propertyObj.getClass())) {
+					writePropertyInternal(propertyObj, target, prop, false);
+				} else {
+					writeSimpleInternal(propertyObj, target, property.fieldName);
 				}
+			} else if (property.simpleWrite) {
+				target.put(property.fieldName, property.writeTarget != null
+						? conversionService.convert(propertyObj, property.writeTarget)
+						: property.isEnum ? ((Enum<?>) propertyObj).name() : propertyObj);
+			} else {
+				writePropertyInternal(propertyObj, target, prop, false);
 			}
-		});
+		}
 
 		if (idProperty != null && target.getId() == null) {
 			String id = accessor.getProperty(idProperty, String.class);
-			if (idProperty.isAnnotationPresent(GeneratedValue.class) && (id == null || id.equals(""))) {
-				generatedValueInfo = idProperty.findAnnotation(GeneratedValue.class);
-				String generatedId = generateId(generatedValueInfo, prefixes, suffixes, idAttributes);
+			if (generatesId && (id == null || id.equals(""))) {
+				String generatedId = generateId(plan.generatedValue, prefixes, suffixes, idAttributes);
 				target.setId(generatedId);
 				// this is not effective if id is Immutable, and accessor.setProperty() returns a new object in getBean()
 				accessor.setProperty(idProperty, generatedId);
@@ -554,18 +556,80 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 			}
 		}
 
-		entity.doWithAssociations(new AssociationHandler<CouchbasePersistentProperty>() {
-			@Override
-			public void doWithAssociation(final Association<CouchbasePersistentProperty> association) {
-				CouchbasePersistentProperty inverseProp = association.getInverse();
-				Class<?> type = inverseProp.getType();
-				Object propertyObj = accessor.getProperty(inverseProp, type);
-				if (null != propertyObj) {
-					writePropertyInternal(propertyObj, target, inverseProp, false);
-				}
+		for (CouchbasePersistentProperty inverseProp : plan.associations) {
+			Object propertyObj = accessor.getProperty(inverseProp, inverseProp.getType());
+			if (null != propertyObj) {
+				writePropertyInternal(propertyObj, target, inverseProp, false);
 			}
+		}
+
+	}
+
+	/**
+	 * Creates the plan writing the given entity. The conversion of a property value is resolved up front when the
+	 * declared type of the property fixes the runtime type of its values.
+	 *
+	 * @param entity the entity to write.
+	 * @return the plan.
+	 */
+	private WritePlan createWritePlan(final CouchbasePersistentEntity<?> entity) {
+		final CouchbasePersistentProperty versionProperty = entity.getVersionProperty();
+		final List<CouchbasePersistentProperty> properties = new ArrayList<>();
+		final TreeSet<Integer> prefixOrders = new TreeSet<>();
+		final TreeSet<Integer> suffixOrders = new TreeSet<>();
+		final TreeSet<Integer> idAttributeOrders = new TreeSet<>();
+
+		entity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) prop -> {
+			if ((versionProperty != null && prop.equals(versionProperty)) || prop.isAnnotationPresent(N1qlJoin.class)) {
+				return;
+			}
+			if (prop.isAnnotationPresent(IdPrefix.class)) {
+				prefixOrders.add(prop.findAnnotation(IdPrefix.class).order());
+			} else if (prop.isAnnotationPresent(IdSuffix.class)) {
+				suffixOrders.add(prop.findAnnotation(IdSuffix.class).order());
+			} else if (prop.isAnnotationPresent(IdAttribute.class)) {
+				idAttributeOrders.add(prop.findAnnotation(IdAttribute.class).order());
+			}
+			properties.add(prop);
 		});
 
+		List<PropertyPlan> plans = new ArrayList<>(properties.size());
+		for (CouchbasePersistentProperty prop : properties) {
+			PropertyPlan plan;
+			if (prop.isAnnotationPresent(IdPrefix.class)) {
+				plan = new PropertyPlan(prop, IdPart.PREFIX,
+						prefixOrders.headSet(prop.findAnnotation(IdPrefix.class).order()).size());
+			} else if (prop.isAnnotationPresent(IdSuffix.class)) {
+				plan = new PropertyPlan(prop, IdPart.SUFFIX,
+						suffixOrders.headSet(prop.findAnnotation(IdSuffix.class).order()).size());
+			} else if (prop.isAnnotationPresent(IdAttribute.class)) {
+				plan = new PropertyPlan(prop, IdPart.ATTRIBUTE,
+						idAttributeOrders.headSet(prop.findAnnotation(IdAttribute.class).order()).size());
+			} else {
+				plan = new PropertyPlan(prop, IdPart.NONE, -1);
+			}
+
+			Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(prop.getType());
+			if (Modifier.isFinal(type.getModifiers()) && !type.isArray()) {
+				plan.simpleWrite = conversions.isSimpleType(type);
+				plan.writeTarget = conversions.getCustomWriteTarget(type).orElse(null);
+				plan.isEnum = Enum.class.isAssignableFrom(type);
+			}
+			plans.add(plan);
+		}
+
+		CouchbasePersistentProperty idProperty = entity.getIdProperty();
+		return new WritePlan(idProperty,
+				idProperty == null ? null : idProperty.findAnnotation(GeneratedValue.class),
+				plans.toArray(new PropertyPlan[0]), associationsOf(entity), prefixOrders.size(), suffixOrders.size(),
+				idAttributeOrders.size());
+	}
+
+	private static CouchbasePersistentProperty[] associationsOf(final CouchbasePersistentEntity<?> entity) {
+		List<CouchbasePersistentProperty> associations = new ArrayList<>();
+		entity.doWithAssociations(
+				(AssociationHandler<CouchbasePersistentProperty>) association -> associations.add(association.getInverse()));
+		return associations.toArray(new CouchbasePersistentProperty[0]);
 	}
 
 	/**
@@ -588,13 +652,13 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 
 		if (valueType.isCollectionLike()) {
 			CouchbaseList collectionDoc = createCollection(asCollection(source), prop);
-			target.put(name, collectionDoc);
+			target.putUnchecked(name, collectionDoc);
 			return;
 		}
 
 		if (valueType.isMap()) {
 			CouchbaseDocument mapDoc = createMap((Map<Object, Object>) source, prop);
-			target.put(name, mapDoc);
+			target.putUnchecked(name, mapDoc);
 			return;
 		}
 
@@ -620,14 +684,14 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 			return;
 		}
 
-		CouchbaseDocument propertyDoc = new CouchbaseDocument();
-		addCustomTypeKeyIfNecessary(type, source, propertyDoc);
-
 		CouchbasePersistentEntity<?> entity = isSubtype(prop.getType(), source.getClass())
 				? mappingContext.getRequiredPersistentEntity(source.getClass())
 				: mappingContext.getRequiredPersistentEntity(type);
+		CouchbaseDocument propertyDoc = newDocument(entity);
+		addCustomTypeKeyIfNecessary(type, source, propertyDoc);
+
 		writeInternal(source, propertyDoc, entity, false);
-		target.put(name, propertyDoc);
+		target.putUnchecked(name, propertyDoc);
 	}
 
 	/**
@@ -641,7 +705,30 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		Assert.notNull(map, "Given map must not be null!");
 		Assert.notNull(prop, "PersistentProperty must not be null!");
 
-		return writeMapInternal(map, new CouchbaseDocument(), prop.getTypeInformation());
+		return writeMapInternal(map, new CouchbaseDocument(null, CouchbaseDocument.DEFAULT_EXPIRATION_TIME, map.size()),
+				prop.getTypeInformation());
+	}
+
+	/**
+	 * Creates the document of an entity, sized for one attribute per property plus the type key.
+	 *
+	 * @param entity the entity to write.
+	 * @return the empty document.
+	 */
+	private static CouchbaseDocument newDocument(final CouchbasePersistentEntity<?> entity) {
+		return new CouchbaseDocument(null, CouchbaseDocument.DEFAULT_EXPIRATION_TIME,
+				entity.getMetadata().getProjectedFields().size() + 1);
+	}
+
+	/**
+	 * Creates the document of an element of a collection or map, presized if its type is a known entity.
+	 *
+	 * @param type the type of the element.
+	 * @return the empty document.
+	 */
+	private CouchbaseDocument newDocument(final Class<?> type) {
+		return mappingContext.hasPersistentEntityFor(type) ? newDocument(mappingContext.getRequiredPersistentEntity(type))
+				: new CouchbaseDocument();
 	}
 
 	/**
@@ -664,13 +751,14 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 				if (val == null || conversions.isSimpleType(val.getClass())) {
 					writeSimpleInternal(val, target, simpleKey);
 				} else if (val instanceof Collection || val.getClass().isArray()) {
-					target.put(simpleKey, writeCollectionInternal(asCollection(val),
-							new CouchbaseList(conversions.getSimpleTypeHolder()), type.getMapValueType()));
+					Collection<?> collection = asCollection(val);
+					target.putUnchecked(simpleKey, writeCollectionInternal(collection,
+							new CouchbaseList(collection.size(), conversions.getSimpleTypeHolder()), type.getMapValueType()));
 				} else {
-					CouchbaseDocument embeddedDoc = new CouchbaseDocument();
+					CouchbaseDocument embeddedDoc = newDocument(val.getClass());
 					TypeInformation<?> valueTypeInfo = type.isMap() ? type.getMapValueType() : ClassTypeInformation.OBJECT;
 					writeInternal(val, embeddedDoc, valueTypeInfo, false);
-					target.put(simpleKey, embeddedDoc);
+					target.putUnchecked(simpleKey, embeddedDoc);
 				}
 			} else {
 				throw new MappingException("Cannot use a complex object as a key value.");
@@ -688,8 +776,8 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 	 * @return the created couchbase list.
 	 */
 	private CouchbaseList createCollection(final Collection<?> collection, final CouchbasePersistentProperty prop) {
-		return writeCollectionInternal(collection, new CouchbaseList(conversions.getSimpleTypeHolder()),
-				prop.getTypeInformation());
+		return writeCollectionInternal(collection,
+				new CouchbaseList(collection.size(), conversions.getSimpleTypeHolder()), prop.getTypeInformation());
 	}
 
 	/**
@@ -710,13 +798,14 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 			if (elementType == null || conversions.isSimpleType(elementType)) {
 				target.put(getPotentiallyConvertedSimpleWrite(element));
 			} else if (element instanceof Collection || elementType.isArray()) {
-				target.put(writeCollectionInternal(asCollection(element), new CouchbaseList(conversions.getSimpleTypeHolder()),
-						componentType));
+				Collection<?> collection = asCollection(element);
+				target.putUnchecked(writeCollectionInternal(collection,
+						new CouchbaseList(collection.size(), conversions.getSimpleTypeHolder()), componentType));
 			} else {
 
-				CouchbaseDocument embeddedDoc = new CouchbaseDocument();
+				CouchbaseDocument embeddedDoc = newDocument(elementType);
 				writeInternal(element, embeddedDoc, componentType, false);
-				target.put(embeddedDoc);
+				target.putUnchecked(embeddedDoc);
 			}
 
 		}
@@ -857,22 +946,14 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 		return new ConvertingPropertyAccessor<>(accessor, conversionService);
 	}
 
-	private String generateId(GeneratedValue generatedValue, TreeMap<Integer, String> prefixes,
-			TreeMap<Integer, String> suffixes, TreeMap<Integer, String> idAttributes) {
+	private String generateId(GeneratedValue generatedValue, String[] prefixes, String[] suffixes,
+			String[] idAttributes) {
 		String delimiter = generatedValue.delimiter();
 		StringBuilder sb = new StringBuilder();
-		boolean isAppending = false;
-		if (prefixes.size() > 0) {
-			appendKeyParts(sb, prefixes.values(), delimiter);
-			isAppending = true;
-		}
+		boolean isAppending = appendKeyParts(sb, prefixes, delimiter, false);
 
-		if (generatedValue.strategy() == USE_ATTRIBUTES && idAttributes.size() > 0) {
-			if (isAppending) {
-				sb.append(delimiter);
-			}
-			appendKeyParts(sb, idAttributes.values(), delimiter);
-			isAppending = true;
+		if (generatedValue.strategy() == USE_ATTRIBUTES) {
+			isAppending = appendKeyParts(sb, idAttributes, delimiter, isAppending);
 		}
 
 		if (generatedValue.strategy() == UNIQUE) {
@@ -883,18 +964,15 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 			isAppending = true;
 		}
 
-		if (suffixes.size() > 0) {
-			if (isAppending) {
-				sb.append(delimiter);
-			}
-			appendKeyParts(sb, suffixes.values(), delimiter);
-		}
+		appendKeyParts(sb, suffixes, delimiter, isAppending);
 		return sb.toString();
 	}
 
-	private StringBuilder appendKeyParts(StringBuilder sb, Collection<String> values, String delimiter) {
-		boolean isAppending = false;
+	private static boolean appendKeyParts(StringBuilder sb, String[] values, String delimiter, boolean isAppending) {
 		for (String value : values) {
+			if (value == null) {
+				continue;
+			}
 			if (isAppending) {
 				sb.append(delimiter);
 			} else {
@@ -902,7 +980,93 @@ public class MappingCouchbaseConverter extends AbstractCouchbaseConverter implem
 			}
 			sb.append(value);
 		}
-		return sb;
+		return isAppending;
+	}
+
+	/**
+	 * The part of the generated id a property contributes to.
+	 */
+	private enum IdPart {
+		NONE, PREFIX, SUFFIX, ATTRIBUTE
+	}
+
+	/**
+	 * The decisions taken for a property when an entity is read or written, resolved once per entity.
+	 */
+	private static final class PropertyPlan {
+
+		private final CouchbasePersistentProperty property;
+		private final String fieldName;
+		private final boolean isId;
+		private final IdPart idPart;
+		/**
+		 * The position of the value among the parts of the same kind, in ascending order.
+		 */
+		private final int idPartIndex;
+		/**
+		 * Whether values are written as simple values, {@literal null} if it depends on the runtime type of the value.
+		 */
+		private @Nullable Boolean simpleWrite;
+		private @Nullable Class<?> writeTarget;
+		private boolean isEnum;
+
+		private PropertyPlan(final CouchbasePersistentProperty property, final IdPart idPart, final int idPartIndex) {
+			this.property = property;
+			this.fieldName = property.getFieldName();
+			this.isId = property.isIdProperty();
+			this.idPart = idPart;
+			this.idPartIndex = idPartIndex;
+		}
+	}
+
+	/**
+	 * The properties and id generation of an entity to write, without the version and join properties.
+	 */
+	private static final class WritePlan {
+
+		private final @Nullable CouchbasePersistentProperty idProperty;
+		private final @Nullable GeneratedValue generatedValue;
+		private final PropertyPlan[] properties;
+		private final CouchbasePersistentProperty[] associations;
+		private final int prefixCount;
+		private final int suffixCount;
+		private final int idAttributeCount;
+
+		private WritePlan(@Nullable final CouchbasePersistentProperty idProperty,
+				@Nullable final GeneratedValue generatedValue, final PropertyPlan[] properties,
+				final CouchbasePersistentProperty[] associations, final int prefixCount, final int suffixCount,
+				final int idAttributeCount) {
+			this.idProperty = idProperty;
+			this.generatedValue = generatedValue;
+			this.properties = properties;
+			this.associations = associations;
+			this.prefixCount = prefixCount;
+			this.suffixCount = suffixCount;
+			this.idAttributeCount = idAttributeCount;
+		}
+	}
+
+	/**
+	 * The properties of an entity to set after it has been instantiated: neither constructor arguments, nor id
+	 * prefixes and suffixes, nor join properties.
+	 */
+	private static final class ReadPlan {
+
+		private final PropertyPlan[] properties;
+		private final CouchbasePersistentProperty[] associations;
+
+		private ReadPlan(final CouchbasePersistentEntity<?> entity) {
+			List<PropertyPlan> properties = new ArrayList<>();
+			entity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) prop -> {
+				if (entity.isConstructorArgument(prop) || prop.isAnnotationPresent(IdPrefix.class)
+						|| prop.isAnnotationPresent(IdSuffix.class) || prop.isAnnotationPresent(N1qlJoin.class)) {
+					return;
+				}
+				properties.add(new PropertyPlan(prop, IdPart.NONE, -1));
+			});
+			this.properties = properties.toArray(new PropertyPlan[0]);
+			this.associations = associationsOf(entity);
+		}
 	}
 
 	/**
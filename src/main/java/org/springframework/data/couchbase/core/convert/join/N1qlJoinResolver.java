@@ -20,28 +20,70 @@ import static org.springframework.data.couchbase.core.support.TemplateUtils.*;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.couchbase.core.CouchbaseOperations;
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
+import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
 import org.springframework.data.couchbase.core.query.FetchType;
 import org.springframework.data.couchbase.core.query.HashSide;
 import org.springframework.data.couchbase.core.query.N1qlJoin;
+import org.springframework.data.couchbase.core.query.StringQuery;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+
 /**
- * N1qlJoinResolver resolves by converting the join definition to query statement and executing using CouchbaseTemplate
+ * N1qlJoinResolver resolves by converting the join definition to query statement and executing using CouchbaseTemplate.
+ * The statement joins a whole batch of parent documents at once, the ids of the parents are bound to the
+ * {@link #LKS_IDS_PARAMETER} named parameter and each row carries the id of its parent in {@link #SELECT_LKS_ID}.
  *
  * @author Subhashni Balakrishnan
  */
 public class N1qlJoinResolver {
 	private static final Logger LOGGER = LoggerFactory.getLogger(N1qlJoinResolver.class);
 
+	/**
+	 * Name of the field holding the id of the parent (left key space) document in each row of the join query.
+	 */
+	public static final String SELECT_LKS_ID = "__lks_id";
+
+	/**
+	 * Name of the named parameter holding the ids of the parent (left key space) documents.
+	 */
+	public static final String LKS_IDS_PARAMETER = "lksIds";
+
+	/**
+	 * @deprecated since 4.2, use {@link #buildQuery(CouchbaseOperations, N1qlJoinResolverParameters)}. The statement
+	 *             binds the parent ids to the {@link #LKS_IDS_PARAMETER} named parameter.
+	 */
+	@Deprecated
 	public static String buildQuery(CouchbaseTemplate template, N1qlJoinResolverParameters parameters) {
+		return buildQuery((CouchbaseOperations) template, parameters);
+	}
+
+	public static String buildQuery(CouchbaseOperations template, N1qlJoinResolverParameters parameters) {
+		return buildQuery(template.getBucketName(), template.getConverter().getTypeKey(), parameters);
+	}
+
+	public static String buildQuery(ReactiveCouchbaseOperations template, N1qlJoinResolverParameters parameters) {
+		return buildQuery(template.getBucketName(), template.getConverter().getTypeKey(), parameters);
+	}
+
+	private static String buildQuery(String bucketName, String typeKey, N1qlJoinResolverParameters parameters) {
 		String joinType = "JOIN";
-		String selectEntity = "SELECT META(rks).id AS " + SELECT_ID + ", META(rks).cas AS " + SELECT_CAS + ", (rks).* ";
+		String selectEntity = "SELECT META(lks).id AS " + SELECT_LKS_ID + ", META(rks).id AS " + SELECT_ID
+				+ ", META(rks).cas AS " + SELECT_CAS + ", (rks).* ";
 
 		StringBuilder useLKSBuilder = new StringBuilder();
 		if (parameters.getJoinDefinition().index().length() > 0) {
@@ -49,11 +91,9 @@ public class N1qlJoinResolver {
 		}
 		String useLKS = useLKSBuilder.length() > 0 ? "USE " + useLKSBuilder.toString() + " " : "";
 
-		String from = "FROM `" + template.getBucketName() + "` lks " + useLKS + joinType + " `" + template.getBucketName()
-				+ "` rks";
-		String onLks = "lks." + template.getConverter().getTypeKey() + " = \""
-				+ parameters.getEntityTypeInfo().getType().getName() + "\"";
-		String onRks = "rks." + template.getConverter().getTypeKey() + " = \""
+		String from = "FROM `" + bucketName + "` lks " + useLKS + joinType + " `" + bucketName + "` rks";
+		String onLks = "lks." + typeKey + " = \"" + parameters.getEntityTypeInfo().getType().getName() + "\"";
+		String onRks = "rks." + typeKey + " = \""
 				+ parameters.getAssociatedEntityTypeInfo().getType().getName() + "\"";
 
 		StringBuilder useRKSBuilder = new StringBuilder();
@@ -81,7 +121,7 @@ public class N1qlJoinResolver {
 
 		String on = "ON " + parameters.getJoinDefinition().on().concat(" AND " + onLks).concat(" AND " + onRks);
 
-		String where = "WHERE META(lks).id=\"" + parameters.getLksId() + "\"";
+		String where = "WHERE META(lks).id IN $" + LKS_IDS_PARAMETER;
 		where += ((parameters.getJoinDefinition().where().length() > 0) ? " AND " + parameters.getJoinDefinition().where()
 				: "");
 
@@ -94,38 +134,86 @@ public class N1qlJoinResolver {
 		return statementSb.toString();
 	}
 
+	/**
+	 * Resolves the join of the single parent document of the parameters, as a batch of its own.
+	 *
+	 * @deprecated since 4.2, the joins of the documents read by the template are resolved in batches.
+	 */
+	@Deprecated
 	public static <R> List<R> doResolve(CouchbaseTemplate template, N1qlJoinResolverParameters parameters,
 			Class<R> associatedEntityClass) {
-		throw new UnsupportedOperationException();
-		/*
-		    String statement = buildQuery(template, parameters);
-		
-		    if (LOGGER.isDebugEnabled()) {
-		        LOGGER.debug("Join query executed " + statement);
-		    }
-		
-		    N1QLQuery query = new N1QLQuery(N1QLExpression.x(statement), QueryOptions.queryOptions());
-		    return template.findByN1QL(query, associatedEntityClass);*/
+		String statement = buildQuery(template, parameters);
+
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Join query executed " + statement);
+		}
+
+		StringQuery query = new StringQuery(statement);
+		query.setNamedParameters(JsonObject.create().put(LKS_IDS_PARAMETER, JsonArray.from(parameters.getLksId())));
+		return template.findByQuery(associatedEntityClass).matching(query).all();
 	}
 
 	public static boolean isLazyJoin(N1qlJoin joinDefinition) {
 		return joinDefinition.fetchType().equals(FetchType.LAZY);
 	}
 
+	/**
+	 * The associated entities of a batch of parent documents, loaded with a single join query the first time any of the
+	 * parents asks for them.
+	 */
+	static public class N1qlJoinBatch {
+		private final Collection<String> lksIds;
+		private final Function<Collection<String>, Map<String, List<Object>>> loader;
+		private Map<String, List<Object>> resolved = null;
+
+		public N1qlJoinBatch(Collection<String> lksIds, Function<Collection<String>, Map<String, List<Object>>> loader) {
+			Assert.notNull(lksIds, "The parent ids are required");
+			Assert.notNull(loader, "The loader is required");
+			this.lksIds = lksIds;
+			this.loader = loader;
+		}
+
+		public synchronized List<Object> get(String lksId) {
+			if (this.resolved == null) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Resolving lazy join for " + lksIds.size() + " parent documents");
+				}
+				this.resolved = loader.apply(lksIds);
+			}
+			return resolved.getOrDefault(lksId, Collections.emptyList());
+		}
+
+		public List<?> proxy(String lksId) {
+			return (List<?>) Proxy.newProxyInstance(List.class.getClassLoader(), new Class[] { List.class },
+					new N1qlJoinProxy(this, lksId));
+		}
+	}
+
 	static public class N1qlJoinProxy implements InvocationHandler {
-		private final CouchbaseTemplate template;
-		private final N1qlJoinResolverParameters params;
+		private final N1qlJoinBatch batch;
+		private final String lksId;
 		private List<?> resolved = null;
 
+		/**
+		 * @deprecated since 4.2, use {@link N1qlJoinBatch#proxy(String)}.
+		 */
+		@Deprecated
 		public N1qlJoinProxy(CouchbaseTemplate template, N1qlJoinResolverParameters params) {
-			this.template = template;
-			this.params = params;
+			this(new N1qlJoinBatch(Collections.singletonList(params.getLksId()),
+					lksIds -> Collections.singletonMap(params.getLksId(),
+							new ArrayList<Object>(doResolve(template, params, params.getAssociatedEntityTypeInfo().getType())))),
+					params.getLksId());
+		}
+
+		public N1qlJoinProxy(N1qlJoinBatch batch, String lksId) {
+			this.batch = batch;
+			this.lksId = lksId;
 		}
 
 		@Override
 		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
 			if (this.resolved == null) {
-				this.resolved = doResolve(this.template, this.params, this.params.associatedEntityTypeInfo.getType());
+				this.resolved = batch.get(this.lksId);
 			}
 			return method.invoke(this.resolved, args);
 		}
@@ -28,10 +28,11 @@ import org.springframework.data.couchbase.core.mapping.CouchbaseStorable;
 import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 
-import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -46,20 +47,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class JacksonTranslationService implements TranslationService, InitializingBean {
 
 	/**
-	 * Jackson Object Mapper;
+	 * Jackson Object Mapper; its factory creates the generators and parsers, so that every simple value can be written.
 	 */
-	private ObjectMapper objectMapper;
+	private ObjectMapper objectMapper = new ObjectMapper();
 
 	/**
 	 * Type holder to help easily identify simple types.
 	 */
 	private SimpleTypeHolder simpleTypeHolder = SimpleTypeHolder.DEFAULT;
 
-	/**
-	 * JSON factory for Jackson.
-	 */
-	private JsonFactory factory = new JsonFactory();
-
 	/**
 	 * Encode a {@link CouchbaseStorable} to a JSON string.
 	 *
@@ -71,7 +67,7 @@ public class JacksonTranslationService implements TranslationService, Initializi
 		Writer writer = new StringWriter();
 
 		try {
-			JsonGenerator generator = factory.createGenerator(writer);
+			JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
 			encodeRecursive(source, generator);
 			generator.close();
 			writer.close();
@@ -82,6 +78,25 @@ public class JacksonTranslationService implements TranslationService, Initializi
 		return writer.toString();
 	}
 
+	/**
+	 * Encode a {@link CouchbaseStorable} straight to UTF-8 JSON, walking the document tree without exporting it.
+	 *
+	 * @param source the source document to encode.
+	 * @return the encoded JSON.
+	 */
+	@Override
+	public final byte[] encodeToBytes(final CouchbaseStorable source) {
+		ByteArrayBuilder bytes = new ByteArrayBuilder();
+
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(bytes, JsonEncoding.UTF8)) {
+			encodeRecursive(source, generator);
+		} catch (IOException ex) {
+			throw new RuntimeException("Could not encode JSON", ex);
+		}
+
+		return bytes.toByteArray();
+	}
+
 	/**
 	 * Recursively iterates through the sources and adds it to the JSON generator.
 	 *
@@ -92,26 +107,40 @@ public class JacksonTranslationService implements TranslationService, Initializi
 	private void encodeRecursive(final CouchbaseStorable source, final JsonGenerator generator) throws IOException {
 		generator.writeStartObject();
 
-		for (Map.Entry<String, Object> entry : ((CouchbaseDocument) source).export().entrySet()) {
-			String key = entry.getKey();
-			Object value = entry.getValue();
-			generator.writeFieldName(key);
-			if (value instanceof CouchbaseDocument) {
-				encodeRecursive((CouchbaseDocument) value, generator);
-				continue;
-			}
+		for (Map.Entry<String, Object> entry : ((CouchbaseDocument) source).getContent().entrySet()) {
+			generator.writeFieldName(entry.getKey());
+			encodeValue(entry.getValue(), generator);
+		}
 
-			final Class<?> clazz = value.getClass();
+		generator.writeEndObject();
+	}
 
-			if (simpleTypeHolder.isSimpleType(clazz) && !isEnumOrClass(clazz)) {
-				generator.writeObject(value);
-			} else {
-				objectMapper.writeValue(generator, value);
+	private void encodeValue(final Object value, final JsonGenerator generator) throws IOException {
+		if (value instanceof CouchbaseDocument) {
+			encodeRecursive((CouchbaseDocument) value, generator);
+			return;
+		}
+		if (value instanceof CouchbaseList) {
+			CouchbaseList list = (CouchbaseList) value;
+			generator.writeStartArray();
+			for (int i = 0; i < list.size(); i++) {
+				encodeValue(list.get(i), generator);
 			}
-
+			generator.writeEndArray();
+			return;
+		}
+		if (value == null) {
+			generator.writeNull();
+			return;
 		}
 
-		generator.writeEndObject();
+		final Class<?> clazz = value.getClass();
+
+		if (simpleTypeHolder.isSimpleType(clazz) && !isEnumOrClass(clazz)) {
+			generator.writeObject(value);
+		} else {
+			objectMapper.writeValue(generator, value);
+		}
 	}
 
 	private boolean isEnumOrClass(final Class<?> clazz) {
@@ -127,23 +156,41 @@ public class JacksonTranslationService implements TranslationService, Initializi
 	 */
 	@Override
 	public final CouchbaseStorable decode(final String source, final CouchbaseStorable target) {
-		try {
-			JsonParser parser = factory.createParser((String) source);
-			while (parser.nextToken() != null) {
-				JsonToken currentToken = parser.getCurrentToken();
-
-				if (currentToken == JsonToken.START_OBJECT) {
-					return decodeObject(parser, (CouchbaseDocument) target);
-				} else if (currentToken == JsonToken.START_ARRAY) {
-					return decodeArray(parser, new CouchbaseList());
-				} else {
-					throw new MappingException("JSON to decode needs to start as array or object!");
-				}
-			}
-			parser.close();
+		try (JsonParser parser = objectMapper.getFactory().createParser(source)) {
+			return decode(parser, target);
+		} catch (IOException ex) {
+			throw new RuntimeException("Could not decode JSON", ex);
+		}
+	}
+
+	/**
+	 * Decode raw UTF-8 JSON into the {@link CouchbaseStorable} structure without an intermediate {@link String}.
+	 *
+	 * @param source the raw source formatted document.
+	 * @param target the target of the populated data.
+	 * @return the decoded structure.
+	 */
+	@Override
+	public final CouchbaseStorable decode(final byte[] source, final CouchbaseStorable target) {
+		try (JsonParser parser = objectMapper.getFactory().createParser(source)) {
+			return decode(parser, target);
 		} catch (IOException ex) {
 			throw new RuntimeException("Could not decode JSON", ex);
 		}
+	}
+
+	private CouchbaseStorable decode(final JsonParser parser, final CouchbaseStorable target) throws IOException {
+		while (parser.nextToken() != null) {
+			JsonToken currentToken = parser.getCurrentToken();
+
+			if (currentToken == JsonToken.START_OBJECT) {
+				return decodeObject(parser, (CouchbaseDocument) target);
+			} else if (currentToken == JsonToken.START_ARRAY) {
+				return decodeArray(parser, new CouchbaseList());
+			} else {
+				throw new MappingException("JSON to decode needs to start as array or object!");
+			}
+		}
 		return target;
 	}
 
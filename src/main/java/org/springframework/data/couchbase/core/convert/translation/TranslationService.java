@@ -16,6 +16,8 @@
 
 package org.springframework.data.couchbase.core.convert.translation;
 
+import java.nio.charset.StandardCharsets;
+
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
 import org.springframework.data.couchbase.core.mapping.CouchbaseStorable;
 
@@ -34,6 +36,20 @@ public interface TranslationService {
 	 */
 	String encode(CouchbaseStorable source);
 
+	/**
+	 * Encodes into the raw (UTF-8 encoded) target format, ready to be stored with a raw JSON transcoder.
+	 * <p/>
+	 * Implementations should override this to write the bytes directly, the default implementation goes through an
+	 * intermediate {@link String}.
+	 *
+	 * @param source the source contents to encode.
+	 * @return the encoded document representation.
+	 * @since 4.2
+	 */
+	default byte[] encodeToBytes(CouchbaseStorable source) {
+		return encode(source).getBytes(StandardCharsets.UTF_8);
+	}
+
 	/**
 	 * Decodes the target format into a {@link CouchbaseDocument}
 	 *
@@ -43,6 +59,20 @@ public interface TranslationService {
 	 */
 	CouchbaseStorable decode(String source, CouchbaseStorable target);
 
+	/**
+	 * Decodes the raw (UTF-8 encoded) target format into a {@link CouchbaseDocument}.
+	 * <p/>
+	 * Implementations should override this to parse the bytes directly, the default implementation goes through an
+	 * intermediate {@link String}.
+	 *
+	 * @param source the raw source formatted document.
+	 * @param target the target of the populated data.
+	 * @return a properly populated document to work with.
+	 */
+	default CouchbaseStorable decode(byte[] source, CouchbaseStorable target) {
+		return decode(new String(source, StandardCharsets.UTF_8), target);
+	}
+
 	/**
 	 * Decodes an ad-hoc JSON object into a corresponding "case" class.
 	 *
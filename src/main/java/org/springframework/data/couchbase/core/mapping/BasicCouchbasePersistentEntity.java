@@ -16,18 +16,12 @@
 
 package org.springframework.data.couchbase.core.mapping;
 
-import java.util.Calendar;
-import java.util.TimeZone;
-import java.util.concurrent.TimeUnit;
-
 import org.springframework.context.EnvironmentAware;
 import org.springframework.core.env.Environment;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mapping.MappingException;
-import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.data.util.TypeInformation;
-import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -40,6 +34,7 @@ public class BasicCouchbasePersistentEntity<T> extends BasicPersistentEntity<T,
 		implements CouchbasePersistentEntity<T>, EnvironmentAware {
 
 	private Environment environment;
+	private volatile CouchbaseEntityMetadata metadata;
 
 	/**
 	 * Create a new entity.
@@ -63,6 +58,7 @@ public class BasicCouchbasePersistentEntity<T> extends BasicPersistentEntity<T,
 	@Override
 	public void setEnvironment(Environment environment) {
 		this.environment = environment;
+		this.metadata = null;
 	}
 
 	// DATACOUCH-145: allows SDK's @Id annotation to be used
@@ -96,52 +92,33 @@ public class BasicCouchbasePersistentEntity<T> extends BasicPersistentEntity<T,
 
 	}
 
+	/**
+	 * Takes the {@link CouchbaseEntityMetadata} snapshot once all properties have been added.
+	 */
 	@Override
-	public int getExpiry() {
-		Document annotation = getType().getAnnotation(Document.class);
-		if (annotation == null)
-			return 0;
-
-		int expiryValue = getExpiryValue(annotation);
-
-		long secondsShift = annotation.expiryUnit().toSeconds(expiryValue);
-		if (secondsShift > TTL_IN_SECONDS_INCLUSIVE_END) {
-			// we want it to be represented as a UNIX timestamp style, seconds since Epoch in UTC
-			Calendar cal = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
-			if (annotation.expiryUnit() == TimeUnit.DAYS) {
-				// makes sure we won't lose resolution
-				cal.add(Calendar.DAY_OF_MONTH, expiryValue);
-			} else {
-				// use the shift in seconds since resolution should be smaller
-				cal.add(Calendar.SECOND, (int) secondsShift);
-			}
-			return (int) (cal.getTimeInMillis() / 1000); // note: Unix UTC time representation in int is okay until year 2038
-		} else {
-			return (int) secondsShift;
-		}
+	public void verify() {
+		super.verify();
+		metadata = CouchbaseEntityMetadata.of(this, environment);
 	}
 
-	private int getExpiryValue(Document annotation) {
-		int expiryValue = annotation.expiry();
-		String expiryExpressionString = annotation.expiryExpression();
-		if (StringUtils.hasLength(expiryExpressionString)) {
-			Assert.notNull(environment, "Environment must be set to use 'expiryExpression'");
-			String expiryWithReplacedPlaceholders = environment.resolveRequiredPlaceholders(expiryExpressionString);
-			try {
-				expiryValue = Integer.parseInt(expiryWithReplacedPlaceholders);
-			} catch (NumberFormatException e) {
-				throw new IllegalArgumentException(
-						"Invalid Integer value for expiry expression: " + expiryWithReplacedPlaceholders);
-			}
+	@Override
+	public CouchbaseEntityMetadata getMetadata() {
+		CouchbaseEntityMetadata metadata = this.metadata;
+		if (metadata == null) {
+			metadata = CouchbaseEntityMetadata.of(this, environment);
+			this.metadata = metadata;
 		}
-		return expiryValue;
+		return metadata;
+	}
+
+	@Override
+	public int getExpiry() {
+		return getMetadata().getExpiry();
 	}
 
 	@Override
 	public boolean isTouchOnRead() {
-		org.springframework.data.couchbase.core.mapping.Document annotation = getType()
-				.getAnnotation(org.springframework.data.couchbase.core.mapping.Document.class);
-		return annotation == null ? false : annotation.touchOnRead() && getExpiry() > 0;
+		return getMetadata().isTouchOnRead();
 	}
 
 }
@@ -18,8 +18,12 @@ package org.springframework.data.couchbase.core.mapping;
 
 import com.couchbase.client.java.json.JsonObject;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * A {@link CouchbaseDocument} is an abstract representation of a document stored inside Couchbase Server.
@@ -88,6 +92,25 @@ public class CouchbaseDocument implements CouchbaseStorable {
 		content = new HashMap<>();
 	}
 
+	/**
+	 * Creates a empty {@link CouchbaseDocument} with ID and expiration time, sized to hold the given number of attributes
+	 * without rehashing.
+	 *
+	 * @param id the document ID.
+	 * @param expiration the expiration time of the document.
+	 * @param expectedSize the number of attributes expected to be stored.
+	 * @since 4.2
+	 */
+	public CouchbaseDocument(final String id, final int expiration, final int expectedSize) {
+		this.id = id;
+		this.expiration = expiration;
+		content = new HashMap<>(capacityFor(expectedSize));
+	}
+
+	private static int capacityFor(final int expectedSize) {
+		return expectedSize < 3 ? 4 : (int) (expectedSize / 0.75f) + 1;
+	}
+
 	/**
 	 * Store a value with the given key for later retreival.
 	 *
@@ -102,6 +125,20 @@ public class CouchbaseDocument implements CouchbaseStorable {
 		return this;
 	}
 
+	/**
+	 * Store a value with the given key without verifying its type. Meant for values that are known to be storable, such
+	 * as nested {@link CouchbaseDocument}s and {@link CouchbaseList}s created while converting an entity.
+	 *
+	 * @param key the key of the attribute.
+	 * @param value the actual content to be stored.
+	 * @return the {@link CouchbaseDocument} for chaining.
+	 * @since 4.2
+	 */
+	public final CouchbaseDocument putUnchecked(final String key, final Object value) {
+		content.put(key, value);
+		return this;
+	}
+
 	/**
 	 * Potentially get a value from the payload with the given key.
 	 *
@@ -112,6 +149,16 @@ public class CouchbaseDocument implements CouchbaseStorable {
 		return content.get(key);
 	}
 
+	/**
+	 * Removes the value stored with the given key, if any.
+	 *
+	 * @param key the key of the attribute.
+	 * @return the value previously mapped to the key, or null if there was none.
+	 */
+	public final Object remove(final String key) {
+		return content.remove(key);
+	}
+
 	/**
 	 * Returns the current payload, including all recursive elements.
 	 * <p/>
@@ -131,6 +178,31 @@ public class CouchbaseDocument implements CouchbaseStorable {
 		return toExport;
 	}
 
+	/**
+	 * Returns a read-only view of the payload, including all recursive elements, that presents nested documents and lists
+	 * as {@link Map}s and {@link java.util.List}s like {@link #export()} does, but without copying anything. The view
+	 * reflects later changes of this document.
+	 *
+	 * @return the read-only view of the payload.
+	 * @since 4.2
+	 */
+	public final Map<String, Object> exportView() {
+		return new ExportView(content);
+	}
+
+	/**
+	 * Presents nested {@link CouchbaseDocument}s and {@link CouchbaseList}s of an exported value as views.
+	 */
+	static Object exportView(final Object value) {
+		if (value instanceof CouchbaseDocument) {
+			return ((CouchbaseDocument) value).exportView();
+		}
+		if (value instanceof CouchbaseList) {
+			return ((CouchbaseList) value).exportView();
+		}
+		return value;
+	}
+
 	/**
 	 * Returns true if it contains a payload for the specified key.
 	 *
@@ -287,6 +359,62 @@ public class CouchbaseDocument implements CouchbaseStorable {
 				"Attribute of type " + clazz.getCanonicalName() + " cannot be stored and must be converted.");
 	}
 
+	/**
+	 * Read-only view of the content of a document, see {@link #exportView()}.
+	 */
+	private static final class ExportView extends AbstractMap<String, Object> {
+
+		private final Map<String, Object> content;
+
+		private ExportView(final Map<String, Object> content) {
+			this.content = content;
+		}
+
+		@Override
+		public Object get(final Object key) {
+			return exportView(content.get(key));
+		}
+
+		@Override
+		public boolean containsKey(final Object key) {
+			return content.containsKey(key);
+		}
+
+		@Override
+		public int size() {
+			return content.size();
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return new AbstractSet<Entry<String, Object>>() {
+
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					Iterator<Entry<String, Object>> entries = content.entrySet().iterator();
+					return new Iterator<Entry<String, Object>>() {
+
+						@Override
+						public boolean hasNext() {
+							return entries.hasNext();
+						}
+
+						@Override
+						public Entry<String, Object> next() {
+							Entry<String, Object> entry = entries.next();
+							return new SimpleImmutableEntry<>(entry.getKey(), exportView(entry.getValue()));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return content.size();
+				}
+			};
+		}
+	}
+
 	/**
 	 * A string representation of expiration, id and payload.
 	 *
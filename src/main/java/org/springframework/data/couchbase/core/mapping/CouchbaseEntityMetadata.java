@@ -0,0 +1,154 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.mapping;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.env.Environment;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Immutable snapshot of the {@link Document} settings and the projection of a {@link CouchbasePersistentEntity}, taken
+ * once when the entity is registered so that the write, read and query paths do not inspect the annotation or walk the
+ * properties for every operation.
+ * <p>
+ * An {@link Document#expiryExpression() expiry expression} is still resolved against the {@link Environment} on every
+ * {@link #getExpiry()} call, so that changes of the underlying property are honored.
+ *
+ * @since 4.2
+ */
+public final class CouchbaseEntityMetadata {
+
+	private final int expiry;
+	private final @Nullable String expiryExpression;
+	private final TimeUnit expiryUnit;
+	private final boolean touchOnRead;
+	private final @Nullable Environment environment;
+	private final List<String> projectedFields;
+	private final String projection;
+
+	private CouchbaseEntityMetadata(final int expiry, @Nullable final String expiryExpression, final TimeUnit expiryUnit,
+			final boolean touchOnRead, @Nullable final Environment environment, final List<String> projectedFields) {
+		this.expiry = expiry;
+		this.expiryExpression = expiryExpression;
+		this.expiryUnit = expiryUnit;
+		this.touchOnRead = touchOnRead;
+		this.environment = environment;
+		this.projectedFields = projectedFields;
+		this.projection = createProjection(projectedFields);
+	}
+
+	/**
+	 * Takes the snapshot of the given entity. All properties must have been added to the entity.
+	 *
+	 * @param entity the entity.
+	 * @param environment the environment resolving an expiry expression, may be {@literal null} if there is none.
+	 * @return the metadata of the entity.
+	 */
+	public static CouchbaseEntityMetadata of(final CouchbasePersistentEntity<?> entity,
+			@Nullable final Environment environment) {
+		Assert.notNull(entity, "Entity must not be null!");
+		List<String> projectedFields = new ArrayList<>();
+		entity.doWithProperties((PropertyHandler<CouchbasePersistentProperty>) property -> {
+			if (!property.isIdProperty()) {
+				projectedFields.add(property.getName());
+			}
+		});
+		Document annotation = entity.getType().getAnnotation(Document.class);
+		if (annotation == null) {
+			return new CouchbaseEntityMetadata(0, null, TimeUnit.SECONDS, false, environment,
+					Collections.unmodifiableList(projectedFields));
+		}
+		return new CouchbaseEntityMetadata(annotation.expiry(),
+				StringUtils.hasLength(annotation.expiryExpression()) ? annotation.expiryExpression() : null,
+				annotation.expiryUnit(), annotation.touchOnRead(), environment,
+				Collections.unmodifiableList(projectedFields));
+	}
+
+	/**
+	 * Returns the expiration time of the entity in Couchbase format: a TTL in seconds up to
+	 * {@link CouchbasePersistentEntity#TTL_IN_SECONDS_INCLUSIVE_END}, the Unix UTC time of expiry beyond.
+	 *
+	 * @return the expiration time, 0 if the entity does not expire.
+	 */
+	public int getExpiry() {
+		long secondsShift = expiryUnit.toSeconds(getExpiryValue());
+		if (secondsShift > CouchbasePersistentEntity.TTL_IN_SECONDS_INCLUSIVE_END) {
+			// UTC has no daylight saving shifts, so adding days is adding multiples of 86400 seconds
+			// note: Unix UTC time representation in int is okay until year 2038
+			return (int) (System.currentTimeMillis() / 1000 + secondsShift);
+		}
+		return (int) secondsShift;
+	}
+
+	private int getExpiryValue() {
+		if (expiryExpression == null) {
+			return expiry;
+		}
+		Assert.notNull(environment, "Environment must be set to use 'expiryExpression'");
+		String expiryWithReplacedPlaceholders = environment.resolveRequiredPlaceholders(expiryExpression);
+		try {
+			return Integer.parseInt(expiryWithReplacedPlaceholders);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(
+					"Invalid Integer value for expiry expression: " + expiryWithReplacedPlaceholders);
+		}
+	}
+
+	/**
+	 * @return true if direct reads of the entity should reset its expiration.
+	 */
+	public boolean isTouchOnRead() {
+		return touchOnRead && getExpiry() > 0;
+	}
+
+	/**
+	 * @return the names of the properties selected when the entity is the result of a query, without the id.
+	 */
+	public List<String> getProjectedFields() {
+		return projectedFields;
+	}
+
+	/**
+	 * @return the N1QL select list of the {@link #getProjectedFields() projected fields}.
+	 */
+	public String getProjection() {
+		return projection;
+	}
+
+	private static String createProjection(final List<String> fields) {
+		StringBuilder sb = new StringBuilder();
+		for (String field : fields) {
+			if (sb.length() > 0) {
+				sb.append(", ");
+			}
+			sb.append('`').append(field).append('`');
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		return "CouchbaseEntityMetadata{" + "expiry=" + expiry + ", expiryExpression='" + expiryExpression + '\''
+				+ ", expiryUnit=" + expiryUnit + ", touchOnRead=" + touchOnRead + ", projectedFields=" + projectedFields + '}';
+	}
+}
@@ -16,10 +16,14 @@
 
 package org.springframework.data.couchbase.core.mapping;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 
@@ -33,6 +37,13 @@ import org.springframework.data.mapping.model.SimpleTypeHolder;
  */
 public class CouchbaseList implements CouchbaseStorable {
 
+	/**
+	 * The type holders derived from the {@link SimpleTypeHolder}s lists were created with, so that lists created during
+	 * conversion share them instead of deriving a new one each.
+	 */
+	private static final Map<SimpleTypeHolder, SimpleTypeHolder> DERIVED_TYPE_HOLDERS = Collections
+			.synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Contains the actual data to be stored.
 	 */
@@ -77,15 +88,28 @@ public class CouchbaseList implements CouchbaseStorable {
 	public CouchbaseList(final List<Object> initialPayload, final SimpleTypeHolder simpleTypeHolder) {
 		this.payload = initialPayload;
 		if (simpleTypeHolder != null) {
-			Set<Class<?>> additionalTypes = new HashSet<Class<?>>();
-			additionalTypes.add(CouchbaseDocument.class);
-			additionalTypes.add(CouchbaseList.class);
-			this.simpleTypeHolder = new SimpleTypeHolder(additionalTypes, simpleTypeHolder);
+			this.simpleTypeHolder = DERIVED_TYPE_HOLDERS.computeIfAbsent(simpleTypeHolder, parent -> {
+				Set<Class<?>> additionalTypes = new HashSet<Class<?>>();
+				additionalTypes.add(CouchbaseDocument.class);
+				additionalTypes.add(CouchbaseList.class);
+				return new SimpleTypeHolder(additionalTypes, parent);
+			});
 		} else {
 			this.simpleTypeHolder = CouchbaseSimpleTypes.DOCUMENT_TYPES;
 		}
 	}
 
+	/**
+	 * Create a new (empty) list sized to hold the given number of elements, with an existing {@link SimpleTypeHolder}.
+	 *
+	 * @param expectedSize the number of elements expected to be stored.
+	 * @param simpleTypeHolder context instance.
+	 * @since 4.2
+	 */
+	public CouchbaseList(final int expectedSize, final SimpleTypeHolder simpleTypeHolder) {
+		this(new ArrayList<Object>(expectedSize), simpleTypeHolder);
+	}
+
 	/**
 	 * Add content to the underlying list.
 	 *
@@ -99,6 +123,19 @@ public class CouchbaseList implements CouchbaseStorable {
 		return this;
 	}
 
+	/**
+	 * Add content without verifying its type. Meant for values that are known to be storable, such as nested
+	 * {@link CouchbaseDocument}s and {@link CouchbaseList}s created while converting an entity.
+	 *
+	 * @param value the value to be added.
+	 * @return the {@link CouchbaseList} object for chaining purposes.
+	 * @since 4.2
+	 */
+	public final CouchbaseList putUnchecked(final Object value) {
+		payload.add(value);
+		return this;
+	}
+
 	/**
 	 * Return the stored element at the given index.
 	 *
@@ -156,17 +193,37 @@ public class CouchbaseList implements CouchbaseStorable {
 		int elem = 0;
 		for (Object entry : payload) {
 			if (entry instanceof CouchbaseDocument) {
-				toExport.remove(elem);
-				toExport.add(elem, ((CouchbaseDocument) entry).export());
+				toExport.set(elem, ((CouchbaseDocument) entry).export());
 			} else if (entry instanceof CouchbaseList) {
-				toExport.remove(elem);
-				toExport.add(elem, ((CouchbaseList) entry).export());
+				toExport.set(elem, ((CouchbaseList) entry).export());
 			}
 			elem++;
 		}
 		return toExport;
 	}
 
+	/**
+	 * Returns a read-only view of the payload, including all recursive elements, that presents nested documents and lists
+	 * as {@link Map}s and {@link List}s like {@link #export()} does, but without copying anything.
+	 *
+	 * @return the read-only view of the payload.
+	 * @since 4.2
+	 */
+	public final List<Object> exportView() {
+		return new AbstractList<Object>() {
+
+			@Override
+			public Object get(final int index) {
+				return CouchbaseDocument.exportView(payload.get(index));
+			}
+
+			@Override
+			public int size() {
+				return payload.size();
+			}
+		};
+	}
+
 	/**
 	 * Returns true if it contains the given value.
 	 *
@@ -48,4 +48,15 @@ public interface CouchbasePersistentEntity<T> extends PersistentEntity<T, Couchb
 	 */
 	boolean isTouchOnRead();
 
+	/**
+	 * Returns the {@link CouchbaseEntityMetadata} of the entity. The default implementation takes a new snapshot on every
+	 * call, implementations should cache it once all properties have been added.
+	 *
+	 * @return the metadata of the entity.
+	 * @since 4.2
+	 */
+	default CouchbaseEntityMetadata getMetadata() {
+		return CouchbaseEntityMetadata.of(this, null);
+	}
+
 }
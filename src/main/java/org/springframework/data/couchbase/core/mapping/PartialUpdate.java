@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Saves only the changed fields of an entity with a sub-document mutation, instead of replacing the whole document.
+ * <p>
+ * A fingerprint of each top-level field is kept when an entity is read, and after it is saved. When the entity is
+ * saved again with the same {@link org.springframework.data.annotation.Version version}, only the fields whose
+ * fingerprints differ are sent, protected by the CAS of the version. The whole document is written as usual when the
+ * entity has no version, was not read by this template, or when more than {@link #maxChangedFields()} fields changed.
+ * <p>
+ * The fingerprints are held softly, so they take no memory the application needs, at the cost of a full write now
+ * and then.
+ *
+ * @since 4.2
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface PartialUpdate {
+
+	/**
+	 * The most top-level fields that may be changed by a partial update, at most 16, the limit of a sub-document
+	 * mutation. Saves changing more fields replace the whole document.
+	 */
+	int maxChangedFields() default 16;
+
+}
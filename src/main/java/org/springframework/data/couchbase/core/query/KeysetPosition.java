@@ -0,0 +1,190 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.json.JsonObject;
+
+/**
+ * Position of a keyset (seek) pagination: the values of the sort properties and the document id of the last row
+ * returned. A {@link Query} seeking {@link Query#with(KeysetPosition) past} the position only returns rows ordered
+ * after it, so every page costs the same regardless of its depth and no rows are skipped by {@code OFFSET}.
+ * <p>
+ * The position can be handed to clients as an opaque {@link #toToken() continuation token}.
+ *
+ * @since 4.2
+ */
+public final class KeysetPosition implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final KeysetPosition INITIAL = new KeysetPosition(Collections.emptyMap(), null);
+
+	private static final String KEYS = "k";
+	private static final String ID = "id";
+
+	private final Map<String, Object> keys;
+	private final @Nullable String id;
+
+	private KeysetPosition(final Map<String, Object> keys, @Nullable final String id) {
+		this.keys = keys;
+		this.id = id;
+	}
+
+	/**
+	 * @return the position before the first row.
+	 */
+	public static KeysetPosition initial() {
+		return INITIAL;
+	}
+
+	/**
+	 * Creates the position of a row.
+	 *
+	 * @param keys the values of the sort properties of the row, as stored in the document.
+	 * @param id the document id of the row.
+	 * @return the position after which the next page starts.
+	 */
+	public static KeysetPosition of(final Map<String, Object> keys, final String id) {
+		Assert.notNull(keys, "Keys must not be null!");
+		Assert.hasText(id, "Id must not be null nor empty!");
+		return new KeysetPosition(Collections.unmodifiableMap(new LinkedHashMap<>(keys)), id);
+	}
+
+	/**
+	 * Creates the position of the given entity, taking the values of the sort properties from the entity, converted as
+	 * they would be stored. Keyset pagination cannot seek past a {@literal null} sort value, so every sort property of
+	 * the entity must be set.
+	 *
+	 * @param entity the last entity of a page.
+	 * @param sort the sort of the page.
+	 * @param converter the converter writing the entity.
+	 * @return the position after which the next page starts.
+	 * @throws IllegalArgumentException if a sort property of the entity is {@literal null}.
+	 */
+	public static KeysetPosition after(final Object entity, final Sort sort, final CouchbaseConverter converter) {
+		Assert.notNull(entity, "Entity must not be null!");
+		Assert.notNull(sort, "Sort must not be null!");
+		CouchbasePersistentEntity<?> persistentEntity = converter.getMappingContext()
+				.getRequiredPersistentEntity(entity.getClass());
+		PersistentPropertyAccessor<Object> accessor = persistentEntity.getPropertyAccessor(entity);
+		Map<String, Object> keys = new LinkedHashMap<>();
+		for (Sort.Order order : sort) {
+			Object value = accessor.getProperty(
+					converter.getMappingContext().getPersistentPropertyPath(order.getProperty(), entity.getClass()));
+			Assert.notNull(value, () -> "Sort property " + order.getProperty() + " of " + entity.getClass().getName()
+					+ " must not be null for keyset pagination!");
+			keys.put(order.getProperty(), storedValue(value, converter));
+		}
+		CouchbasePersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+		Object id = accessor.getProperty(idProperty);
+		Assert.notNull(id, "Id of " + entity.getClass().getName() + " must not be null!");
+		return of(keys, id.toString());
+	}
+
+	/**
+	 * Restores a position from a token created by {@link #toToken()}.
+	 *
+	 * @param token the continuation token.
+	 * @return the position.
+	 */
+	public static KeysetPosition fromToken(final String token) {
+		Assert.hasText(token, "Token must not be null nor empty!");
+		JsonObject json = JsonObject.fromJson(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+		if (!json.containsKey(ID)) {
+			return INITIAL;
+		}
+		return of(json.getObject(KEYS).toMap(), json.getString(ID));
+	}
+
+	/**
+	 * @return an opaque, URL safe representation of this position.
+	 */
+	public String toToken() {
+		JsonObject json = JsonObject.create();
+		if (!isInitial()) {
+			json.put(KEYS, JsonObject.from(keys)).put(ID, id);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(json.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return true if this is the position before the first row.
+	 */
+	public boolean isInitial() {
+		return id == null;
+	}
+
+	/**
+	 * @return the values of the sort properties of the row.
+	 */
+	public Map<String, Object> getKeys() {
+		return keys;
+	}
+
+	/**
+	 * @return the document id of the row, {@literal null} for the {@link #initial()} position.
+	 */
+	@Nullable
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * Converts a sort value as it is written to the document, so that it compares with the stored value.
+	 */
+	private static Object storedValue(final Object value, final CouchbaseConverter converter) {
+		Object converted = converter.convertForWriteIfNeeded(value);
+		return converted instanceof Enum ? ((Enum<?>) converted).name() : converted;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		KeysetPosition that = (KeysetPosition) o;
+		return keys.equals(that.keys) && Objects.equals(id, that.id);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(keys, id);
+	}
+
+	@Override
+	public String toString() {
+		return "KeysetPosition{" + "keys=" + keys + ", id='" + id + '\'' + '}';
+	}
+}
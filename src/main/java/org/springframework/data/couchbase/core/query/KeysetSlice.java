@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link org.springframework.data.domain.Slice} read by keyset pagination. It knows whether a next page exists
+ * without counting the matching documents, and carries the {@link KeysetPosition} to continue from.
+ *
+ * @param <T> the type of the content.
+ * @since 4.2
+ */
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final @Nullable KeysetPosition nextPosition;
+
+	/**
+	 * Creates a new {@link KeysetSlice}.
+	 *
+	 * @param content the content of the slice.
+	 * @param pageable the size and sort of the slice.
+	 * @param nextPosition the position to continue from, {@literal null} if this is the last slice.
+	 */
+	public KeysetSlice(List<T> content, Pageable pageable, @Nullable KeysetPosition nextPosition) {
+		super(content, pageable, nextPosition != null);
+		this.nextPosition = nextPosition;
+	}
+
+	/**
+	 * @return the position to read the next slice from, {@literal null} if this is the last slice.
+	 */
+	@Nullable
+	public KeysetPosition getNextPosition() {
+		return nextPosition;
+	}
+}
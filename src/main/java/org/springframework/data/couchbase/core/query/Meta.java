@@ -15,8 +15,11 @@
  */
 package org.springframework.data.couchbase.core.query;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -25,6 +28,8 @@ import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
+import com.couchbase.client.java.query.QueryProfile;
+
 /**
  * Meta-data for {@link Query} instances.
  *
@@ -33,7 +38,17 @@ import org.springframework.util.StringUtils;
 public class Meta {
 
 	private enum MetaKey {
-		EXAMPLE("$example");
+		EXAMPLE("$example"), //
+		TIMEOUT("timeout"), //
+		MAX_PARALLELISM("maxParallelism"), //
+		SCAN_CAP("scanCap"), //
+		SCAN_WAIT("scanWait"), //
+		PIPELINE_BATCH("pipelineBatch"), //
+		PIPELINE_CAP("pipelineCap"), //
+		READONLY("readonly"), //
+		FLEX_INDEX("flexIndex"), //
+		PROFILE("profile"), //
+		USE_INDEX("useIndex");
 
 		private String key;
 
@@ -72,6 +87,160 @@ public class Meta {
 		return Collections.unmodifiableSet(this.values.entrySet());
 	}
 
+	/**
+	 * Set the timeout of the query.
+	 *
+	 * @param timeout the timeout, {@literal null} for the default.
+	 * @since 4.2
+	 */
+	public void setTimeout(@Nullable Duration timeout) {
+		setValue(MetaKey.TIMEOUT.key, timeout);
+	}
+
+	@Nullable
+	public Duration getTimeout() {
+		return getValue(MetaKey.TIMEOUT.key);
+	}
+
+	/**
+	 * Set the maximum parallelism of the query.
+	 *
+	 * @param maxParallelism the maximum parallelism, {@literal null} for the default.
+	 * @since 4.2
+	 */
+	public void setMaxParallelism(@Nullable Integer maxParallelism) {
+		setValue(MetaKey.MAX_PARALLELISM.key, maxParallelism);
+	}
+
+	@Nullable
+	public Integer getMaxParallelism() {
+		return getValue(MetaKey.MAX_PARALLELISM.key);
+	}
+
+	/**
+	 * Set the maximum buffered channel size between the indexer and the query service.
+	 *
+	 * @param scanCap the scan cap, {@literal null} for the default.
+	 * @since 4.2
+	 */
+	public void setScanCap(@Nullable Integer scanCap) {
+		setValue(MetaKey.SCAN_CAP.key, scanCap);
+	}
+
+	@Nullable
+	public Integer getScanCap() {
+		return getValue(MetaKey.SCAN_CAP.key);
+	}
+
+	/**
+	 * Set how long the indexer may wait to catch up with the scan consistency.
+	 *
+	 * @param scanWait the scan wait, {@literal null} for the default.
+	 * @since 4.2
+	 */
+	public void setScanWait(@Nullable Duration scanWait) {
+		setValue(MetaKey.SCAN_WAIT.key, scanWait);
+	}
+
+	@Nullable
+	public Duration getScanWait() {
+		return getValue(MetaKey.SCAN_WAIT.key);
+	}
+
+	/**
+	 * Set the number of items fetched in a batch from the data service.
+	 *
+	 * @param pipelineBatch the pipeline batch, {@literal null} for the default.
+	 * @since 4.2
+	 */
+	public void setPipelineBatch(@Nullable Integer pipelineBatch) {
+		setValue(MetaKey.PIPELINE_BATCH.key, pipelineBatch);
+	}
+
+	@Nullable
+	public Integer getPipelineBatch() {
+		return getValue(MetaKey.PIPELINE_BATCH.key);
+	}
+
+	/**
+	 * Set the maximum number of items each execution operator buffers.
+	 *
+	 * @param pipelineCap the pipeline cap, {@literal null} for the default.
+	 * @since 4.2
+	 */
+	public void setPipelineCap(@Nullable Integer pipelineCap) {
+		setValue(MetaKey.PIPELINE_CAP.key, pipelineCap);
+	}
+
+	@Nullable
+	public Integer getPipelineCap() {
+		return getValue(MetaKey.PIPELINE_CAP.key);
+	}
+
+	/**
+	 * Mark the query as read-only.
+	 *
+	 * @param readonly whether the query is read-only, {@literal null} for the default.
+	 * @since 4.2
+	 */
+	public void setReadonly(@Nullable Boolean readonly) {
+		setValue(MetaKey.READONLY.key, readonly);
+	}
+
+	@Nullable
+	public Boolean getReadonly() {
+		return getValue(MetaKey.READONLY.key);
+	}
+
+	/**
+	 * Allow the query to use full text search indexes.
+	 *
+	 * @param flexIndex whether full text search indexes may be used, {@literal null} for the default.
+	 * @since 4.2
+	 */
+	public void setFlexIndex(@Nullable Boolean flexIndex) {
+		setValue(MetaKey.FLEX_INDEX.key, flexIndex);
+	}
+
+	@Nullable
+	public Boolean getFlexIndex() {
+		return getValue(MetaKey.FLEX_INDEX.key);
+	}
+
+	/**
+	 * Set the profile information returned with the results.
+	 *
+	 * @param profile the profile mode, {@literal null} for the default.
+	 * @since 4.2
+	 */
+	public void setProfile(@Nullable QueryProfile profile) {
+		setValue(MetaKey.PROFILE.key, profile);
+	}
+
+	@Nullable
+	public QueryProfile getProfile() {
+		return getValue(MetaKey.PROFILE.key);
+	}
+
+	/**
+	 * Set the indexes the query should use.
+	 *
+	 * @param indexNames the index names, none for no hint.
+	 * @since 4.2
+	 */
+	public void setUseIndex(String... indexNames) {
+		setValue(MetaKey.USE_INDEX.key,
+				indexNames == null || indexNames.length == 0 ? null : Collections.unmodifiableList(Arrays.asList(indexNames)));
+	}
+
+	/**
+	 * @return the indexes the query should use, empty for no hint.
+	 * @since 4.2
+	 */
+	public List<String> getUseIndex() {
+		return getValue(MetaKey.USE_INDEX.key, Collections.emptyList());
+	}
+
 	/**
 	 * Sets or removes the value in case of {@literal null} or empty {@link String}.
 	 *
@@ -84,8 +253,9 @@ public class Meta {
 
 		if (value == null || (value instanceof String && !StringUtils.hasText((String) value))) {
 			this.values.remove(key);
+		} else {
+			this.values.put(key, value);
 		}
-		this.values.put(key, value);
 	}
 
 	@Nullable
@@ -67,4 +67,10 @@ public @interface N1qlJoin {
 	 * Use keys query hint
 	 */
 	String[] keys() default {};
+
+	/**
+	 * Maximum number of parent entities whose associated entities are fetched with a single join query. Lazy joins load
+	 * the associated entities of the whole batch the first time one of them is accessed.
+	 */
+	int batchSize() default 100;
 }
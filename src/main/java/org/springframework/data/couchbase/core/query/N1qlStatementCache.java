@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Holds the N1QL statements generated for {@link Query queries} of a fixed shape, such as the queries derived from a
+ * repository method. A statement is cached per collection, domain type, projection, count/select/exists variant and
+ * index hint, up to the criteria; sort, limit and offset are appended per execution and the criteria only bind their
+ * parameter values.
+ *
+ * @since 4.2
+ * @see Query#prepared(N1qlStatementCache)
+ */
+public class N1qlStatementCache {
+
+	private final ConcurrentMap<List<Object>, String> statements = new ConcurrentHashMap<>();
+
+	static List<Object> key(@Nullable String collectionName, Class<?> domainClass, @Nullable Class<?> returnClass,
+			boolean isCount, @Nullable String[] distinctFields, List<String> useIndex) {
+		return Arrays.asList(collectionName, domainClass, returnClass, isCount,
+				distinctFields == null ? null : Arrays.asList(distinctFields), useIndex);
+	}
+
+	static List<Object> existsKey(@Nullable String collectionName, Class<?> domainClass, List<String> useIndex) {
+		return Arrays.asList(collectionName, domainClass, "exists", useIndex);
+	}
+
+	@Nullable
+	String get(List<Object> key) {
+		return statements.get(key);
+	}
+
+	void put(List<Object> key, String statement) {
+		statements.putIfAbsent(key, statement);
+	}
+
+	/**
+	 * @return the number of cached statements.
+	 */
+	public int size() {
+		return statements.size();
+	}
+
+	/**
+	 * Drops all cached statements.
+	 */
+	public void clear() {
+		statements.clear();
+	}
+}
@@ -16,7 +16,9 @@
 package org.springframework.data.couchbase.core.query;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -24,12 +26,9 @@ import org.springframework.data.couchbase.core.ReactiveCouchbaseTemplate;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.repository.query.StringBasedN1qlQueryParser;
-import org.springframework.data.couchbase.repository.support.MappingCouchbaseEntityInformation;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.Alias;
-import org.springframework.data.util.ClassTypeInformation;
-import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 
 import com.couchbase.client.java.json.JsonArray;
@@ -50,6 +49,10 @@ public class Query {
 	private int limit;
 	private Sort sort = Sort.unsorted();
 	private QueryScanConsistency queryScanConsistency;
+	private boolean adhoc = true;
+	private N1qlStatementCache statementCache;
+	private KeysetPosition keyset;
+	private Meta meta;
 
 	static private final Pattern WHERE_PATTERN = Pattern.compile("\\sWHERE\\s");
 
@@ -134,6 +137,22 @@ public class Query {
 		return with(pageable.getSort());
 	}
 
+	/**
+	 * Seek past the given position instead of skipping rows: only rows ordered after the position by the {@link Sort} of
+	 * this query, followed by the document id as a tie breaker, are returned. Any {@link #skip(long) skip} is dropped.
+	 * The sort properties of the rows must not be {@literal null} or missing.
+	 *
+	 * @param position the position of the last row of the previous page.
+	 * @return this
+	 * @since 4.2
+	 */
+	public Query with(final KeysetPosition position) {
+		Assert.notNull(position, "KeysetPosition must not be null!");
+		this.keyset = position;
+		this.skip = 0;
+		return this;
+	}
+
 	/**
 	 * queryScanConsistency
 	 *
@@ -154,6 +173,43 @@ public class Query {
 		return this;
 	}
 
+	/**
+	 * Run the query as a prepared statement, so the query service plans it once and reuses the plan, and take the
+	 * statement text from the given cache instead of generating it again. Only the parameter values of the criteria are
+	 * bound per execution, so the cache must only be shared by queries of the same shape.
+	 *
+	 * @param statementCache the statements generated for queries of the same shape.
+	 * @return this
+	 * @since 4.2
+	 */
+	public Query prepared(final N1qlStatementCache statementCache) {
+		Assert.notNull(statementCache, "N1qlStatementCache must not be null!");
+		this.statementCache = statementCache;
+		this.adhoc = false;
+		return this;
+	}
+
+	/**
+	 * Whether the query is sent adhoc, that is planned by the query service on every execution, or as a prepared
+	 * statement.
+	 *
+	 * @param adhoc false to run the query as a prepared statement.
+	 * @return this
+	 * @since 4.2
+	 */
+	public Query adhoc(final boolean adhoc) {
+		this.adhoc = adhoc;
+		return this;
+	}
+
+	/**
+	 * @return true if the query is planned on every execution, false if it runs as a prepared statement.
+	 * @since 4.2
+	 */
+	public boolean isAdhoc() {
+		return adhoc;
+	}
+
 	/**
 	 * Adds a {@link Sort} to the {@link Query} instance.
 	 *
@@ -276,17 +332,142 @@ public class Query {
 
 	public String toN1qlSelectString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass,
 			Class returnClass, boolean isCount, String[] distinctFields) {
-		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass,
-				returnClass, isCount, distinctFields);
 		final StringBuilder statement = new StringBuilder();
-		appendString(statement, n1ql.selectEntity); // select ...
-		appendWhereString(statement, n1ql.filter); // typeKey = typeValue
-		appendWhere(statement, new int[] { 0 }, template.getConverter()); // criteria on this Query
+		final int[] paramIndexPtr = new int[] { 0 };
+		List<Object> cacheKey = statementCache != null
+				? N1qlStatementCache.key(collectionName, domainClass, returnClass, isCount, distinctFields, getUseIndex())
+				: null;
+		String cached = cacheKey != null ? statementCache.get(cacheKey) : null;
+		if (cached != null) {
+			appendString(statement, cached);
+			bindParameters(paramIndexPtr, template.getConverter());
+		} else {
+			StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass,
+					returnClass, isCount, distinctFields);
+			appendString(statement, n1ql.selectEntity); // select ...
+			appendUseIndex(statement);
+			appendWhereString(statement, n1ql.filter); // typeKey = typeValue
+			appendWhere(statement, paramIndexPtr, template.getConverter()); // criteria on this Query
+			if (cacheKey != null) {
+				statementCache.put(cacheKey, statement.toString());
+			}
+		}
+		boolean seek = keyset != null && !isCount && distinctFields == null;
+		String documentId = "META(" + N1QLExpression.i(collectionName != null ? collectionName : template.getBucketName())
+				+ ").id";
+		if (seek && !keyset.isInitial()) {
+			appendKeyset(statement, documentId, paramIndexPtr);
+		}
 		appendSort(statement);
+		if (seek) {
+			statement.append(sort.isUnsorted() ? " ORDER BY " : ",").append(documentId).append(" ASC");
+		}
 		appendSkipAndLimit(statement);
 		return statement.toString();
 	}
 
+	/**
+	 * Creates a statement returning a single constant row if any document matches this query, so that the query service
+	 * can stop at the first match instead of counting them all. Sort, skip and limit do not change whether a document
+	 * matches and are left out.
+	 *
+	 * @param template the template.
+	 * @param collectionName the collection, {@literal null} for the default collection.
+	 * @param domainClass the entity type.
+	 * @return the statement.
+	 * @since 4.2
+	 */
+	public String toN1qlExistsString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass) {
+		final StringBuilder statement = new StringBuilder();
+		final int[] paramIndexPtr = new int[] { 0 };
+		List<Object> cacheKey = statementCache != null
+				? N1qlStatementCache.existsKey(collectionName, domainClass, getUseIndex())
+				: null;
+		String cached = cacheKey != null ? statementCache.get(cacheKey) : null;
+		if (cached != null) {
+			appendString(statement, cached);
+			bindParameters(paramIndexPtr, template.getConverter());
+		} else {
+			StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass, null,
+					false, null);
+			appendString(statement, "SELECT RAW 1 FROM " + N1QLExpression.i(n1ql.bucket));
+			appendUseIndex(statement);
+			appendWhereString(statement, n1ql.filter); // typeKey = typeValue
+			appendWhere(statement, paramIndexPtr, template.getConverter()); // criteria on this Query
+			if (cacheKey != null) {
+				statementCache.put(cacheKey, statement.toString());
+			}
+		}
+		statement.append(" LIMIT 1");
+		return statement.toString();
+	}
+
+	/**
+	 * Appends the {@code USE INDEX} hint of the {@link Meta}, if any, after the keyspace.
+	 */
+	private void appendUseIndex(final StringBuilder sb) {
+		List<String> useIndex = getUseIndex();
+		if (!useIndex.isEmpty()) {
+			sb.append(" USE INDEX (").append(useIndex.stream().map(N1QLExpression::i).collect(Collectors.joining(", ")))
+					.append(")");
+		}
+	}
+
+	private List<String> getUseIndex() {
+		return meta != null ? meta.getUseIndex() : Collections.emptyList();
+	}
+
+	/**
+	 * Appends the predicate selecting the rows after the keyset position: {@code (a > $1) OR (a = $1 AND META().id > $2)}
+	 * for a sort on {@code a}, comparing with {@code <} for descending orders.
+	 */
+	private void appendKeyset(final StringBuilder sb, final String documentId, final int[] paramIndexPtr) {
+		List<Sort.Order> orders = sort.toList();
+		List<String> values = new ArrayList<>(orders.size() + 1);
+		for (Sort.Order order : orders) {
+			Assert.isTrue(keyset.getKeys().containsKey(order.getProperty()),
+					"KeysetPosition does not contain sort property " + order.getProperty() + "!");
+			values.add(bindKeysetValue(keyset.getKeys().get(order.getProperty()), values.size(), paramIndexPtr));
+		}
+		values.add(bindKeysetValue(keyset.getId(), values.size(), paramIndexPtr));
+
+		StringBuilder predicate = new StringBuilder("(");
+		for (int i = 0; i <= orders.size(); i++) {
+			predicate.append(i == 0 ? "(" : " OR (");
+			for (int j = 0; j < i; j++) {
+				predicate.append(orders.get(j).getProperty()).append(" = ").append(values.get(j)).append(" AND ");
+			}
+			if (i < orders.size()) {
+				predicate.append(orders.get(i).getProperty()).append(orders.get(i).isAscending() ? " > " : " < ");
+			} else {
+				predicate.append(documentId).append(" > ");
+			}
+			predicate.append(values.get(i)).append(")");
+		}
+		predicate.append(")");
+		appendWhereString(sb, predicate.toString());
+	}
+
+	private String bindKeysetValue(final Object value, final int index, final int[] paramIndexPtr) {
+		if (parameters instanceof JsonObject) {
+			String name = "__keyset" + index;
+			((JsonObject) parameters).put(name, value);
+			return "$" + name;
+		}
+		((JsonArray) parameters).add(value);
+		return "$" + (++paramIndexPtr[0]);
+	}
+
+	/**
+	 * Adds the parameter values of the criteria to the parameters of this query, as {@link #appendWhere} would, without
+	 * rendering the statement.
+	 */
+	private void bindParameters(int[] paramIndexPtr, CouchbaseConverter converter) {
+		for (QueryCriteriaDefinition c : criteria) {
+			c.export(paramIndexPtr, parameters, converter);
+		}
+	}
+
 	public String toN1qlRemoveString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass) {
 		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass, null,
 				false, null);
@@ -298,15 +479,87 @@ public class Query {
 		return statement.toString();
 	}
 
+	/**
+	 * Creates a statement removing the matching documents without returning them, optionally only those in a range of
+	 * document ids and at most {@code limit} of them. The bounds of the id range are bound as named parameters.
+	 *
+	 * @param template the template.
+	 * @param collectionName the collection, {@literal null} for the default collection.
+	 * @param domainClass the entity type.
+	 * @param idFromParameter the name of the parameter holding the inclusive lower bound of the ids, {@literal null} for
+	 *          none.
+	 * @param idToParameter the name of the parameter holding the exclusive upper bound of the ids, {@literal null} for
+	 *          none.
+	 * @param limit the maximum number of documents removed, 0 for no limit.
+	 * @return the statement.
+	 * @since 4.2
+	 */
+	public String toN1qlRemoveString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass,
+			String idFromParameter, String idToParameter, int limit) {
+		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass, null,
+				false, null);
+		String documentId = "META(" + N1QLExpression.i(collectionName != null ? collectionName : template.getBucketName())
+				+ ").id";
+		final StringBuilder statement = new StringBuilder();
+		appendString(statement, n1ql.delete); // delete ...
+		appendWhereString(statement, n1ql.filter); // typeKey = typeValue
+		appendWhere(statement, null, template.getConverter()); // criteria on this Query
+		if (idFromParameter != null) {
+			appendWhereString(statement, documentId + " >= $" + idFromParameter);
+		}
+		if (idToParameter != null) {
+			appendWhereString(statement, documentId + " < $" + idToParameter);
+		}
+		if (limit > 0) {
+			statement.append(" LIMIT ").append(limit);
+		}
+		return statement.toString();
+	}
+
+	/**
+	 * Creates a statement applying the given update to the matching documents. The values of the update are bound as
+	 * parameters of this query, ahead of the parameters of the criteria.
+	 *
+	 * @param template the template.
+	 * @param collectionName the collection, {@literal null} for the default collection.
+	 * @param domainClass the entity type.
+	 * @param update the changes applied to the documents.
+	 * @param returnClass the type the updated documents are returned as, {@literal null} to return nothing.
+	 * @return the statement.
+	 * @since 4.2
+	 */
+	public String toN1qlUpdateString(ReactiveCouchbaseTemplate template, String collectionName, Class domainClass,
+			Update update, Class returnClass) {
+		Assert.notNull(update, "Update must not be null!");
+		StringBasedN1qlQueryParser.N1qlSpelValues n1ql = getN1qlSpelValues(template, collectionName, domainClass, null,
+				false, null);
+		// the values of the update and the criteria are bound after any parameters already set, named or positional
+		final int[] paramIndexPtr = parameters instanceof JsonArray ? new int[] { ((JsonArray) parameters).size() }
+				: new int[] { -1 };
+		final StringBuilder statement = new StringBuilder();
+		appendString(statement, "UPDATE " + N1QLExpression.i(n1ql.bucket)); // update ...
+		appendString(statement, update.export(domainClass, template.getConverter(), parameters, paramIndexPtr));
+		appendWhereString(statement, n1ql.filter); // typeKey = typeValue
+		appendWhere(statement, paramIndexPtr, template.getConverter()); // criteria on this Query
+		if (limit > 0) {
+			statement.append(" LIMIT ").append(limit);
+		}
+		if (returnClass != null) {
+			String projection = returnClass.equals(domainClass) ? N1QLExpression.i(n1ql.bucket) + ".*"
+					: template.getConverter().getMappingContext().getRequiredPersistentEntity(returnClass).getMetadata()
+							.getProjection();
+			statement.append(" RETURNING ").append(n1ql.fields).append(", ").append(projection);
+		}
+		return statement.toString();
+	}
+
 	StringBasedN1qlQueryParser.N1qlSpelValues getN1qlSpelValues(ReactiveCouchbaseTemplate template, String collectionName,
 			Class domainClass, Class returnClass, boolean isCount, String[] distinctFields) {
 		String typeKey = template.getConverter().getTypeKey();
 		final CouchbasePersistentEntity<?> persistentEntity = template.getConverter().getMappingContext()
 				.getRequiredPersistentEntity(domainClass);
-		MappingCouchbaseEntityInformation<?, Object> info = new MappingCouchbaseEntityInformation<>(persistentEntity);
-		String typeValue = info.getJavaType().getName();
-		TypeInformation<?> typeInfo = ClassTypeInformation.from(info.getJavaType());
-		Alias alias = template.getConverter().getTypeAlias(typeInfo);
+		String typeValue = persistentEntity.getType().getName();
+		Alias alias = template.getConverter().getTypeAlias(persistentEntity.getTypeInformation());
 		if (alias != null && alias.isPresent()) {
 			typeValue = alias.toString();
 		}
@@ -317,7 +570,7 @@ public class Query {
 	}
 
 	/**
-	 * build QueryOptions from parameters and scanConsistency
+	 * build QueryOptions from parameters, scanConsistency and the {@link Meta} of the query
 	 *
 	 * @param scanConsistency
 	 * @return QueryOptions
@@ -334,12 +587,62 @@ public class Query {
 		if (scanConsistency != null) {
 			options.scanConsistency(scanConsistency);
 		}
+		if (!adhoc) {
+			options.adhoc(false);
+		}
+		if (meta != null) {
+			applyMeta(options);
+		}
 
 		return options;
 	}
 
-	public void setMeta(Meta metaAnnotation) {
-		Meta meta = metaAnnotation;
+	private void applyMeta(final QueryOptions options) {
+		if (meta.getTimeout() != null) {
+			options.timeout(meta.getTimeout());
+		}
+		if (meta.getMaxParallelism() != null) {
+			options.maxParallelism(meta.getMaxParallelism());
+		}
+		if (meta.getScanCap() != null) {
+			options.scanCap(meta.getScanCap());
+		}
+		if (meta.getScanWait() != null) {
+			options.scanWait(meta.getScanWait());
+		}
+		if (meta.getPipelineBatch() != null) {
+			options.pipelineBatch(meta.getPipelineBatch());
+		}
+		if (meta.getPipelineCap() != null) {
+			options.pipelineCap(meta.getPipelineCap());
+		}
+		if (meta.getReadonly() != null) {
+			options.readonly(meta.getReadonly());
+		}
+		if (meta.getFlexIndex() != null) {
+			options.flexIndex(meta.getFlexIndex());
+		}
+		if (meta.getProfile() != null) {
+			options.profile(meta.getProfile());
+		}
+	}
+
+	/**
+	 * Sets the query options and hints of the query, such as the ones of a
+	 * {@link org.springframework.data.couchbase.repository.Meta} annotated repository method.
+	 *
+	 * @param meta the query options and hints, {@literal null} for none.
+	 */
+	public void setMeta(Meta meta) {
+		this.meta = meta != null ? new Meta(meta) : null;
+	}
+
+	/**
+	 * @return the query options and hints of the query, {@literal null} if none are set.
+	 * @since 4.2
+	 */
+	public Meta getMeta() {
+		return meta;
 	}
 
 }
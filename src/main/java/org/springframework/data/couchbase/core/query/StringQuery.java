@@ -35,6 +35,8 @@ import com.couchbase.client.java.json.JsonValue;
  */
 public class StringQuery extends Query {
 
+	private static final String EXISTS_ALIAS = "__exists";
+
 	private String inlineN1qlQuery;
 
 	public StringQuery(String n1qlString) {
@@ -73,4 +75,20 @@ public class StringQuery extends Query {
 		appendSkipAndLimit(statement);
 		return statement.toString();
 	}
+
+	/**
+	 * The inline statement selects its own projection, which may be the count of the matching documents selected as
+	 * {@code __count}, and may end with its own limit and offset. It is therefore run as a subquery, of which the first
+	 * row is returned: the match is then told by the row, or by the count it holds.
+	 */
+	@Override
+	public String toN1qlExistsString(ReactiveCouchbaseTemplate template, String collection, Class domainClass) {
+		final StringBuilder statement = new StringBuilder("SELECT RAW " + EXISTS_ALIAS + " FROM (");
+		appendInlineN1qlStatement(statement);
+		JsonValue params = this.getParameters();
+		int[] paramIndexPtr = params instanceof JsonArray ? new int[] { ((JsonArray) params).size() } : new int[] { -1 };
+		appendWhere(statement, paramIndexPtr, template.getConverter());
+		statement.append(") AS " + EXISTS_ALIAS + " LIMIT 1");
+		return statement.toString();
+	}
 }
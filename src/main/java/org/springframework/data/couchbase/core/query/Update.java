@@ -0,0 +1,205 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.json.JsonValue;
+
+/**
+ * The changes applied by an update by query, rendered as the {@code SET} and {@code UNSET} clauses of a N1QL
+ * {@code UPDATE} statement. Paths are property paths of the domain type, such as {@literal address.city}, and are
+ * mapped to the field names of the stored documents; values are converted like the properties of the entities and
+ * bound as parameters.
+ *
+ * <pre class="code">
+ * template.updateByQuery(Order.class).matching(where("createdAt").lt(cutoff)).apply(update("status", ARCHIVED))
+ * 		.countUpdated();
+ * </pre>
+ *
+ * @since 4.2
+ */
+public class Update {
+
+	private enum Operation {
+		SET, INC, UNSET
+	}
+
+	private final Map<String, Operation> operations = new LinkedHashMap<>();
+	private final Map<String, Object> values = new LinkedHashMap<>();
+
+	/**
+	 * Creates an update setting the given path to the given value.
+	 *
+	 * @param path the property path.
+	 * @param value the value, may be {@literal null}.
+	 * @return the update.
+	 */
+	public static Update update(String path, @Nullable Object value) {
+		return new Update().set(path, value);
+	}
+
+	/**
+	 * Sets the given path to the given value.
+	 *
+	 * @param path the property path.
+	 * @param value the value, may be {@literal null}.
+	 * @return this
+	 */
+	public Update set(String path, @Nullable Object value) {
+		return add(path, Operation.SET, value);
+	}
+
+	/**
+	 * Removes the given path from the documents.
+	 *
+	 * @param path the property path.
+	 * @return this
+	 */
+	public Update unset(String path) {
+		return add(path, Operation.UNSET, null);
+	}
+
+	/**
+	 * Adds the given delta to the number at the given path, which is 0 if missing or null.
+	 *
+	 * @param path the property path.
+	 * @param delta the delta, negative to decrement.
+	 * @return this
+	 */
+	public Update inc(String path, Number delta) {
+		Assert.notNull(delta, "Delta must not be null!");
+		return add(path, Operation.INC, delta);
+	}
+
+	/**
+	 * @return true if the update changes nothing.
+	 */
+	public boolean isEmpty() {
+		return operations.isEmpty();
+	}
+
+	private Update add(String path, Operation operation, @Nullable Object value) {
+		Assert.hasText(path, "Path must not be null nor empty!");
+		// a later change of a path replaces the earlier one, as a path can only appear once in a statement
+		operations.remove(path);
+		operations.put(path, operation);
+		values.put(path, value);
+		return this;
+	}
+
+	/**
+	 * Renders the {@code SET} and {@code UNSET} clauses, binding the values to the given parameters.
+	 *
+	 * @param domainClass the entity type, whose properties the paths refer to.
+	 * @param converter the converter of the values.
+	 * @param parameters the parameters of the statement, positional or named.
+	 * @param paramIndexPtr the index of the last positional parameter.
+	 * @return the clauses.
+	 */
+	String export(Class<?> domainClass, CouchbaseConverter converter, JsonValue parameters, int[] paramIndexPtr) {
+		Assert.isTrue(!isEmpty(), "Update must not be empty!");
+		StringBuilder set = new StringBuilder();
+		StringBuilder unset = new StringBuilder();
+		int index = 0;
+		for (Map.Entry<String, Operation> entry : operations.entrySet()) {
+			String field = toFieldPath(entry.getKey(), domainClass, converter);
+			if (entry.getValue() == Operation.UNSET) {
+				unset.append(unset.length() == 0 ? " UNSET " : ", ").append(field);
+				continue;
+			}
+			String value = bind(toJson(values.get(entry.getKey()), converter), index++, parameters, paramIndexPtr);
+			set.append(set.length() == 0 ? " SET " : ", ").append(field).append(" = ");
+			if (entry.getValue() == Operation.INC) {
+				set.append("IFMISSINGORNULL(").append(field).append(", 0) + ").append(value);
+			} else {
+				set.append(value);
+			}
+		}
+		return set.append(unset).toString();
+	}
+
+	private static String toFieldPath(String path, Class<?> domainClass, CouchbaseConverter converter) {
+		PersistentPropertyPath<CouchbasePersistentProperty> propertyPath = converter.getMappingContext()
+				.getPersistentPropertyPath(path, domainClass);
+		Assert.isTrue(!propertyPath.getBaseProperty().isIdProperty(), "The id of a document cannot be updated!");
+		return propertyPath.toDotPath(property -> "`" + property.getFieldName() + "`");
+	}
+
+	private static String bind(@Nullable Object value, int index, JsonValue parameters, int[] paramIndexPtr) {
+		if (parameters instanceof JsonObject) {
+			String name = "__update" + index;
+			((JsonObject) parameters).put(name, value);
+			return "$" + name;
+		}
+		((JsonArray) parameters).add(value);
+		return "$" + (++paramIndexPtr[0]);
+	}
+
+	/**
+	 * Converts a value to the JSON value stored for it: simple values through the custom conversions, collections and
+	 * maps element by element, and any other object as an embedded entity.
+	 */
+	@Nullable
+	private static Object toJson(@Nullable Object value, CouchbaseConverter converter) {
+		Object converted = converter.convertForWriteIfNeeded(value);
+		if (converted == null || converted instanceof String || converted instanceof Number
+				|| converted instanceof Boolean || converted instanceof JsonValue) {
+			return converted;
+		}
+		if (converted instanceof Enum) {
+			return ((Enum<?>) converted).name();
+		}
+		if (converted instanceof Collection || converted instanceof Object[]) {
+			JsonArray array = JsonArray.create();
+			Iterable<?> elements = converted instanceof Collection ? (Collection<?>) converted
+					: Arrays.asList((Object[]) converted);
+			for (Object element : elements) {
+				array.add(toJson(element, converter));
+			}
+			return array;
+		}
+		if (converted instanceof Map) {
+			JsonObject object = JsonObject.create();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) converted).entrySet()) {
+				object.put(String.valueOf(entry.getKey()), toJson(entry.getValue(), converter));
+			}
+			return object;
+		}
+		CouchbaseDocument document = new CouchbaseDocument();
+		converter.write(converted, document);
+		Map<String, Object> content = document.export();
+		content.remove(converter.getTypeKey());
+		return JsonObject.from(content);
+	}
+
+	@Override
+	public String toString() {
+		return "Update{" + "operations=" + operations + ", values=" + values + '}';
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository;
+
+import org.springframework.data.couchbase.core.query.KeysetPosition;
+import org.springframework.data.couchbase.core.query.KeysetSlice;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Keyset pagination for Couchbase repositories, implemented by the default repository base class. Extend it next to
+ * {@link CouchbaseRepository} to page through the entities without {@code OFFSET}.
+ *
+ * @since 4.2
+ */
+@NoRepositoryBean
+public interface KeysetPagingRepository<T, ID> extends Repository<T, ID> {
+
+	/**
+	 * Returns the entities ordered after the given position by keyset pagination. Unlike
+	 * {@link org.springframework.data.repository.PagingAndSortingRepository#findAll(Pageable)} the cost of a slice does
+	 * not grow with its depth and no count query is run.
+	 *
+	 * @param position the position returned with the previous slice, or {@link KeysetPosition#initial()}.
+	 * @param pageable the size and sort of the slice; its offset is not used. All sort properties of the entities must
+	 *          be set.
+	 * @return a slice of entities, with the position of the next one.
+	 */
+	KeysetSlice<T> findAll(KeysetPosition position, Pageable pageable);
+
+}
@@ -23,7 +23,12 @@ import java.lang.annotation.Target;
 
 import org.springframework.data.annotation.QueryAnnotation;
 
+import com.couchbase.client.java.query.QueryProfile;
+
 /**
+ * Query options and hints applied to the N1QL query of a repository method. Attributes left at their default are not
+ * sent, so the defaults of the SDK and the query service apply.
+ *
  * @author Michael Reiche
  * @since 4.1
  */
@@ -33,4 +38,85 @@ import org.springframework.data.annotation.QueryAnnotation;
 @QueryAnnotation
 public @interface Meta {
 
+	/**
+	 * The timeout of the query in milliseconds, overriding the query timeout of the environment.
+	 *
+	 * @return the timeout, zero or negative for the default.
+	 * @since 4.2
+	 */
+	long timeoutMs() default -1;
+
+	/**
+	 * The maximum number of index partitions scanned in parallel, and of operators run in parallel by the query service.
+	 *
+	 * @return the maximum parallelism, negative for the default.
+	 * @since 4.2
+	 */
+	int maxParallelism() default -1;
+
+	/**
+	 * The maximum buffered channel size between the indexer and the query service, for index scans.
+	 *
+	 * @return the scan cap, negative for the default.
+	 * @since 4.2
+	 */
+	int scanCap() default -1;
+
+	/**
+	 * How long in milliseconds the indexer may wait to catch up with the requested scan consistency.
+	 *
+	 * @return the scan wait, negative for the default.
+	 * @since 4.2
+	 */
+	long scanWaitMs() default -1;
+
+	/**
+	 * The number of items the query service fetches in a batch from the data service.
+	 *
+	 * @return the pipeline batch, negative for the default.
+	 * @since 4.2
+	 */
+	int pipelineBatch() default -1;
+
+	/**
+	 * The maximum number of items each execution operator of the query service buffers.
+	 *
+	 * @return the pipeline cap, negative for the default.
+	 * @since 4.2
+	 */
+	int pipelineCap() default -1;
+
+	/**
+	 * Marks the query as read-only, so the query service rejects it if it modifies data and may retry it safely.
+	 *
+	 * @return true for a read-only query.
+	 * @since 4.2
+	 */
+	boolean readonly() default false;
+
+	/**
+	 * Lets the query service use full text search indexes for the query.
+	 *
+	 * @return true to allow full text search indexes.
+	 * @since 4.2
+	 */
+	boolean flexIndex() default false;
+
+	/**
+	 * The profile information returned with the results of the query.
+	 *
+	 * @return the profile mode.
+	 * @since 4.2
+	 */
+	QueryProfile profile() default QueryProfile.OFF;
+
+	/**
+	 * The indexes the query should use, rendered as a {@code USE INDEX} hint after the keyspace. Only applies to derived
+	 * queries; string queries must carry their hints in their statement.
+	 *
+	 * @return the index names.
+	 * @since 4.2
+	 */
+	String[] useIndex() default {};
+
 }
@@ -22,6 +22,8 @@ import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation.Ex
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.DeleteExecution;
 import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.PagedExecution;
+import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.SlicedExecution;
+import org.springframework.data.couchbase.repository.query.CouchbaseQueryExecution.UpdateExecution;
 import org.springframework.data.repository.core.EntityMetadata;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
@@ -81,6 +83,7 @@ public abstract class AbstractCouchbaseQuery extends AbstractCouchbaseQueryBase<
 		Query query = createQuery(accessor);
 
 		query = applyAnnotatedConsistencyIfPresent(query);
+		query = applyQueryMetaAttributesWhenPresent(query);
 		// query = applyAnnotatedCollationIfPresent(query, accessor); // not yet implemented
 
 		ExecutableFindByQuery<?> find = typeToRead == null ? findOperationWithProjection //
@@ -116,10 +119,14 @@ public abstract class AbstractCouchbaseQuery extends AbstractCouchbaseQueryBase<
 	private CouchbaseQueryExecution getExecutionToWrap(ParameterAccessor accessor,
 			ExecutableFindByQueryOperation.ExecutableFindByQuery<?> operation) {
 
-		if (isDeleteQuery()) {
+		if (isUpdateQuery()) {
+			return new UpdateExecution(getOperations(), getQueryMethod(), createRequiredUpdate(accessor));
+		} else if (isDeleteQuery()) {
 			return new DeleteExecution(getOperations(), getQueryMethod());
 		} else if (isTailable(getQueryMethod())) {
 			return (q, t, c) -> operation.matching(q.with(accessor.getPageable())).all(); // s/b tail() instead of all()
+		} else if (getQueryMethod().isStreamQuery()) {
+			return (q, t, c) -> operation.matching(q.with(accessor.getPageable())).stream();
 		} else if (getQueryMethod().isCollectionQuery()) {
 			return (q, t, c) -> operation.matching(q.with(accessor.getPageable())).all();
 		} else if (isCountQuery()) {
@@ -128,6 +135,8 @@ public abstract class AbstractCouchbaseQuery extends AbstractCouchbaseQueryBase<
 			return (q, t, c) -> operation.matching(q).exists();
 		} else if (getQueryMethod().isPageQuery()) {
 			return new PagedExecution(operation, accessor.getPageable());
+		} else if (getQueryMethod().isSliceQuery()) {
+			return new SlicedExecution(operation, accessor.getPageable());
 		} else {
 			return (q, t, c) -> {
 				ExecutableFindByQueryOperation.TerminatingFindByQuery<?> find = operation.matching(q);
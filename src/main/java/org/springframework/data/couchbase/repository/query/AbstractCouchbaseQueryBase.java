@@ -21,7 +21,9 @@ import reactor.core.publisher.Mono;
 import org.reactivestreams.Publisher;
 import org.springframework.data.couchbase.core.CouchbaseOperations;
 import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation;
+import org.springframework.data.couchbase.core.query.N1qlStatementCache;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.Update;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.repository.core.EntityMetadata;
 import org.springframework.data.repository.query.ParameterAccessor;
@@ -50,6 +52,7 @@ public abstract class AbstractCouchbaseQueryBase<CouchbaseOperationsType> implem
 	private final ExecutableFindByQueryOperation.ExecutableFindByQuery<?> findOperationWithProjection;
 	private final SpelExpressionParser expressionParser;
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
+	private final N1qlStatementCache statementCache = new N1qlStatementCache();
 
 	/**
 	 * Creates a new {@link AbstractCouchbaseQuery} from the given {@link ReactiveCouchbaseQueryMethod} and
@@ -160,6 +163,21 @@ public abstract class AbstractCouchbaseQueryBase<CouchbaseOperationsType> implem
 		return query.scanConsistency(method.getScanConsistencyAnnotation().query());
 	}
 
+	/**
+	 * Run the given {@link Query}, derived from the query method, as a prepared statement whose generated text is cached
+	 * for this method, unless the method is annotated with {@link org.springframework.data.couchbase.repository.Adhoc}.
+	 *
+	 * @param query the {@link Query} derived from the query method.
+	 * @return the query, prepared unless the method opts out.
+	 * @since 4.2
+	 */
+	Query applyPreparedStatementIfPossible(Query query) {
+		if (method.hasAdhocAnnotation()) {
+			return query;
+		}
+		return query.prepared(statementCache);
+	}
+
 	/**
 	 * Creates a {@link Query} instance using the given {@link ParametersParameterAccessor}. Will delegate to
 	 * {@link #createQuery(ParametersParameterAccessor)} by default but allows customization of the count query to be
@@ -202,6 +220,41 @@ public abstract class AbstractCouchbaseQueryBase<CouchbaseOperationsType> implem
 		return getQueryMethod().isDeleteQuery();
 	}
 
+	/**
+	 * Return whether the query updates the matching documents, as a derived {@literal update...By...} method does.
+	 *
+	 * @return false unless overridden.
+	 * @since 4.2
+	 */
+	protected boolean isUpdateQuery() {
+		return false;
+	}
+
+	/**
+	 * Creates the {@link Update} of an update query using the given {@link ParameterAccessor}. Queries that
+	 * {@link #isUpdateQuery() update} must override it.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return the update, {@literal null} if the query cannot create one.
+	 * @since 4.2
+	 */
+	@Nullable
+	protected Update createUpdate(ParameterAccessor accessor) {
+		return null;
+	}
+
+	/**
+	 * Creates the {@link Update} of an update query, failing if none can be created for the query method.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return the update.
+	 */
+	Update createRequiredUpdate(ParameterAccessor accessor) {
+		Update update = createUpdate(accessor);
+		Assert.state(update != null, () -> "No update can be created for query method " + getQueryMethod() + "!");
+		return update;
+	}
+
 	/**
 	 * Return whether the query is tailable
 	 *
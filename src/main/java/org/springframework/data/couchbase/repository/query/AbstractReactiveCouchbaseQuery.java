@@ -22,6 +22,7 @@ import org.springframework.data.couchbase.core.ReactiveFindByQueryOperation.Reac
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.repository.query.ReactiveCouchbaseQueryExecution.DeleteExecution;
 import org.springframework.data.couchbase.repository.query.ReactiveCouchbaseQueryExecution.ResultProcessingExecution;
+import org.springframework.data.couchbase.repository.query.ReactiveCouchbaseQueryExecution.UpdateExecution;
 import org.springframework.data.repository.core.EntityMetadata;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
@@ -79,6 +80,7 @@ public abstract class AbstractReactiveCouchbaseQuery extends AbstractCouchbaseQu
 
 		Query query = createQuery(accessor);
 		query = applyAnnotatedConsistencyIfPresent(query);
+		query = applyQueryMetaAttributesWhenPresent(query);
 		// query = applyAnnotatedCollationIfPresent(query, accessor); // not yet implemented
 
 		ReactiveFindByQuery<?> find = typeToRead == null //
@@ -114,7 +116,9 @@ public abstract class AbstractReactiveCouchbaseQuery extends AbstractCouchbaseQu
 	private ReactiveCouchbaseQueryExecution getExecutionToWrap(ParameterAccessor accessor,
 			ReactiveFindByQueryOperation.FindByQueryWithQuery<?> operation) {
 
-		if (isDeleteQuery()) {
+		if (isUpdateQuery()) {
+			return new UpdateExecution(getOperations(), getQueryMethod(), createRequiredUpdate(accessor));
+		} else if (isDeleteQuery()) {
 			return new DeleteExecution(getOperations(), getQueryMethod());
 		} else if (isTailable(getQueryMethod())) {
 			return (q, t, c) -> operation.matching(q.with(accessor.getPageable())).all(); // s/b tail() instead of all()
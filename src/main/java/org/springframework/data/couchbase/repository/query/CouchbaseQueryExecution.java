@@ -20,7 +20,9 @@ import java.util.List;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.couchbase.core.CouchbaseOperations;
 import org.springframework.data.couchbase.core.ExecutableFindByQueryOperation;
+import org.springframework.data.couchbase.core.ExecutableUpdateByQueryOperation;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.Update;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -65,6 +67,40 @@ interface CouchbaseQueryExecution {
 
 	}
 
+	/**
+	 * {@link CouchbaseQueryExecution} updating documents matching the query, returning them for collection methods and
+	 * their number otherwise.
+	 */
+
+	final class UpdateExecution implements CouchbaseQueryExecution {
+
+		private final CouchbaseOperations operations;
+		private final QueryMethod method;
+		private final Update update;
+
+		public UpdateExecution(CouchbaseOperations operations, QueryMethod method, Update update) {
+			this.operations = operations;
+			this.method = method;
+			this.update = update;
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type, String collection) {
+			ExecutableUpdateByQueryOperation.TerminatingUpdateByQuery<?> operation = operations.updateByQuery(type)
+					.matching(query).apply(update);
+			if (method.isCollectionQuery()) {
+				return operation.all();
+			}
+			long updated = operation.countUpdated();
+			Class<?> returnType = method.getReturnedObjectType();
+			if (returnType == void.class || returnType == Void.class) {
+				return null;
+			}
+			return returnType == int.class || returnType == Integer.class ? (Object) (int) updated : updated;
+		}
+
+	}
+
 	/**
 	 * An {@link ReactiveCouchbaseQueryExecution} that wraps the results of the given delegate with the given result
 	 * processing.
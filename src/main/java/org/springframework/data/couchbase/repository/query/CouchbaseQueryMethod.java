@@ -17,6 +17,7 @@
 package org.springframework.data.couchbase.repository.query;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Locale;
 
 import org.springframework.core.annotation.AnnotationUtils;
@@ -25,6 +26,7 @@ import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProper
 import org.springframework.data.couchbase.core.query.Dimensional;
 import org.springframework.data.couchbase.core.query.View;
 import org.springframework.data.couchbase.core.query.WithConsistency;
+import org.springframework.data.couchbase.repository.Adhoc;
 import org.springframework.data.couchbase.repository.Meta;
 import org.springframework.data.couchbase.repository.Query;
 import org.springframework.data.couchbase.repository.ScanConsistency;
@@ -38,6 +40,8 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
+import com.couchbase.client.java.query.QueryProfile;
+
 /**
  * Represents a query method with couchbase extensions, allowing to discover if View-based query or N1QL-based query
  * must be used.
@@ -179,6 +183,15 @@ public class CouchbaseQueryMethod extends QueryMethod {
 		return method.getAnnotation(ScanConsistency.class);
 	}
 
+	/**
+	 * If the method has an @Adhoc annotation.
+	 *
+	 * @return true if it has the annotation, false otherwise.
+	 */
+	public boolean hasAdhocAnnotation() {
+		return method.getAnnotation(Adhoc.class) != null;
+	}
+
 	/**
 	 * @return return true if {@link Meta} annotation is available.
 	 */
@@ -207,6 +220,34 @@ public class CouchbaseQueryMethod extends QueryMethod {
 		}
 
 		org.springframework.data.couchbase.core.query.Meta metaAttributes = new org.springframework.data.couchbase.core.query.Meta();
+		if (meta.timeoutMs() > 0) {
+			metaAttributes.setTimeout(Duration.ofMillis(meta.timeoutMs()));
+		}
+		if (meta.maxParallelism() >= 0) {
+			metaAttributes.setMaxParallelism(meta.maxParallelism());
+		}
+		if (meta.scanCap() >= 0) {
+			metaAttributes.setScanCap(meta.scanCap());
+		}
+		if (meta.scanWaitMs() >= 0) {
+			metaAttributes.setScanWait(Duration.ofMillis(meta.scanWaitMs()));
+		}
+		if (meta.pipelineBatch() >= 0) {
+			metaAttributes.setPipelineBatch(meta.pipelineBatch());
+		}
+		if (meta.pipelineCap() >= 0) {
+			metaAttributes.setPipelineCap(meta.pipelineCap());
+		}
+		if (meta.readonly()) {
+			metaAttributes.setReadonly(true);
+		}
+		if (meta.flexIndex()) {
+			metaAttributes.setFlexIndex(true);
+		}
+		if (meta.profile() != QueryProfile.OFF) {
+			metaAttributes.setProfile(meta.profile());
+		}
+		metaAttributes.setUseIndex(meta.useIndex());
 
 		return metaAttributes;
 	}
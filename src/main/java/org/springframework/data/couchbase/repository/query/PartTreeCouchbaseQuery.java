@@ -19,6 +19,8 @@ import org.springframework.data.couchbase.core.CouchbaseOperations;
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.Update;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
@@ -26,6 +28,7 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
 
 /**
  * {@link RepositoryQuery} implementation for Couchbase. Replaces PartTreeN1qlBasedQuery
@@ -36,6 +39,7 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 public class PartTreeCouchbaseQuery extends AbstractCouchbaseQuery {
 
 	private final PartTree tree;
+	private final @Nullable PartTreeUpdate update;
 	private final CouchbaseConverter converter;
 
 	/**
@@ -52,7 +56,9 @@ public class PartTreeCouchbaseQuery extends AbstractCouchbaseQuery {
 		super(method, operations, expressionParser, evaluationContextProvider);
 
 		ResultProcessor processor = method.getResultProcessor();
-		this.tree = new PartTree(method.getName(), processor.getReturnedType().getDomainType());
+		Class<?> domainType = processor.getReturnedType().getDomainType();
+		this.update = PartTreeUpdate.from(method, domainType);
+		this.tree = new PartTree(update != null ? update.getCriteriaSource() : method.getName(), domainType);
 		this.converter = operations.getConverter();
 	}
 
@@ -72,14 +78,15 @@ public class PartTreeCouchbaseQuery extends AbstractCouchbaseQuery {
 	@Override
 	protected Query createQuery(ParametersParameterAccessor accessor) {
 
-		N1qlQueryCreator creator = new N1qlQueryCreator(tree, accessor, getQueryMethod(), converter,
+		ParameterAccessor criteriaAccessor = update != null ? update.criteriaAccessor(accessor) : accessor;
+		N1qlQueryCreator creator = new N1qlQueryCreator(tree, criteriaAccessor, getQueryMethod(), converter,
 				getOperations().getBucketName());
 		Query query = creator.createQuery();
 
 		if (tree.isLimiting()) {
 			query.limit(tree.getMaxResults());
 		}
-		return query;
+		return applyPreparedStatementIfPossible(query);
 
 	}
 
@@ -89,8 +96,9 @@ public class PartTreeCouchbaseQuery extends AbstractCouchbaseQuery {
 	 */
 	@Override
 	protected Query createCountQuery(ParametersParameterAccessor accessor) {
-		return new N1qlQueryCreator(tree, accessor, getQueryMethod(), converter, getOperations().getBucketName())
-				.createQuery();
+		return applyPreparedStatementIfPossible(
+				new N1qlQueryCreator(tree, accessor, getQueryMethod(), converter, getOperations().getBucketName())
+						.createQuery());
 	}
 
 	/*
@@ -128,4 +136,23 @@ public class PartTreeCouchbaseQuery extends AbstractCouchbaseQuery {
 	protected boolean isLimiting() {
 		return tree.isLimiting();
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.couchbase.repository.query.AbstractCouchbaseQueryBase#isUpdateQuery()
+	 */
+	@Override
+	protected boolean isUpdateQuery() {
+		return update != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.couchbase.repository.query.AbstractCouchbaseQueryBase#createUpdate(org.springframework.data.repository.query.ParameterAccessor)
+	 */
+	@Override
+	@Nullable
+	protected Update createUpdate(ParameterAccessor accessor) {
+		return update != null ? update.createUpdate(accessor) : null;
+	}
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.data.couchbase.core.query.Update;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The update of a derived update method such as {@code updateStatusByCreatedAtBefore(Status status, Instant cutoff)}.
+ * The properties between {@literal update} and {@literal By} are set to the first parameters of the method, in order;
+ * the remaining parameters are bound to the criteria after {@literal By}, which are parsed like those of a
+ * {@literal find} method.
+ *
+ * @since 4.2
+ */
+class PartTreeUpdate {
+
+	private static final Pattern UPDATE_METHOD = Pattern.compile("^update(\\p{Lu}.*?)By(\\p{Lu}.*)$");
+	private static final Pattern AND = Pattern.compile("And(?=\\p{Lu})");
+
+	private final List<String> paths;
+	private final String criteria;
+
+	private PartTreeUpdate(List<String> paths, String criteria) {
+		this.paths = paths;
+		this.criteria = criteria;
+	}
+
+	/**
+	 * Parse the update of the given query method.
+	 *
+	 * @param method the query method.
+	 * @param domainType the type of the updated entities.
+	 * @return the update, {@literal null} if the method is not an update method.
+	 */
+	@Nullable
+	static PartTreeUpdate from(QueryMethod method, Class<?> domainType) {
+		Matcher matcher = UPDATE_METHOD.matcher(method.getName());
+		if (!matcher.matches()) {
+			return null;
+		}
+		List<String> paths = new ArrayList<>();
+		for (String property : AND.split(matcher.group(1))) {
+			paths.add(PropertyPath.from(StringUtils.uncapitalize(property), domainType).toDotPath());
+		}
+		Assert.isTrue(method.getParameters().getBindableParameters().getNumberOfParameters() >= paths.size(),
+				"Update method " + method.getName() + " must have a parameter for each updated property!");
+		return new PartTreeUpdate(Collections.unmodifiableList(paths), "findBy" + matcher.group(2));
+	}
+
+	/**
+	 * @return the criteria of the update as the name of the equivalent {@literal find} method.
+	 */
+	String getCriteriaSource() {
+		return criteria;
+	}
+
+	/**
+	 * Create the {@link Update} from the leading parameters of the invocation.
+	 *
+	 * @param accessor the parameters of the invocation.
+	 * @return the update.
+	 */
+	Update createUpdate(ParameterAccessor accessor) {
+		Update update = new Update();
+		for (int i = 0; i < paths.size(); i++) {
+			update.set(paths.get(i), accessor.getBindableValue(i));
+		}
+		return update;
+	}
+
+	/**
+	 * @param accessor the parameters of the invocation.
+	 * @return the parameters bound to the criteria, without those of the update.
+	 */
+	ParameterAccessor criteriaAccessor(ParameterAccessor accessor) {
+		return new CriteriaParameterAccessor(accessor, paths.size());
+	}
+
+	private static class CriteriaParameterAccessor implements ParameterAccessor {
+
+		private final ParameterAccessor delegate;
+		private final int offset;
+
+		CriteriaParameterAccessor(ParameterAccessor delegate, int offset) {
+			this.delegate = delegate;
+			this.offset = offset;
+		}
+
+		public Pageable getPageable() {
+			return delegate.getPageable();
+		}
+
+		public Sort getSort() {
+			return delegate.getSort();
+		}
+
+		public Optional<Class<?>> getDynamicProjection() {
+			return delegate.getDynamicProjection();
+		}
+
+		@Override
+		public Class<?> findDynamicProjection() {
+			return delegate.findDynamicProjection();
+		}
+
+		public Object getBindableValue(int index) {
+			return delegate.getBindableValue(index + offset);
+		}
+
+		public boolean hasBindableNullValue() {
+			return delegate.hasBindableNullValue();
+		}
+
+		public Iterator<Object> iterator() {
+			Iterator<Object> iterator = delegate.iterator();
+			for (int i = 0; i < offset && iterator.hasNext(); i++) {
+				iterator.next();
+			}
+			return iterator;
+		}
+
+	}
+
+}
@@ -15,9 +15,13 @@
  */
 package org.springframework.data.couchbase.repository.query;
 
+import reactor.core.publisher.Mono;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
+import org.springframework.data.couchbase.core.ReactiveUpdateByQueryOperation;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.Update;
 import org.springframework.util.Assert;
 
 /**
@@ -57,6 +61,40 @@ interface ReactiveCouchbaseQueryExecution {
 
 	}
 
+	/**
+	 * {@link ReactiveCouchbaseQueryExecution} updating documents matching the query, returning them for collection
+	 * methods and their number otherwise.
+	 */
+
+	final class UpdateExecution implements ReactiveCouchbaseQueryExecution {
+
+		private final ReactiveCouchbaseOperations operations;
+		private final CouchbaseQueryMethod method;
+		private final Update update;
+
+		public UpdateExecution(ReactiveCouchbaseOperations operations, CouchbaseQueryMethod method, Update update) {
+			this.operations = operations;
+			this.method = method;
+			this.update = update;
+		}
+
+		@Override
+		public Object execute(Query query, Class<?> type, String collection) {
+			ReactiveUpdateByQueryOperation.TerminatingUpdateByQuery<?> operation = operations.updateByQuery(type)
+					.matching(query).apply(update);
+			if (method.isCollectionQuery()) {
+				return operation.all();
+			}
+			Mono<Long> updated = operation.countUpdated();
+			Class<?> returnType = method.getReturnedObjectType();
+			if (returnType == Void.class) {
+				return updated.then();
+			}
+			return returnType == Integer.class ? updated.map(Long::intValue) : updated;
+		}
+
+	}
+
 	/**
 	 * An {@link ReactiveCouchbaseQueryExecution} that wraps the results of the given delegate with the given result
 	 * processing.
@@ -21,12 +21,15 @@ import org.springframework.data.couchbase.core.CouchbaseTemplate;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.Update;
+import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.lang.Nullable;
 
 /**
  * Reactive PartTree {@link RepositoryQuery} implementation for Couchbase. Replaces ReactivePartN1qlBasedQuery
@@ -37,6 +40,7 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 public class ReactivePartTreeCouchbaseQuery extends AbstractReactiveCouchbaseQuery {
 
 	private final PartTree tree;
+	private final @Nullable PartTreeUpdate update;
 	private final CouchbaseConverter converter;
 	private static final Logger LOG = LoggerFactory.getLogger(ReactivePartTreeCouchbaseQuery.class);
 
@@ -53,7 +57,9 @@ public class ReactivePartTreeCouchbaseQuery extends AbstractReactiveCouchbaseQue
 			SpelExpressionParser expressionParser, QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
 		super(method, operations, expressionParser, evaluationContextProvider);
-		this.tree = new PartTree(method.getName(), method.getResultProcessor().getReturnedType().getDomainType());
+		Class<?> domainType = method.getResultProcessor().getReturnedType().getDomainType();
+		this.update = PartTreeUpdate.from(method, domainType);
+		this.tree = new PartTree(update != null ? update.getCriteriaSource() : method.getName(), domainType);
 		this.converter = operations.getConverter();
 	}
 
@@ -73,7 +79,8 @@ public class ReactivePartTreeCouchbaseQuery extends AbstractReactiveCouchbaseQue
 	@Override
 	protected Query createQuery(ParametersParameterAccessor accessor) {
 
-		N1qlQueryCreator creator = new N1qlQueryCreator(tree, accessor, getQueryMethod(), converter,
+		ParameterAccessor criteriaAccessor = update != null ? update.criteriaAccessor(accessor) : accessor;
+		N1qlQueryCreator creator = new N1qlQueryCreator(tree, criteriaAccessor, getQueryMethod(), converter,
 				getOperations().getBucketName());
 		Query query = creator.createQuery();
 
@@ -83,7 +90,7 @@ public class ReactivePartTreeCouchbaseQuery extends AbstractReactiveCouchbaseQue
 		if (LOG.isDebugEnabled()) {
 			LOG.debug("Created query {} for * fields.", query.export());
 		}
-		return query;
+		return applyPreparedStatementIfPossible(query);
 	}
 
 	/*
@@ -97,7 +104,7 @@ public class ReactivePartTreeCouchbaseQuery extends AbstractReactiveCouchbaseQue
 		if (LOG.isDebugEnabled()) {
 			LOG.debug("Created query {} for * fields.", query.export());
 		}
-		return query;
+		return applyPreparedStatementIfPossible(query);
 	}
 
 	/*
@@ -108,4 +115,23 @@ public class ReactivePartTreeCouchbaseQuery extends AbstractReactiveCouchbaseQue
 	protected boolean isLimiting() {
 		return tree.isLimiting();
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.couchbase.repository.query.AbstractCouchbaseQueryBase#isUpdateQuery()
+	 */
+	@Override
+	protected boolean isUpdateQuery() {
+		return update != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.couchbase.repository.query.AbstractCouchbaseQueryBase#createUpdate(org.springframework.data.repository.query.ParameterAccessor)
+	 */
+	@Override
+	@Nullable
+	protected Update createUpdate(ParameterAccessor accessor) {
+		return update != null ? update.createUpdate(accessor) : null;
+	}
 }
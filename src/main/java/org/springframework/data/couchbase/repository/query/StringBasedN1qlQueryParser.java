@@ -35,19 +35,15 @@ import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
 import org.springframework.data.couchbase.core.convert.CouchbaseCustomConversions;
-import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
 import org.springframework.data.couchbase.core.query.N1QLExpression;
 import org.springframework.data.couchbase.repository.Query;
 import org.springframework.data.couchbase.repository.query.support.N1qlUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.mapping.PersistentEntity;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.ReturnedType;
-import org.springframework.data.util.TypeInformation;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.common.TemplateParserContext;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
@@ -188,46 +184,13 @@ public class StringBasedN1qlQueryParser {
 
 		String projectedFields = i(b) + ".*";
 		if (resultClass != null) {
-			PersistentEntity persistentEntity = couchbaseConverter.getMappingContext().getPersistentEntity(resultClass);
-			StringBuilder sb = new StringBuilder();
-			getProjectedFieldsInternal(null, sb, persistentEntity.getTypeInformation(), "");
-			projectedFields = sb.toString();
+			// The current limitation is that only top-level properties can be projected
+			projectedFields = couchbaseConverter.getMappingContext().getRequiredPersistentEntity(resultClass).getMetadata()
+					.getProjection();
 		}
 		return projectedFields;
 	}
 
-	private void getProjectedFieldsInternal(CouchbasePersistentProperty parent, StringBuilder sb,
-			TypeInformation resultClass, String path) {
-
-		PersistentEntity persistentEntity = couchbaseConverter.getMappingContext().getPersistentEntity(resultClass);
-		persistentEntity.doWithProperties(new PropertyHandler<CouchbasePersistentProperty>() {
-			@Override
-			public void doWithPersistentProperty(final CouchbasePersistentProperty prop) {
-				if (prop.isIdProperty() && parent == null) {
-					return;
-				}
-				// The current limitation is that only top-level properties can be projected
-				// This traversing of nested data structures would need to replicate the processing done by
-				// MappingCouchbaseConverter. Either the read or write
-				// And the n1ql to project lower-level properties is complex
-
-				// if (!conversions.isSimpleType(prop.getType())) {
-				// getProjectedFieldsInternal(prop, sb, prop.getTypeInformation(), path+prop.getName()+".");
-				// } else {
-				if (sb.length() > 0) {
-					sb.append(", ");
-				}
-				sb.append('`');
-				if (path != null && path.length() != 0) {
-					sb.append(path);
-				}
-				sb.append(prop.getName());
-				sb.append('`');
-				// }
-			}
-		});
-	}
-
 	// this static method can be used to test the parsing behavior for Couchbase specific spel variables
 	// in isolation from the rest of the spel parser initialization chain.
 	public String doParse(SpelExpressionParser parser, EvaluationContext evaluationContext, boolean isCountQuery) {
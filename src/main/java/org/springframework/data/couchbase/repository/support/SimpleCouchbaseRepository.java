@@ -18,15 +18,22 @@ package org.springframework.data.couchbase.repository.support;
 
 import static org.springframework.data.couchbase.repository.support.Util.hasNonZeroVersionProperty;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.couchbase.core.BatchRemoveOptions;
+import org.springframework.data.couchbase.core.BulkOptions;
 import org.springframework.data.couchbase.core.CouchbaseOperations;
+import org.springframework.data.couchbase.core.query.KeysetPosition;
+import org.springframework.data.couchbase.core.query.KeysetSlice;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.repository.CouchbaseRepository;
+import org.springframework.data.couchbase.repository.KeysetPagingRepository;
 import org.springframework.data.couchbase.repository.query.CouchbaseEntityInformation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -45,7 +52,7 @@ import com.couchbase.client.java.query.QueryScanConsistency;
  * @author Mark Paluch
  * @author Jens Schauder
  */
-public class SimpleCouchbaseRepository<T, ID> implements CouchbaseRepository<T, ID> {
+public class SimpleCouchbaseRepository<T, ID> implements CouchbaseRepository<T, ID>, KeysetPagingRepository<T, ID> {
 
 	/**
 	 * Holds the reference to the {@link org.springframework.data.couchbase.core.CouchbaseTemplate}.
@@ -89,7 +96,29 @@ public class SimpleCouchbaseRepository<T, ID> implements CouchbaseRepository<T,
 	@Override
 	public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
 		Assert.notNull(entities, "The given Iterable of entities must not be null!");
-		return Streamable.of(entities).stream().map((e) -> save(e)).collect(StreamUtils.toUnmodifiableList());
+		List<S> saved = new ArrayList<>();
+		List<S> toUpsert = new ArrayList<>();
+		for (S entity : entities) {
+			Assert.notNull(entity, "Entity must not be null!");
+			// versioned entities need a replace() each, everything in between is upserted in bulk
+			if (hasNonZeroVersionProperty(entity, couchbaseOperations.getConverter())) {
+				upsertAll(toUpsert, saved);
+				saved.add(save(entity));
+			} else {
+				toUpsert.add(entity);
+			}
+		}
+		upsertAll(toUpsert, saved);
+		return Collections.unmodifiableList(saved);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <S extends T> void upsertAll(List<S> toUpsert, List<S> saved) {
+		if (!toUpsert.isEmpty()) {
+			saved.addAll((Collection<S>) couchbaseOperations.upsertById(entityInformation.getJavaType()).all(toUpsert,
+					BulkOptions.bulkOptions().ordered()));
+			toUpsert.clear();
+		}
 	}
 
 	@Override
@@ -145,7 +174,7 @@ public class SimpleCouchbaseRepository<T, ID> implements CouchbaseRepository<T,
 	@Override
 	public void deleteAll() {
 		couchbaseOperations.removeByQuery(entityInformation.getJavaType()).withConsistency(buildQueryScanConsistency())
-				.all();
+				.countRemoved(BatchRemoveOptions.batchRemoveOptions());
 	}
 
 	@Override
@@ -169,6 +198,20 @@ public class SimpleCouchbaseRepository<T, ID> implements CouchbaseRepository<T,
 		return new PageImpl<>(results, pageable, count());
 	}
 
+	@Override
+	public KeysetSlice<T> findAll(KeysetPosition position, Pageable pageable) {
+		Assert.notNull(position, "KeysetPosition must not be null!");
+		Assert.isTrue(pageable.isPaged(), "Pageable must be paged!");
+		int size = pageable.getPageSize();
+		List<T> results = findAll(new Query().with(pageable.getSort()).with(position).limit(size + 1));
+		if (results.size() <= size) {
+			return new KeysetSlice<>(results, pageable, null);
+		}
+		List<T> content = results.subList(0, size);
+		return new KeysetSlice<>(content, pageable,
+				KeysetPosition.after(content.get(size - 1), pageable.getSort(), couchbaseOperations.getConverter()));
+	}
+
 	/**
 	 * Returns the information for the underlying template.
 	 *
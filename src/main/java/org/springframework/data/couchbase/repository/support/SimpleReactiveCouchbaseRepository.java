@@ -27,6 +27,8 @@ import java.util.stream.Collectors;
 
 import org.reactivestreams.Publisher;
 
+import org.springframework.data.couchbase.core.BatchRemoveOptions;
+import org.springframework.data.couchbase.core.BulkOptions;
 import org.springframework.data.couchbase.core.CouchbaseOperations;
 import org.springframework.data.couchbase.core.ReactiveCouchbaseOperations;
 import org.springframework.data.couchbase.core.query.Query;
@@ -98,13 +100,13 @@ public class SimpleReactiveCouchbaseRepository<T, ID> implements ReactiveCouchba
 	@Override
 	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
 		Assert.notNull(entities, "The given Iterable of entities must not be null!");
-		return Flux.fromIterable(entities).flatMap(this::save);
+		return Flux.fromIterable(entities).flatMap(this::save, BulkOptions.DEFAULT_CONCURRENCY);
 	}
 
 	@Override
 	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
 		Assert.notNull(entityStream, "The given Iterable of entities must not be null!");
-		return Flux.from(entityStream).flatMap(this::save);
+		return Flux.from(entityStream).flatMap(this::save, BulkOptions.DEFAULT_CONCURRENCY);
 	}
 
 	@Override
@@ -146,7 +148,7 @@ public class SimpleReactiveCouchbaseRepository<T, ID> implements ReactiveCouchba
 	@Override
 	public Flux<T> findAllById(Publisher<ID> entityStream) {
 		Assert.notNull(entityStream, "The given entityStream must not be null!");
-		return Flux.from(entityStream).flatMap(this::findById);
+		return Flux.from(entityStream).flatMap(this::findById, BulkOptions.DEFAULT_CONCURRENCY);
 	}
 
 	@Override
@@ -189,7 +191,7 @@ public class SimpleReactiveCouchbaseRepository<T, ID> implements ReactiveCouchba
 
 	@Override
 	public Mono<Void> deleteAll() {
-		return operations.removeByQuery(entityInformation.getJavaType()).all().then();
+		return operations.removeByQuery(entityInformation.getJavaType()).countRemoved(BatchRemoveOptions.batchRemoveOptions()).then();
 	}
 
 	/**
@@ -0,0 +1,414 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import com.couchbase.client.java.codec.Transcoder;
+
+/**
+ * Verifies the behavior of {@link CouchbaseCache} against an in-memory {@link CouchbaseCacheWriter}.
+ */
+class CouchbaseCacheTests {
+
+	private GenerationalInMemoryCacheWriter cacheWriter;
+	private CouchbaseCache cache;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void beforeEach() {
+		cacheWriter = new GenerationalInMemoryCacheWriter();
+		cache = new CouchbaseCache("test", cacheWriter, CouchbaseCacheConfiguration.defaultCacheConfig());
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterEach
+	void afterEach() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentMissesOnSameKeyLoadOnce() throws Exception {
+		AtomicInteger loaderCalls = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> first = executor.submit(() -> cache.get("key", () -> {
+			loaderCalls.incrementAndGet();
+			loading.countDown();
+			release.await();
+			return "value";
+		}));
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+		List<Future<String>> waiting = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			waiting.add(executor.submit(() -> cache.get("key", () -> {
+				loaderCalls.incrementAndGet();
+				return "other";
+			})));
+		}
+		Thread.sleep(100);
+		release.countDown();
+
+		assertEquals("value", first.get(5, TimeUnit.SECONDS));
+		for (Future<String> future : waiting) {
+			assertEquals("value", future.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, loaderCalls.get());
+		assertEquals(1, cache.getStatistics().getLoads());
+	}
+
+	@Test
+	void missesOnDifferentKeysLoadInParallel() throws Exception {
+		CountDownLatch bothLoading = new CountDownLatch(2);
+
+		Future<String> first = executor.submit(() -> cache.get("first", () -> {
+			bothLoading.countDown();
+			assertTrue(bothLoading.await(5, TimeUnit.SECONDS));
+			return "one";
+		}));
+		Future<String> second = executor.submit(() -> cache.get("second", () -> {
+			bothLoading.countDown();
+			assertTrue(bothLoading.await(5, TimeUnit.SECONDS));
+			return "two";
+		}));
+
+		assertEquals("one", first.get(5, TimeUnit.SECONDS));
+		assertEquals("two", second.get(5, TimeUnit.SECONDS));
+		assertEquals(0, cache.getStatistics().getLoadWaits());
+	}
+
+	@Test
+	void loaderFailureIsPropagated() {
+		assertThrows(org.springframework.cache.Cache.ValueRetrievalException.class, () -> cache.get("key", () -> {
+			throw new IllegalStateException("failed");
+		}));
+		assertEquals("value", cache.get("key", () -> "value"));
+	}
+
+	@Test
+	void loaderErrorReleasesWaiters() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> first = executor.submit(() -> cache.get("key", () -> {
+			loading.countDown();
+			release.await();
+			throw new AssertionError("failed");
+		}));
+		assertTrue(loading.await(5, TimeUnit.SECONDS));
+		Future<String> waiting = executor.submit(() -> cache.get("key", () -> "other"));
+		Thread.sleep(100);
+		release.countDown();
+
+		ExecutionException failed = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+		assertTrue(failed.getCause() instanceof AssertionError);
+		failed = assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+		assertTrue(failed.getCause() instanceof AssertionError);
+		assertEquals("value", cache.get("key", () -> "value"));
+	}
+
+	@Test
+	void recursiveLoadOfSameKeyFails() {
+		Cache.ValueRetrievalException failed = assertTimeoutPreemptively(Duration.ofSeconds(5),
+				() -> assertThrows(Cache.ValueRetrievalException.class,
+						() -> cache.get("key", () -> cache.get("key", () -> "inner"))));
+
+		assertTrue(failed.getCause() instanceof IllegalStateException);
+		assertEquals("value", cache.get("key", () -> "value"));
+	}
+
+	@Test
+	void nearCacheServesRepeatedLookups() {
+		CouchbaseCache nearCached = new CouchbaseCache("near", cacheWriter,
+				CouchbaseCacheConfiguration.defaultCacheConfig().enableNearCache(NearCacheSettings.maximumSize(2)));
+		nearCached.put("key", "value");
+
+		assertEquals("value", nearCached.get("key").get());
+		assertEquals("value", nearCached.get("key").get());
+		assertEquals(1, cacheWriter.gets.get());
+		assertEquals(1, nearCached.getStatistics().getNearHits());
+		assertEquals(1, nearCached.getStatistics().getRemoteHits());
+
+		nearCached.put("key", "other");
+		assertEquals("other", nearCached.get("key").get());
+		assertEquals(2, cacheWriter.gets.get());
+
+		nearCached.evict("key");
+		assertNull(nearCached.get("key"));
+	}
+
+	@Test
+	void nearCacheDropsValueEvictedWhileItWasRead() {
+		CouchbaseCache nearCached = new CouchbaseCache("near", cacheWriter,
+				CouchbaseCacheConfiguration.defaultCacheConfig().enableNearCache(NearCacheSettings.maximumSize(2)));
+		nearCached.put("key", "value");
+		cacheWriter.afterNextGet = () -> nearCached.evict("key");
+
+		assertEquals("value", nearCached.get("key").get());
+
+		assertNull(nearCached.get("key"));
+		assertEquals(2, cacheWriter.gets.get());
+	}
+
+	@Test
+	void nearCacheDropsValueReplacedWhileItWasRead() {
+		CouchbaseCache nearCached = new CouchbaseCache("near", cacheWriter,
+				CouchbaseCacheConfiguration.defaultCacheConfig().enableNearCache(NearCacheSettings.maximumSize(2)));
+		nearCached.put("key", "value");
+		cacheWriter.afterNextGet = () -> nearCached.put("key", "other");
+
+		assertEquals("value", nearCached.get("key").get());
+
+		assertEquals("other", nearCached.get("key").get());
+		assertEquals("other", nearCached.get("key").get());
+		assertEquals(1, nearCached.getStatistics().getNearHits());
+	}
+
+	@Test
+	void nearCacheEvictsLeastRecentlyUsed() {
+		CouchbaseCache nearCached = new CouchbaseCache("near", cacheWriter,
+				CouchbaseCacheConfiguration.defaultCacheConfig().enableNearCache(NearCacheSettings.maximumSize(2)));
+		nearCached.put("a", "1");
+		nearCached.put("b", "2");
+		nearCached.put("c", "3");
+
+		nearCached.get("a");
+		nearCached.get("b");
+		nearCached.get("a");
+		nearCached.get("c"); // evicts b
+		assertEquals(3, cacheWriter.gets.get());
+		nearCached.get("b");
+		assertEquals(4, cacheWriter.gets.get());
+	}
+
+	@Test
+	void nearCacheServesConcurrentReads() throws Exception {
+		CouchbaseCache nearCached = new CouchbaseCache("near", cacheWriter,
+				CouchbaseCacheConfiguration.defaultCacheConfig().enableNearCache(NearCacheSettings.maximumSize(64)));
+		for (int i = 0; i < 32; i++) {
+			nearCached.put("key" + i, "value" + i);
+			nearCached.get("key" + i);
+		}
+		ExecutorService readers = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				results.add(readers.submit(() -> {
+					int wrong = 0;
+					for (int i = 0; i < 10_000; i++) {
+						int key = i % 32;
+						if (!("value" + key).equals(nearCached.get("key" + key).get())) {
+							wrong++;
+						}
+					}
+					return wrong;
+				}));
+			}
+			for (Future<Integer> result : results) {
+				assertEquals(0, result.get(30, TimeUnit.SECONDS));
+			}
+		} finally {
+			readers.shutdownNow();
+		}
+		assertEquals(32, cacheWriter.gets.get());
+		assertEquals(80_000, nearCached.getStatistics().getNearHits());
+	}
+
+	@Test
+	void getAllReadsNearAndRemoteKeys() {
+		CouchbaseCache nearCached = new CouchbaseCache("near", cacheWriter,
+				CouchbaseCacheConfiguration.defaultCacheConfig().enableNearCache(NearCacheSettings.maximumSize(8)));
+		nearCached.putAll(map("a", "1", "b", "2", "c", "3"));
+		nearCached.get("a");
+
+		Map<Object, Object> values = nearCached.getAll(Arrays.asList("a", "b", "c", "d"));
+
+		assertEquals(map("a", "1", "b", "2", "c", "3"), values);
+		assertEquals(4, cacheWriter.gets.get());
+		assertEquals(1, nearCached.getStatistics().getNearHits());
+		assertEquals(map("a", "1", "b", "2"), nearCached.getAll(Arrays.asList("a", "b")));
+		assertEquals(4, cacheWriter.gets.get());
+	}
+
+	@Test
+	void getAllReportsFailuresWithValuesRead() {
+		cache.putAll(map("a", "1", "b", "2", "c", "3"));
+		cacheWriter.failing.add("test::b");
+
+		BulkCacheException failure = assertThrows(BulkCacheException.class,
+				() -> cache.getAll(Arrays.asList("a", "b", "c")));
+
+		assertEquals(1, failure.getFailures().size());
+		assertEquals("test::b", failure.getFailures().get(0).getId());
+		assertEquals(map("a", "1", "c", "3"), failure.getValues());
+	}
+
+	@Test
+	void putAllAndEvictAllProcessAllKeysDespiteFailures() {
+		cacheWriter.failing.add("test::b");
+
+		BulkCacheException failure = assertThrows(BulkCacheException.class,
+				() -> cache.putAll(map("a", "1", "b", "2", "c", "3")));
+		assertEquals(1, failure.getFailures().size());
+		assertEquals("1", cacheWriter.store.get("test::a"));
+		assertEquals("3", cacheWriter.store.get("test::c"));
+		assertTrue(failure.getValues().isEmpty());
+
+		failure = assertThrows(BulkCacheException.class, () -> cache.evictAll(Arrays.asList("a", "b", "c", "d")));
+		assertEquals(1, failure.getFailures().size());
+		assertTrue(cacheWriter.store.isEmpty());
+
+		cacheWriter.failing.clear();
+		cache.putAll(map("a", "1", "b", "2"));
+		assertEquals(2, cache.evictAll(Arrays.asList("a", "b", "c")));
+	}
+
+	@Test
+	void generationalClearMovesToNewNamespace() {
+		CouchbaseCache generational = new CouchbaseCache("gen", cacheWriter,
+				CouchbaseCacheConfiguration.defaultCacheConfig().enableGenerationalClear(Duration.ofMinutes(1)));
+		generational.put("key", "value");
+		assertTrue(cacheWriter.store.containsKey("gen::0::key"));
+
+		generational.clear();
+
+		assertNull(generational.get("key"));
+		assertTrue(cacheWriter.store.containsKey("gen::0::key"));
+		generational.put("key", "other");
+		assertEquals("other", generational.get("key").get());
+		assertTrue(cacheWriter.store.containsKey("gen::1::key"));
+
+		assertEquals(1, generational.sweepStaleGenerations());
+		assertFalse(cacheWriter.store.containsKey("gen::0::key"));
+		assertEquals("other", generational.get("key").get());
+	}
+
+	@Test
+	void generationalClearRequiresGenerationalWriter() {
+		CouchbaseCacheConfiguration config = CouchbaseCacheConfiguration.defaultCacheConfig()
+				.enableGenerationalClear(Duration.ofMinutes(1));
+
+		assertThrows(IllegalArgumentException.class, () -> new CouchbaseCache("gen", new InMemoryCacheWriter(), config));
+	}
+
+	private static Map<Object, Object> map(Object... keysAndValues) {
+		Map<Object, Object> map = new LinkedHashMap<>();
+		for (int i = 0; i < keysAndValues.length; i += 2) {
+			map.put(keysAndValues[i], keysAndValues[i + 1]);
+		}
+		return map;
+	}
+
+	static class InMemoryCacheWriter implements CouchbaseCacheWriter {
+
+		final Map<String, Object> store = new ConcurrentHashMap<>();
+		final Set<String> failing = ConcurrentHashMap.newKeySet();
+		final AtomicInteger gets = new AtomicInteger();
+		volatile Runnable afterNextGet;
+
+		@Override
+		public void put(String collectionName, String key, Object value, Duration expiry, Transcoder transcoder) {
+			failIfFailing(key);
+			store.put(key, value);
+		}
+
+		@Override
+		public Object putIfAbsent(String collectionName, String key, Object value, Duration expiry,
+				Transcoder transcoder) {
+			return store.putIfAbsent(key, value);
+		}
+
+		@Override
+		public Object get(String collectionName, String key, Transcoder transcoder) {
+			gets.incrementAndGet();
+			failIfFailing(key);
+			Object value = store.get(key);
+			Runnable afterGet = afterNextGet;
+			if (afterGet != null) {
+				afterNextGet = null;
+				afterGet.run();
+			}
+			return value;
+		}
+
+		@Override
+		public boolean remove(String collectionName, String key) {
+			failIfFailing(key);
+			return store.remove(key) != null;
+		}
+
+		private void failIfFailing(String key) {
+			if (failing.contains(key)) {
+				throw new IllegalStateException("failed " + key);
+			}
+		}
+
+		@Override
+		public long clear(String pattern) {
+			long before = store.size();
+			store.keySet().removeIf(key -> key.startsWith(pattern));
+			return before - store.size();
+		}
+	}
+
+	static class GenerationalInMemoryCacheWriter extends InMemoryCacheWriter implements GenerationalCouchbaseCacheWriter {
+
+		final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+		@Override
+		public long getGeneration(String collectionName, String counterKey) {
+			AtomicLong counter = counters.get(counterKey);
+			return counter == null ? 0 : counter.get();
+		}
+
+		@Override
+		public long incrementGeneration(String collectionName, String counterKey) {
+			return counters.computeIfAbsent(counterKey, key -> new AtomicLong()).incrementAndGet();
+		}
+
+		@Override
+		public long clearStaleGenerations(String pattern, String currentPattern, String counterKey) {
+			long before = store.size();
+			store.keySet().removeIf(key -> key.startsWith(pattern) && !key.startsWith(currentPattern)
+					&& !key.equals(counterKey));
+			return before - store.size();
+		}
+	}
+}
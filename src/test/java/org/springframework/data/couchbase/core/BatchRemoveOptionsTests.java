@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BatchRemoveOptions}.
+ */
+class BatchRemoveOptionsTests {
+
+	@Test
+	void boundariesSplitIdsIntoRanges() {
+		BatchRemoveOptions options = BatchRemoveOptions.batchRemoveOptions().partitionedById("4", "8");
+
+		assertThat(options.idRanges()).containsExactly(new String[] { null, "4" }, new String[] { "4", "8" },
+				new String[] { "8", null });
+		assertThat(BatchRemoveOptions.batchRemoveOptions().idRanges()).containsExactly(new String[] { null, null });
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> BatchRemoveOptions.batchRemoveOptions().partitionedById("8", "4"));
+	}
+
+	@Test
+	void throttleSharesRateAcrossBatches() {
+		BatchRemoveOptions options = BatchRemoveOptions.batchRemoveOptions().rateLimit(1000);
+		AtomicLong timeline = new AtomicLong(System.nanoTime());
+
+		long start = System.nanoTime();
+		options.throttle(timeline, 50).block(Duration.ofSeconds(5));
+		options.throttle(timeline, 50).block(Duration.ofSeconds(5));
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(90));
+		assertThat(BatchRemoveOptions.batchRemoveOptions().throttle(timeline, 50).block()).isNull();
+	}
+}
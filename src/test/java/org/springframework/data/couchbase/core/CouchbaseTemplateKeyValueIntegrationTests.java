@@ -27,13 +27,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.couchbase.core.ExecutableRemoveByIdOperation.ExecutableRemoveById;
 import org.springframework.data.couchbase.core.ExecutableReplaceByIdOperation.ExecutableReplaceById;
@@ -43,10 +50,13 @@ import org.springframework.data.couchbase.domain.User;
 import org.springframework.data.couchbase.domain.UserAnnotated;
 import org.springframework.data.couchbase.domain.UserAnnotated2;
 import org.springframework.data.couchbase.domain.UserAnnotated3;
+import org.springframework.data.couchbase.domain.UserPartialUpdate;
+import org.springframework.data.couchbase.domain.UserPreferences;
 import org.springframework.data.couchbase.util.ClusterType;
 import org.springframework.data.couchbase.util.IgnoreWhen;
 import org.springframework.data.couchbase.util.JavaIntegrationTests;
 
+import com.couchbase.client.java.kv.MutateInSpec;
 import com.couchbase.client.java.kv.PersistTo;
 import com.couchbase.client.java.kv.ReplicateTo;
 
@@ -68,6 +78,53 @@ class CouchbaseTemplateKeyValueIntegrationTests extends JavaIntegrationTests {
 		couchbaseTemplate.removeByQuery(User.class).all();
 		couchbaseTemplate.removeByQuery(UserAnnotated.class).all();
 		couchbaseTemplate.removeByQuery(UserAnnotated2.class).all();
+		couchbaseTemplate.removeByQuery(UserPartialUpdate.class).all();
+	}
+
+	@Test
+	void replaceAndUpsertSendChangedFieldsOfPartialUpdateEntity() {
+		UserPartialUpdate user = new UserPartialUpdate(UUID.randomUUID().toString(), "firstname", "lastname");
+		couchbaseTemplate.insertById(UserPartialUpdate.class).one(user);
+
+		UserPartialUpdate found = couchbaseTemplate.findById(UserPartialUpdate.class).one(user.getId());
+		found.setNickname("replaced");
+		UserPartialUpdate replaced = couchbaseTemplate.replaceById(UserPartialUpdate.class).one(found);
+		replaced.setNickname("upserted");
+		UserPartialUpdate upserted = couchbaseTemplate.upsertById(UserPartialUpdate.class).one(replaced);
+
+		UserPartialUpdate stored = couchbaseTemplate.findById(UserPartialUpdate.class).one(user.getId());
+		assertEquals("upserted", stored.getNickname());
+		assertEquals("firstname", stored.getFirstname());
+		assertEquals("lastname", stored.getLastname());
+		assertEquals(upserted.getVersion(), stored.getVersion());
+	}
+
+	@Test
+	void partialUpdateOfDocumentChangedSinceReadFallsBack() {
+		UserPartialUpdate user = new UserPartialUpdate(UUID.randomUUID().toString(), "firstname", "lastname");
+		couchbaseTemplate.insertById(UserPartialUpdate.class).one(user);
+		com.couchbase.client.java.Collection collection = couchbaseTemplate.getCouchbaseClientFactory().getDefaultCollection();
+
+		// the CAS changes behind the back of the template, which still holds the snapshot of the read
+		UserPartialUpdate found = couchbaseTemplate.findById(UserPartialUpdate.class).one(user.getId());
+		collection.mutateIn(user.getId(), Collections.singletonList(MutateInSpec.upsert("lastname", "changed")));
+		found.setNickname("stale");
+		assertThrows(DataIntegrityViolationException.class,
+				() -> couchbaseTemplate.replaceById(UserPartialUpdate.class).one(found));
+
+		// an upsert overwrites the changed document
+		couchbaseTemplate.upsertById(UserPartialUpdate.class).one(found);
+		UserPartialUpdate stored = couchbaseTemplate.findById(UserPartialUpdate.class).one(user.getId());
+		assertEquals("stale", stored.getNickname());
+		assertEquals("lastname", stored.getLastname());
+
+		// and recreates a removed one
+		collection.remove(user.getId());
+		stored.setNickname("recreated");
+		assertThrows(DataRetrievalFailureException.class,
+				() -> couchbaseTemplate.replaceById(UserPartialUpdate.class).one(stored));
+		couchbaseTemplate.upsertById(UserPartialUpdate.class).one(stored);
+		assertEquals("recreated", couchbaseTemplate.findById(UserPartialUpdate.class).one(user.getId()).getNickname());
 	}
 
 	@Test
@@ -90,6 +147,21 @@ class CouchbaseTemplateKeyValueIntegrationTests extends JavaIntegrationTests {
 		reactiveCouchbaseTemplate.replaceById(User.class).withDurability(PersistTo.ACTIVE, ReplicateTo.THREE).one(user);
 	}
 
+	@Test
+	void upsertAndFindByIdWithCharactersAndLocales() {
+		UserPreferences preferences = new UserPreferences(UUID.randomUUID().toString(), 'j', ';', Locale.CANADA_FRENCH);
+		try {
+			couchbaseTemplate.upsertById(UserPreferences.class).one(preferences);
+
+			UserPreferences found = couchbaseTemplate.findById(UserPreferences.class).one(preferences.getId());
+			assertEquals(Character.valueOf('j'), found.getInitial());
+			assertEquals(';', found.getSeparator());
+			assertEquals(Locale.CANADA_FRENCH, found.getLocale());
+		} finally {
+			couchbaseTemplate.removeById().one(preferences.getId());
+		}
+	}
+
 	@Test
 	void withDurability()
 			throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
@@ -225,6 +297,37 @@ class CouchbaseTemplateKeyValueIntegrationTests extends JavaIntegrationTests {
 		}
 	}
 
+	@Test
+	void bulkUpsertFindAndRemoveById() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			users.add(new User(UUID.randomUUID().toString(), "firstname" + i, "lastname"));
+		}
+		BulkOptions options = BulkOptions.bulkOptions().concurrency(8).ordered();
+
+		Collection<? extends User> saved = couchbaseTemplate.upsertById(User.class).all(users, options);
+		assertEquals(users, new ArrayList<>(saved));
+
+		List<String> ids = users.stream().map(User::getId).collect(Collectors.toList());
+		String missing = UUID.randomUUID().toString();
+		List<String> idsAndMissing = new ArrayList<>(ids);
+		idsAndMissing.add(missing);
+		List<BulkResult<User>> found = couchbaseTemplate.findById(User.class).bulk(idsAndMissing, options);
+		assertEquals(idsAndMissing.size(), found.size());
+		for (int i = 0; i < users.size(); i++) {
+			assertTrue(found.get(i).isSuccess());
+			assertEquals(users.get(i), found.get(i).getValue().get());
+		}
+		assertEquals(missing, found.get(users.size()).getId());
+		assertFalse(found.get(users.size()).getValue().isPresent());
+
+		List<BulkResult<RemoveResult>> removed = couchbaseTemplate.removeById().bulk(idsAndMissing, options);
+		assertEquals(ids.size(), removed.stream().filter(BulkResult::isSuccess).count());
+		assertEquals(missing, removed.get(users.size()).getId());
+		assertNotNull(removed.get(users.size()).getError());
+		assertTrue(couchbaseTemplate.findById(User.class).all(ids).isEmpty());
+	}
+
 	@Test
 	void insertById() {
 		User user = new User(UUID.randomUUID().toString(), "firstname", "lastname");
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.data.couchbase.core.query.N1QLExpression.i;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.QueryCriteria;
+import org.springframework.data.couchbase.domain.Author;
+import org.springframework.data.couchbase.domain.Book;
+import org.springframework.data.couchbase.domain.LazyAuthor;
+import org.springframework.data.couchbase.util.Capabilities;
+import org.springframework.data.couchbase.util.ClusterType;
+import org.springframework.data.couchbase.util.IgnoreWhen;
+import org.springframework.data.couchbase.util.JavaIntegrationTests;
+import org.springframework.data.domain.Sort;
+
+import com.couchbase.client.java.manager.query.CreateQueryIndexOptions;
+import com.couchbase.client.java.query.QueryScanConsistency;
+
+/**
+ * Tests for the batched resolution of {@link org.springframework.data.couchbase.core.query.N1qlJoin} properties.
+ * These tests rely on a cb server running.
+ */
+@IgnoreWhen(missesCapabilities = Capabilities.QUERY, clusterTypes = ClusterType.MOCKED)
+class CouchbaseTemplateN1qlJoinIntegrationTests extends JavaIntegrationTests {
+
+	@BeforeAll
+	public static void createAuthorIdIndex() {
+		couchbaseTemplate.getCouchbaseClientFactory().getCluster().queryIndexes().createIndex(bucketName(),
+				"book_author_id", Collections.singletonList("authorId"),
+				CreateQueryIndexOptions.createQueryIndexOptions().ignoreIfExists(true));
+	}
+
+	@BeforeEach
+	@Override
+	public void beforeEach() {
+		super.beforeEach();
+		removeAll();
+	}
+
+	@AfterEach
+	@Override
+	public void afterEach() {
+		removeAll();
+		super.afterEach();
+	}
+
+	@Test
+	void joinedEntitiesAreFannedOutToTheirParentsAcrossBatches() {
+		List<Author> authors = new ArrayList<>();
+		List<Book> books = new ArrayList<>();
+		for (int i = 0; i < 5; i++) { // three batches of at most two authors
+			Author author = new Author("author::" + i, "author" + i);
+			authors.add(author);
+			for (int j = 0; j < i; j++) {
+				books.add(new Book("book::" + i + "::" + j, author.getId(), "title" + j));
+			}
+		}
+		couchbaseTemplate.upsertById(Author.class).all(authors);
+		couchbaseTemplate.upsertById(Book.class).all(books);
+		awaitBooksIndexed(books.size());
+
+		List<Author> found = couchbaseTemplate.findByQuery(Author.class).withConsistency(QueryScanConsistency.REQUEST_PLUS)
+				.all();
+
+		assertEquals(authors.size(), found.size());
+		for (Author author : found) {
+			int expectedBooks = Integer.parseInt(author.getName().substring("author".length()));
+			assertEquals(expectedBooks, author.getBooks().size(), author.getName());
+			for (Book book : author.getBooks()) {
+				assertEquals(author.getId(), book.getAuthorId());
+			}
+		}
+		assertEquals(2, couchbaseTemplate.findById(Author.class).one("author::2").getBooks().size());
+	}
+
+	@Test
+	void lazyJoinLoadsTheWholeBatchOnFirstAccess() {
+		List<LazyAuthor> authors = new ArrayList<>();
+		List<Book> books = new ArrayList<>();
+		for (int i = 0; i < 3; i++) { // a batch of two authors, and a batch of one
+			LazyAuthor author = new LazyAuthor("lazyauthor::" + i, "author" + i);
+			authors.add(author);
+			for (int j = 0; j < 2; j++) {
+				books.add(new Book("book::" + i + "::" + j, author.getId(), "title" + j));
+			}
+		}
+		couchbaseTemplate.upsertById(LazyAuthor.class).all(authors);
+		couchbaseTemplate.upsertById(Book.class).all(books);
+		awaitBooksIndexed(books.size());
+
+		List<LazyAuthor> found = couchbaseTemplate.findByQuery(LazyAuthor.class)
+				.withConsistency(QueryScanConsistency.REQUEST_PLUS).matching(new Query().with(Sort.by("name"))).all();
+		assertEquals(2, found.get(0).getBooks().size());
+
+		// once the books are gone, only a new join query can tell
+		couchbaseTemplate.removeByQuery(Book.class).withConsistency(QueryScanConsistency.REQUEST_PLUS).all();
+
+		assertEquals(2, found.get(1).getBooks().size(), "loaded with the batch of the first author");
+		assertTrue(found.get(2).getBooks().isEmpty(), "loaded by a query of its own batch");
+	}
+
+	private void awaitBooksIndexed(int count) {
+		Query booksWithAuthor = new Query(QueryCriteria.where(i("authorId")).isNotNull());
+		assertEquals(count, couchbaseTemplate.findByQuery(Book.class).withConsistency(QueryScanConsistency.REQUEST_PLUS)
+				.matching(booksWithAuthor).count());
+	}
+
+	private void removeAll() {
+		couchbaseTemplate.removeByQuery(Author.class).withConsistency(QueryScanConsistency.REQUEST_PLUS).all();
+		couchbaseTemplate.removeByQuery(LazyAuthor.class).withConsistency(QueryScanConsistency.REQUEST_PLUS).all();
+		couchbaseTemplate.removeByQuery(Book.class).withConsistency(QueryScanConsistency.REQUEST_PLUS).all();
+	}
+
+}
@@ -26,6 +26,7 @@ import static org.springframework.data.couchbase.core.query.N1QLExpression.i;
 
 import java.time.Instant;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -37,6 +38,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.data.couchbase.core.query.Query;
 import org.springframework.data.couchbase.core.query.QueryCriteria;
+import org.springframework.data.couchbase.core.query.Update;
 import org.springframework.data.couchbase.domain.Address;
 import org.springframework.data.couchbase.domain.Airport;
 import org.springframework.data.couchbase.domain.Config;
@@ -196,6 +198,69 @@ class CouchbaseTemplateQueryIntegrationTests extends JavaIntegrationTests {
 
 	}
 
+	@Test
+	void removeByQueryInBatches() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			users.add(new User(UUID.randomUUID().toString(), "user" + i, "user" + i));
+		}
+		couchbaseTemplate.upsertById(User.class).all(users);
+
+		long removed = couchbaseTemplate.removeByQuery(User.class).withConsistency(QueryScanConsistency.REQUEST_PLUS)
+				.countRemoved(BatchRemoveOptions.batchRemoveOptions().batchSize(2).partitionedById("8").rateLimit(1000));
+
+		assertEquals(5, removed);
+		for (User user : users) {
+			assertNull(couchbaseTemplate.findById(User.class).one(user.getId()));
+		}
+	}
+
+	@Test
+	void removeByQueryInBatchesNotBounded() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			users.add(new User(UUID.randomUUID().toString(), "user" + i, "user" + i));
+		}
+		couchbaseTemplate.upsertById(User.class).all(users);
+		assertEquals(7, couchbaseTemplate.findByQuery(User.class).withConsistency(QueryScanConsistency.REQUEST_PLUS).count());
+
+		// the batches after the first must not stop at keys of documents removed before, still in the index
+		long removed = couchbaseTemplate.removeByQuery(User.class)
+				.countRemoved(BatchRemoveOptions.batchRemoveOptions().batchSize(2));
+
+		assertEquals(7, removed);
+		for (User user : users) {
+			assertNull(couchbaseTemplate.findById(User.class).one(user.getId()));
+		}
+	}
+
+	@Test
+	void updateByQuery() {
+		User user1 = new User(UUID.randomUUID().toString(), "user1", "user1");
+		User user2 = new User(UUID.randomUUID().toString(), "user2", "user2");
+		User specialUser = new User(UUID.randomUUID().toString(), "special", "special");
+		couchbaseTemplate.upsertById(User.class).all(Arrays.asList(user1, user2, specialUser));
+		long createdDate = couchbaseTemplate.findById(User.class).one(user1.getId()).getCreatedDate();
+
+		Query nonSpecialUsers = new Query(QueryCriteria.where(i("firstname")).notLike("special"));
+		long updated = couchbaseTemplate.updateByQuery(User.class).withConsistency(QueryScanConsistency.REQUEST_PLUS)
+				.matching(nonSpecialUsers).apply(Update.update("lastname", "updated").inc("createdDate", 1)).countUpdated();
+
+		assertEquals(2, updated);
+		User found = couchbaseTemplate.findById(User.class).one(user1.getId());
+		assertEquals("updated", found.getLastname());
+		assertEquals(createdDate + 1, found.getCreatedDate());
+		assertEquals("special", couchbaseTemplate.findById(User.class).one(specialUser.getId()).getLastname());
+
+		List<User> renamed = couchbaseTemplate.updateByQuery(User.class).withConsistency(QueryScanConsistency.REQUEST_PLUS)
+				.matching(new Query(QueryCriteria.where(i("lastname")).is("updated")))
+				.apply(Update.update("lastname", "renamed")).all();
+
+		assertEquals(2, renamed.size());
+		assertTrue(renamed.stream().allMatch(user -> "renamed".equals(user.getLastname())));
+		assertEquals("renamed", couchbaseTemplate.findById(User.class).one(user2.getId()).getLastname());
+	}
+
 	@Test
 	void removeByMatchingQuery() {
 		User user1 = new User(UUID.randomUUID().toString(), "user1", "user1");
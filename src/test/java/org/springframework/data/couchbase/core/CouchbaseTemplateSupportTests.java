@@ -0,0 +1,220 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.translation.JacksonTranslationService;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.event.AbstractCouchbaseEventListener;
+import org.springframework.data.couchbase.core.mapping.event.AfterSaveEvent;
+import org.springframework.data.couchbase.core.mapping.event.BeforeConvertCallback;
+
+/**
+ * Unit tests for the publication of mapping events and the invocation of entity callbacks by
+ * {@link CouchbaseTemplateSupport}.
+ */
+class CouchbaseTemplateSupportTests {
+
+	private static final MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+
+	static {
+		converter.afterPropertiesSet();
+	}
+
+	private final GenericApplicationContext context = new GenericApplicationContext();
+	private final List<Runnable> afterEvents = new ArrayList<>();
+
+	@AfterEach
+	void closeContext() {
+		context.close();
+	}
+
+	@Test
+	void typedListenerOnlyPublishesEventsOfItsEntityType() {
+		context.registerBean(OtherAfterSaveListener.class);
+		context.refresh();
+		CouchbaseTemplateSupport support = support();
+
+		support.afterSave(new Item("item::1"), new CouchbaseDocument());
+		assertThat(afterEvents).isEmpty();
+
+		support.afterSave(new Other("other::1"), new CouchbaseDocument());
+		assertThat(afterEvents).hasSize(1);
+	}
+
+	@Test
+	void untypedListenerReceivesEventsOfAllEntityTypes() {
+		context.registerBean(ItemEventListener.class);
+		context.refresh();
+		CouchbaseTemplateSupport support = support();
+		support.setAfterEventExecutor(null);
+		Item item = new Item("item::1");
+
+		support.afterSave(item, support.encodeEntity(item));
+		assertThat(context.getBean(ItemEventListener.class).events).containsExactly("beforeConvert", "beforeSave",
+				"afterSave");
+
+		support.setAfterEventExecutor(afterEvents::add);
+		support.afterSave(new Other("other::1"), new CouchbaseDocument());
+		assertThat(afterEvents).hasSize(1);
+	}
+
+	@Test
+	void callbackBeanOnlyRunsForItsEntityType() {
+		context.registerBean(ItemBeforeConvertCallback.class);
+		context.refresh();
+		CouchbaseTemplateSupport support = support();
+
+		CouchbaseDocument item = support.encodeEntity(new Item("item::1"));
+		CouchbaseDocument other = support.encodeEntity(new Other("other::1"));
+
+		assertThat(item.get("name")).isEqualTo("converted");
+		assertThat(other.get("name")).isNull();
+		assertThat(context.getBean(ItemBeforeConvertCallback.class).calls).isEqualTo(1);
+	}
+
+	@Test
+	void afterSaveEventIsDispatchedOnExecutor() {
+		context.registerBean(ItemEventListener.class);
+		context.refresh();
+		CouchbaseTemplateSupport support = support();
+		ItemEventListener listener = context.getBean(ItemEventListener.class);
+
+		support.afterSave(new Item("item::1"), new CouchbaseDocument());
+		assertThat(listener.events).isEmpty();
+		assertThat(afterEvents).hasSize(1);
+
+		afterEvents.get(0).run();
+		assertThat(listener.events).containsExactly("afterSave");
+	}
+
+	@Test
+	void afterSaveEventRejectedByExecutorIsPublishedOnCallingThread() {
+		context.registerBean(ItemEventListener.class);
+		context.refresh();
+		CouchbaseTemplateSupport support = support();
+		support.setAfterEventExecutor(command -> {
+			throw new RejectedExecutionException("full");
+		});
+
+		support.afterSave(new Item("item::1"), new CouchbaseDocument());
+
+		assertThat(context.getBean(ItemEventListener.class).events).containsExactly("afterSave");
+	}
+
+	@Test
+	void listenersAreResolvedOncePerEntityType() {
+		context.refresh();
+		CouchbaseTemplateSupport support = support();
+
+		support.afterSave(new Item("item::1"), new CouchbaseDocument());
+		context.addApplicationListener((ApplicationListener<AfterSaveEvent<?>>) event -> {});
+		support.afterSave(new Item("item::2"), new CouchbaseDocument());
+		assertThat(afterEvents).isEmpty();
+
+		support.afterSave(new Other("other::1"), new CouchbaseDocument());
+		assertThat(afterEvents).hasSize(1);
+	}
+
+	@Test
+	void publishesAllEventsUntilContextIsRunning() {
+		CouchbaseTemplateSupport support = support();
+
+		support.afterSave(new Item("item::1"), new CouchbaseDocument());
+		assertThat(afterEvents).hasSize(1);
+
+		context.refresh();
+		support.afterSave(new Item("item::2"), new CouchbaseDocument());
+		assertThat(afterEvents).hasSize(1);
+	}
+
+	private CouchbaseTemplateSupport support() {
+		CouchbaseTemplateSupport support = new CouchbaseTemplateSupport(converter, new JacksonTranslationService());
+		support.setApplicationContext(context);
+		support.setAfterEventExecutor(afterEvents::add);
+		return support;
+	}
+
+	static class Item {
+
+		@Id private final String id;
+		private String name;
+
+		Item(String id) {
+			this.id = id;
+		}
+	}
+
+	static class Other {
+
+		@Id private final String id;
+		private String name;
+
+		Other(String id) {
+			this.id = id;
+		}
+	}
+
+	static class OtherAfterSaveListener implements ApplicationListener<AfterSaveEvent<Other>> {
+
+		@Override
+		public void onApplicationEvent(AfterSaveEvent<Other> event) {}
+	}
+
+	static class ItemEventListener extends AbstractCouchbaseEventListener<Item> {
+
+		private final List<String> events = new ArrayList<>();
+
+		@Override
+		public void onBeforeConvert(Item source) {
+			events.add("beforeConvert");
+		}
+
+		@Override
+		public void onBeforeSave(Item source, CouchbaseDocument doc) {
+			events.add("beforeSave");
+		}
+
+		@Override
+		public void onAfterSave(Item source, CouchbaseDocument doc) {
+			events.add("afterSave");
+		}
+	}
+
+	static class ItemBeforeConvertCallback implements BeforeConvertCallback<Item> {
+
+		private int calls;
+
+		@Override
+		public Item onBeforeConvert(Item entity, String collection) {
+			calls++;
+			entity.name = "converted";
+			return entity;
+		}
+	}
+
+}
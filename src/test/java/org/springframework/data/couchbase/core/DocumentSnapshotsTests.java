@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.translation.JacksonTranslationService;
+import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+
+/**
+ * Unit tests for {@link DocumentSnapshots}.
+ */
+class DocumentSnapshotsTests {
+
+	private static final MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+
+	static {
+		converter.afterPropertiesSet();
+	}
+
+	private final JacksonTranslationService translationService = new JacksonTranslationService();
+	private final DocumentSnapshots snapshots = new DocumentSnapshots(translationService);
+
+	@Test
+	void diffsChangedAddedAndRemovedFields() {
+		snapshots.record(Object.class, document("name", "Alice", "city", "Paris", "zip", "75001"), 5);
+
+		DocumentSnapshots.Delta delta = snapshots.diff(Object.class,
+				document("name", "Alice", "city", "Lyon", "country", "FR"), 5, "_class", 16);
+
+		assertThat(delta.getSpecs()).hasSize(3);
+		assertThat(snapshots.diff(Object.class, document("name", "Alice", "city", "Lyon"), 6, "_class", 16)).isNull();
+		assertThat(snapshots.diff(Object.class, document("name", "Bob", "city", "Lyon"), 5, "_class", 1)).isNull();
+	}
+
+	@Test
+	void unchangedDocumentTouchesTypeKeyAndDeltaBecomesSnapshot() {
+		snapshots.record(Object.class, document("_class", "Person", "name", "Alice"), 5);
+
+		DocumentSnapshots.Delta delta = snapshots.diff(Object.class, document("_class", "Person", "name", "Bob"), 5,
+				"_class", 16);
+		assertThat(delta.getSpecs()).hasSize(1);
+		snapshots.record(delta, 7);
+
+		assertThat(snapshots.diff(Object.class, document("_class", "Person", "name", "Bob"), 7, "_class", 16).getSpecs())
+				.hasSize(1);
+		assertThat(snapshots.diff(Object.class, document("_class", "Person", "name", "Bob"), 5, "_class", 16)).isNull();
+	}
+
+	@Test
+	void nestedObjectsReadAndWrittenAreEqualWhateverTheirKeyOrder() {
+		CouchbaseDocument written = new CouchbaseDocument();
+		converter.write(new Route("route::1"), written);
+		CouchbaseDocument read = new CouchbaseDocument(written.getId());
+		translationService.decode(translationService.encode(written), read);
+		snapshots.record(Route.class, read, 5);
+
+		DocumentSnapshots.Delta delta = snapshots.diff(Route.class, written, 5, converter.getTypeKey(), 16);
+
+		// only the type key is touched, the nested object is unchanged
+		assertThat(delta.getSpecs()).hasSize(1);
+	}
+
+	@Test
+	void nestedKeyOrderDoesNotChangeFingerprint() {
+		CouchbaseDocument ascending = new CouchbaseDocument();
+		CouchbaseDocument descending = new CouchbaseDocument(null, CouchbaseDocument.DEFAULT_EXPIRATION_TIME, 12);
+		for (int i = 0; i < 12; i++) {
+			ascending.put("stop" + i, "value" + i);
+			descending.put("stop" + (11 - i), "value" + (11 - i));
+		}
+		snapshots.record(Object.class, document("name", "Alice").put("stops", ascending), 5);
+
+		DocumentSnapshots.Delta delta = snapshots.diff(Object.class, document("name", "Bob").put("stops", descending),
+				5, "_class", 16);
+
+		assertThat(delta.getSpecs()).hasSize(1);
+	}
+
+	private static CouchbaseDocument document(String... fields) {
+		CouchbaseDocument document = new CouchbaseDocument("person::1");
+		for (int i = 0; i < fields.length; i += 2) {
+			document.put(fields[i], fields[i + 1]);
+		}
+		return document;
+	}
+
+	static class Route {
+
+		@Id private final String id;
+		private final Stops stops = new Stops();
+
+		Route(String id) {
+			this.id = id;
+		}
+	}
+
+	static class Stops {
+
+		private final String paris = "CDG";
+		private final String london = "LHR";
+		private final String frankfurt = "FRA";
+		private final String amsterdam = "AMS";
+		private final String madrid = "MAD";
+		private final String rome = "FCO";
+		private final String vienna = "VIE";
+		private final String zurich = "ZRH";
+		private final String lisbon = "LIS";
+		private final String dublin = "DUB";
+		private final String oslo = "OSL";
+		private final String athens = "ATH";
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HedgedReadPolicy}.
+ */
+class HedgedReadPolicyTests {
+
+	@Test
+	void replicaAnswersSlowActiveRead() {
+		HedgedReadPolicy policy = HedgedReadPolicy.afterDelay(Duration.ofMillis(10));
+
+		String found = policy.hedge(Mono.<String> never(), Mono.just("replica")).block(Duration.ofSeconds(5));
+
+		assertThat(found).isEqualTo("replica");
+		assertThat(policy.getHedges()).isEqualTo(1);
+		assertThat(policy.getHedgesWon()).isEqualTo(1);
+	}
+
+	@Test
+	void fastActiveReadIsNotHedged() {
+		HedgedReadPolicy policy = HedgedReadPolicy.afterDelay(Duration.ofSeconds(10));
+
+		String found = policy.hedge(Mono.just("active"), Mono.just("replica")).block(Duration.ofSeconds(5));
+
+		assertThat(found).isEqualTo("active");
+		assertThat(policy.getReads()).isEqualTo(1);
+		assertThat(policy.getHedges()).isZero();
+	}
+
+	@Test
+	void emptyReplicaReadDefersToActiveRead() {
+		HedgedReadPolicy policy = HedgedReadPolicy.afterDelay(Duration.ZERO);
+
+		String found = policy.hedge(Mono.delay(Duration.ofMillis(50)).map(tick -> "active"), Mono.<String> empty())
+				.block(Duration.ofSeconds(5));
+
+		assertThat(found).isEqualTo("active");
+	}
+
+	@Test
+	void activeReadsOutrunByReplicaKeepPercentileDelay() {
+		HedgedReadPolicy policy = HedgedReadPolicy.atPercentile(0.5, Duration.ofMillis(2)).withBudget(1);
+
+		for (int i = 0; i < 256; i++) {
+			Mono<String> active = i % 4 == 0 ? Mono.just("active") : Mono.never();
+			policy.hedge(active, Mono.just("replica")).block(Duration.ofSeconds(5));
+		}
+
+		assertThat(policy.getHedgesWon()).isEqualTo(192);
+		assertThat(policy.getDelay()).isGreaterThanOrEqualTo(Duration.ofMillis(2));
+	}
+
+	@Test
+	void budgetCapsHedges() {
+		HedgedReadPolicy policy = HedgedReadPolicy.afterDelay(Duration.ZERO).withBudget(0);
+
+		for (int i = 0; i < 20; i++) {
+			policy.hedge(Mono.delay(Duration.ofMillis(5)).map(tick -> "active"), Mono.<String> never())
+					.block(Duration.ofSeconds(5));
+		}
+
+		assertThat(policy.getHedges()).isEqualTo(10);
+		assertThat(policy.getHedgesDenied()).isEqualTo(10);
+	}
+}
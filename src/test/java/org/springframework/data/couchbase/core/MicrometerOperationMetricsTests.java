@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.OperationSample.Outcome;
+import org.springframework.data.couchbase.domain.Airport;
+
+/**
+ * Unit tests for {@link MicrometerOperationMetrics}.
+ */
+class MicrometerOperationMetricsTests {
+
+	@Test
+	void recordsOperationPhasesAndRows() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		OperationMetrics metrics = new MicrometerOperationMetrics(registry);
+
+		metrics.record(new OperationSample("findByQuery", Airport.class, null, Outcome.SUCCESS, null, 100, 10, 30, 5, 3,
+				300));
+
+		assertThat(registry.get("spring.data.couchbase.operation").tag("operation", "findByQuery")
+				.tag("entity", Airport.class.getName()).tag("outcome", "success").timer().count()).isEqualTo(1);
+		assertThat(registry.get("spring.data.couchbase.operation.phase").tag("phase", "round-trip").timer()
+				.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(55);
+		assertThat(registry.get("spring.data.couchbase.operation.phase").tag("phase", "decode").timer()
+				.totalTime(TimeUnit.NANOSECONDS)).isEqualTo(30);
+		assertThat(registry.get("spring.data.couchbase.operation.rows").summary().totalAmount()).isEqualTo(3);
+		assertThat(registry.get("spring.data.couchbase.operation.bytes").summary().totalAmount()).isEqualTo(300);
+	}
+
+	@Test
+	void skipsRowsOfOperationsWithoutQuery() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		OperationMetrics metrics = new MicrometerOperationMetrics(registry);
+
+		metrics.record(new OperationSample("removeById", null, "my_collection", Outcome.ERROR,
+				new IllegalStateException(), 100, 0, 0, 0, -1, -1));
+
+		assertThat(registry.get("spring.data.couchbase.operation").tag("collection", "my_collection")
+				.tag("outcome", "error").tag("exception", "IllegalStateException").timer().count()).isEqualTo(1);
+		assertThat(registry.find("spring.data.couchbase.operation.rows").summary()).isNull();
+	}
+}
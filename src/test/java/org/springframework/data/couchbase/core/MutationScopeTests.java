@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import reactor.core.publisher.Mono;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.core.msg.kv.MutationToken;
+import com.couchbase.client.java.kv.MutationState;
+
+/**
+ * Unit tests for {@link MutationScope}.
+ */
+class MutationScopeTests {
+
+	@Test
+	void keepsLatestTokenPerPartition() {
+		MutationScope scope = new MutationScope();
+		scope.add(new MutationToken((short) 1, 10, 5, "travel-sample"));
+		scope.add(new MutationToken((short) 1, 10, 7, "travel-sample"));
+		scope.add(new MutationToken((short) 1, 10, 6, "travel-sample"));
+		scope.add(new MutationToken((short) 2, 20, 1, "travel-sample"));
+
+		MutationState state = scope.toMutationState();
+
+		assertThat(state).extracting(MutationToken::sequenceNumber).containsExactlyInAnyOrder(7L, 1L);
+	}
+
+	@Test
+	void bindsThreadScopeToSubscriberContext() {
+		assertThat(MutationScope.current()).isNull();
+
+		MutationScope bound = MutationScope.run(() -> {
+			MutationScope current = MutationScope.current();
+			MutationScope fromContext = Mono.deferContextual(context -> Mono.justOrEmpty(MutationScope.from(context)))
+					.contextWrite(MutationScope::bindThreadScope).block();
+			assertThat(fromContext).isSameAs(current);
+			return current;
+		});
+
+		assertThat(bound).isNotNull();
+		assertThat(MutationScope.current()).isNull();
+	}
+}
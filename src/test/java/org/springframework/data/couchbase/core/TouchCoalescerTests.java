@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TouchCoalescer}.
+ */
+class TouchCoalescerTests {
+
+	@Test
+	void touchesOncePerInterval() {
+		TouchCoalescer coalescer = TouchCoalescer.of(Duration.ofHours(1));
+
+		assertThat(coalescer.tryTouch(null, "airport::1", Duration.ZERO)).isTrue();
+		assertThat(coalescer.tryTouch(null, "airport::1", Duration.ZERO)).isFalse();
+		assertThat(coalescer.tryTouch("my_collection", "airport::1", Duration.ZERO)).isTrue();
+		assertThat(coalescer.tryTouch(null, "airport::2", Duration.ZERO)).isTrue();
+	}
+
+	@Test
+	void sweepsExpiredTouchesOncePerInterval() throws InterruptedException {
+		TouchCoalescer coalescer = TouchCoalescer.of(Duration.ofSeconds(1));
+		for (int i = 0; i <= 10_000; i++) {
+			coalescer.tryTouch(null, "airport::" + i, Duration.ZERO);
+		}
+		assertThat(coalescer.size()).isEqualTo(10_001);
+
+		Thread.sleep(1100);
+		assertThat(coalescer.tryTouch(null, "airport::0", Duration.ZERO)).isTrue();
+		assertThat(coalescer.size()).isEqualTo(1);
+
+		for (int i = 1; i <= 10_001; i++) {
+			coalescer.tryTouch(null, "airport::" + i, Duration.ZERO);
+		}
+		assertThat(coalescer.size()).isEqualTo(10_002);
+	}
+
+	@Test
+	void touchesAgainAfterReleasedTouch() {
+		TouchCoalescer coalescer = TouchCoalescer.of(Duration.ofHours(1));
+
+		assertThat(coalescer.tryTouch(null, "airport::1", Duration.ZERO)).isTrue();
+		coalescer.release(null, "airport::1");
+		assertThat(coalescer.tryTouch(null, "airport::1", Duration.ZERO)).isTrue();
+		assertThat(coalescer.tryTouch(null, "airport::1", Duration.ZERO)).isFalse();
+	}
+
+	@Test
+	void capsIntervalAtHalfTheExpiry() throws InterruptedException {
+		TouchCoalescer coalescer = TouchCoalescer.of(Duration.ofHours(1));
+
+		assertThat(coalescer.tryTouch(null, "airport::1", Duration.ofSeconds(1))).isTrue();
+		assertThat(coalescer.tryTouch(null, "airport::1", Duration.ofSeconds(1))).isFalse();
+
+		Thread.sleep(600);
+		assertThat(coalescer.tryTouch(null, "airport::1", Duration.ofSeconds(1))).isTrue();
+	}
+
+	@Test
+	void touchesEveryReadWithoutInterval() {
+		assertThat(TouchCoalescer.of(null)).isNull();
+		assertThat(TouchCoalescer.of(Duration.ZERO)).isNull();
+	}
+}
@@ -18,9 +18,15 @@ package org.springframework.data.couchbase.core.convert.translation;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
 import org.springframework.data.couchbase.core.mapping.CouchbaseDocument;
+import org.springframework.data.couchbase.core.mapping.CouchbaseList;
+import org.springframework.data.couchbase.domain.UserPreferences;
 
 /**
  * Verifies the functionality of a {@link JacksonTranslationService}.
@@ -45,6 +51,40 @@ public class JacksonTranslationServiceTests {
 		assertEquals(expected, service.encode(doc));
 	}
 
+	@Test
+	void shouldEncodeRawBytes() {
+		CouchbaseDocument doc = new CouchbaseDocument("key");
+		doc.put("language", "русский");
+		doc.put("nested", new CouchbaseDocument().put("tags",
+				new CouchbaseList().put("a").put(new CouchbaseDocument().put("count", 3)).put(new CouchbaseList())));
+
+		byte[] encoded = service.encodeToBytes(doc);
+		assertEquals(service.encode(doc), new String(encoded, StandardCharsets.UTF_8));
+
+		CouchbaseDocument decoded = new CouchbaseDocument();
+		service.decode(encoded, decoded);
+		assertEquals(doc.export(), decoded.export());
+	}
+
+	@Test
+	void shouldRoundTripCharactersAndLocales() {
+		MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+		converter.afterPropertiesSet();
+		CouchbaseDocument doc = new CouchbaseDocument();
+		converter.write(new UserPreferences("key", 'j', ';', Locale.CANADA_FRENCH), doc);
+
+		byte[] encoded = new JacksonTranslationService().encodeToBytes(doc);
+		CouchbaseDocument decoded = new CouchbaseDocument("key");
+		service.decode(encoded, decoded);
+		assertEquals("j", decoded.get("initial"));
+		assertEquals("fr_CA", decoded.get("locale"));
+
+		UserPreferences read = converter.read(UserPreferences.class, decoded);
+		assertEquals(Character.valueOf('j'), read.getInitial());
+		assertEquals(';', read.getSeparator());
+		assertEquals(Locale.CANADA_FRENCH, read.getLocale());
+	}
+
 	@Test
 	void shouldDecodeNonASCII() {
 		String source = "{\"language\":\"русский\"}";
@@ -53,6 +93,18 @@ public class JacksonTranslationServiceTests {
 		assertEquals("русский", target.get("language"));
 	}
 
+	@Test
+	void shouldDecodeRawBytes() {
+		byte[] source = "{\"__id\":\"key\",\"language\":\"русский\",\"nested\":{\"count\":3}}"
+				.getBytes(StandardCharsets.UTF_8);
+		CouchbaseDocument target = new CouchbaseDocument();
+		service.decode(source, target);
+		assertEquals("key", target.remove("__id"));
+		assertEquals("русский", target.get("language"));
+		assertEquals(3, ((CouchbaseDocument) target.get("nested")).get("count"));
+		assertFalse(target.containsKey("__id"));
+	}
+
 	@Test
 	void shouldDecodeAdHocFragment() {
 		String source = "{\"language\":\"french\"}";
@@ -180,6 +180,17 @@ public class BasicCouchbasePersistentEntityTests {
 				() -> getBasicCouchbasePersistentEntity(ExpiryAndExpression.class).getExpiry());
 	}
 
+	@Test
+	void metadataIsTakenWhenEntityIsRegistered() {
+		BasicCouchbasePersistentEntity<?> entity = new CouchbaseMappingContext()
+				.getRequiredPersistentEntity(ProjectedDocument.class);
+
+		assertThat(entity.getMetadata()).isSameAs(entity.getMetadata());
+		assertThat(entity.getMetadata().getProjectedFields()).containsExactlyInAnyOrder("name", "age");
+		assertThat(entity.getMetadata().isTouchOnRead()).isTrue();
+		assertThat(entity.getExpiry()).isEqualTo(10);
+	}
+
 	private BasicCouchbasePersistentEntity getBasicCouchbasePersistentEntity(Class<?> clazz) {
 		BasicCouchbasePersistentEntity basicCouchbasePersistentEntity = new BasicCouchbasePersistentEntity(
 				ClassTypeInformation.from(clazz));
@@ -198,6 +209,13 @@ public class BasicCouchbasePersistentEntityTests {
 	@Document(expiry = 10, touchOnRead = true)
 	public static class SimpleDocumentWithTouchOnRead {}
 
+	@Document(expiry = 10, touchOnRead = true)
+	public static class ProjectedDocument {
+		String id;
+		String name;
+		int age;
+	}
+
 	/**
 	 * Simple POJO to test default expiry.
 	 */
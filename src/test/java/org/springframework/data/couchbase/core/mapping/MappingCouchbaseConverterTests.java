@@ -270,6 +270,25 @@ public class MappingCouchbaseConverterTests {
 		assertThat(readConverted.attr3).isEqualTo(attr3);
 	}
 
+	@Test
+	void exportViewMatchesExport() {
+		CouchbaseDocument converted = new CouchbaseDocument();
+
+		Map<String, String> attr0 = new HashMap<>();
+		Map<String, Map<String, String>> attr3 = new HashMap<>();
+		attr0.put("foo", "bar");
+		attr3.put("hashmap", attr0);
+
+		converter.write(new MapEntity(attr0, new TreeMap<>(), new LinkedHashMap<>(), attr3), converted);
+		Map<String, Object> view = converted.exportView();
+		assertThat(view).isEqualTo(converted.export());
+		assertThat(view.get("attr3")).isEqualTo(attr3);
+		assertThrows(UnsupportedOperationException.class, () -> view.put("attr4", "baz"));
+
+		converted.put("attr4", "baz");
+		assertThat(view.get("attr4")).isEqualTo("baz");
+	}
+
 	@Test
 	void writesAndReadsListAndNestedList() {
 		CouchbaseDocument converted = new CouchbaseDocument();
@@ -606,6 +625,76 @@ public class MappingCouchbaseConverterTests {
 		assertThat(readConverted.getAddress().getStreet()).isEqualTo(person.getAddress().getStreet());
 	}
 
+	@Test
+	void writesFinalTypedPropertyWithCustomConverter() {
+		MappingCouchbaseConverter moneyConverter = new MappingCouchbaseConverter();
+		moneyConverter.setCustomConversions(
+				new CouchbaseCustomConversions(Collections.singletonList(MoneyToStringConverter.INSTANCE)));
+		moneyConverter.afterPropertiesSet();
+
+		CouchbaseDocument converted = new CouchbaseDocument();
+		moneyConverter.write(new Invoice("invoice::1", new Money(1250)), converted);
+
+		assertThat(converted.get("total")).isEqualTo("12.50");
+	}
+
+	@Test
+	void writePlansAreRebuiltWhenCustomConversionsChange() {
+		MappingCouchbaseConverter moneyConverter = new MappingCouchbaseConverter();
+		moneyConverter.afterPropertiesSet();
+		Invoice invoice = new Invoice("invoice::1", new Money(1250));
+
+		CouchbaseDocument converted = new CouchbaseDocument();
+		moneyConverter.write(invoice, converted);
+		assertThat(converted.get("total")).isInstanceOf(CouchbaseDocument.class);
+		assertThat(((CouchbaseDocument) converted.get("total")).get("cents")).isEqualTo(1250L);
+
+		moneyConverter.setCustomConversions(
+				new CouchbaseCustomConversions(Collections.singletonList(MoneyToStringConverter.INSTANCE)));
+		moneyConverter.afterPropertiesSet();
+
+		converted = new CouchbaseDocument();
+		moneyConverter.write(invoice, converted);
+		assertThat(converted.get("total")).isEqualTo("12.50");
+	}
+
+	@Test
+	void writesAndReadsEnumsByName() {
+		EntityWithEnums entity = new EntityWithEnums();
+		entity.id = "enums::1";
+		entity.color = Color.GREEN;
+		entity.planet = Planet.MARS;
+
+		CouchbaseDocument converted = new CouchbaseDocument();
+		converter.write(entity, converted);
+		assertThat(converted.get("color")).isEqualTo("GREEN");
+		assertThat(converted.get("planet")).isEqualTo("MARS");
+
+		EntityWithEnums read = converter.read(EntityWithEnums.class, converted);
+		assertThat(read.color).isEqualTo(Color.GREEN);
+		assertThat(read.planet).isEqualTo(Planet.MARS);
+	}
+
+	@Test
+	void readsPropertiesThroughGetValueInternal() {
+		MappingCouchbaseConverter upperCasing = new MappingCouchbaseConverter() {
+			@Override
+			protected Object getValueInternal(CouchbasePersistentProperty property, CouchbaseDocument source,
+					Object parent) {
+				Object value = super.getValueInternal(property, source, parent);
+				return value instanceof String ? ((String) value).toUpperCase() : value;
+			}
+		};
+		upperCasing.afterPropertiesSet();
+		CouchbaseDocument source = new CouchbaseDocument("note::1");
+		source.put("text", "hello");
+
+		Note read = upperCasing.read(Note.class, source);
+
+		assertThat(read.id).isEqualTo("note::1");
+		assertThat(read.text).isEqualTo("HELLO");
+	}
+
 	@WritingConverter
 	public enum BigDecimalToStringConverter implements Converter<BigDecimal, String> {
 		INSTANCE;
@@ -626,6 +715,70 @@ public class MappingCouchbaseConverterTests {
 		}
 	}
 
+	@WritingConverter
+	public enum MoneyToStringConverter implements Converter<Money, String> {
+		INSTANCE;
+
+		@Override
+		public String convert(Money source) {
+			return BigDecimal.valueOf(source.cents, 2).toPlainString();
+		}
+	}
+
+	static final class Money {
+
+		private final long cents;
+
+		Money(long cents) {
+			this.cents = cents;
+		}
+	}
+
+	static class Invoice {
+
+		@Id private final String id;
+		private final Money total;
+
+		Invoice(String id, Money total) {
+			this.id = id;
+			this.total = total;
+		}
+	}
+
+	enum Color {
+		RED, GREEN
+	}
+
+	enum Planet { // the constants have bodies, so the type of the property is not final
+		EARTH {
+			@Override
+			int moons() {
+				return 1;
+			}
+		},
+		MARS {
+			@Override
+			int moons() {
+				return 2;
+			}
+		};
+
+		abstract int moons();
+	}
+
+	static class Note {
+
+		@Id private String id;
+		private String text;
+	}
+
+	static class EntityWithEnums {
+
+		@Id private String id;
+		private Color color;
+		private Planet planet;
+	}
+
 	static class EntityWithoutID {
 
 		private String attr0;
@@ -956,6 +1109,45 @@ public class MappingCouchbaseConverterTests {
 		assertThat(converted.getId()).isEqualTo(entity.prefix1 + '.' + entity.someId + '.' + entity.suffix);
 	}
 
+	@Test
+	void idHasPartsWithGapsAndDuplicateOrders() {
+		class Entity {
+			@GeneratedValue(strategy = GenerationStrategy.USE_ATTRIBUTES) @Id public String id;
+			@IdPrefix(order = 20) public String prefix20 = "p20";
+			@IdPrefix(order = 5) public String prefix5 = "p5";
+			@IdPrefix(order = 10) public String prefix10 = null;
+			@IdAttribute(order = 7) public String attribute7 = "a7";
+			@IdAttribute(order = 3) public String attribute3 = "a3";
+			@IdAttribute(order = 7) public String attribute7Again = "a7again";
+			@IdSuffix(order = 100) public Integer suffix100 = 100;
+			@IdSuffix(order = -1) public String suffixMinus1 = "s";
+		}
+		Entity entity = new Entity();
+		CouchbaseDocument converted = new CouchbaseDocument();
+		converter.write(entity, converted);
+		assertThat(converted.getId()).isEqualTo(entity.id);
+		assertThat(converted.getId()).isEqualTo("p5.p20.a3.a7again.s.100");
+		assertThat(converted.get("attribute3")).isEqualTo("a3");
+		assertThat(converted.containsKey("prefix5")).isFalse();
+		assertThat(converted.containsKey("suffix100")).isFalse();
+	}
+
+	@Test
+	void idIsUniqueBetweenPrefixesAndSuffixesWithDelimiter() {
+		class Entity {
+			@GeneratedValue(strategy = GenerationStrategy.UNIQUE, delimiter = "::") @Id public String id;
+			@IdPrefix(order = 2) public String prefix = "p";
+			@IdAttribute public String attribute = "ignored";
+			@IdSuffix(order = 1) public String suffix = null;
+			@IdSuffix(order = 3) public String suffix3 = "s";
+		}
+		Entity entity = new Entity();
+		CouchbaseDocument converted = new CouchbaseDocument();
+		converter.write(entity, converted);
+		assertThat(converted.getId()).isEqualTo(entity.id);
+		assertThat(converted.getId()).matches("p::[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}::s");
+	}
+
 	@Test
 	void idHasIdFieldOnly() {
 		class Entity {
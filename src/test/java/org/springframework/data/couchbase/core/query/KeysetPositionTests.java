@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.entry;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.Field;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unit tests for {@link KeysetPosition}.
+ */
+class KeysetPositionTests {
+
+	private static final MappingCouchbaseConverter converter = new MappingCouchbaseConverter();
+
+	static {
+		converter.afterPropertiesSet();
+	}
+
+	@Test
+	void takesSortValuesOfRenamedAndEnumProperties() {
+		Flight flight = new Flight("flight::1", "AF123", 3, Status.DELAYED);
+
+		KeysetPosition position = KeysetPosition.after(flight, Sort.by("stops", "status", "code"), converter);
+
+		assertThat(position.getId()).isEqualTo("flight::1");
+		assertThat(position.getKeys()).containsExactly(entry("stops", 3), entry("status", "DELAYED"),
+				entry("code", "AF123"));
+		assertThat(KeysetPosition.fromToken(position.toToken())).isEqualTo(position);
+	}
+
+	@Test
+	void rejectsNullSortValues() {
+		Flight flight = new Flight("flight::1", null, 3, Status.DELAYED);
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> KeysetPosition.after(flight, Sort.by("stops", "code"), converter))
+				.withMessageContaining("code");
+	}
+
+	enum Status {
+		ON_TIME, DELAYED
+	}
+
+	static class Flight {
+
+		@Id private final String id;
+		@Field("flightCode") private final String code;
+		@Field("numberOfStops") private final Integer stops;
+		private final Status status;
+
+		Flight(String id, String code, Integer stops, Status status) {
+			this.id = id;
+			this.code = code;
+			this.stops = stops;
+			this.status = status;
+		}
+	}
+}
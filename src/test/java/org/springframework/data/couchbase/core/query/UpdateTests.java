@@ -0,0 +1,75 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.couchbase.core.convert.CouchbaseConverter;
+import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter;
+import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
+import org.springframework.data.couchbase.domain.Person;
+
+import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.json.JsonObject;
+
+/**
+ * Unit tests for {@link Update}.
+ */
+class UpdateTests {
+
+	private final CouchbaseConverter converter = new MappingCouchbaseConverter(new CouchbaseMappingContext());
+
+	@Test
+	void rendersSetIncrementAndUnsetOfMappedFields() {
+		Update update = new Update().set("middlename", "Ollie").inc("creationDate", 5).unset("address.city");
+		JsonArray parameters = JsonArray.from("Oliver");
+		int[] paramIndexPtr = new int[] { 1 };
+
+		assertEquals(" SET `nickname` = $2, `creationDate` = IFMISSINGORNULL(`creationDate`, 0) + $3 UNSET `address`.`city`",
+				update.export(Person.class, converter, parameters, paramIndexPtr));
+		assertEquals(Arrays.asList("Oliver", "Ollie", 5), parameters.toList());
+		assertEquals(3, paramIndexPtr[0]);
+	}
+
+	@Test
+	void bindsNamedParametersNextToCriteriaParameters() {
+		Update update = Update.update("middlename", "Ollie").inc("creationDate", -1);
+		JsonObject parameters = JsonObject.create().put("firstname", "Oliver");
+
+		assertEquals(" SET `nickname` = $__update0, `creationDate` = IFMISSINGORNULL(`creationDate`, 0) + $__update1",
+				update.export(Person.class, converter, parameters, new int[] { -1 }));
+		assertEquals("Oliver", parameters.getString("firstname"));
+		assertEquals("Ollie", parameters.getString("__update0"));
+		assertEquals(-1, parameters.getInt("__update1"));
+	}
+
+	@Test
+	void laterChangeOfPathReplacesEarlierOne() {
+		Update update = new Update().set("middlename", "Ollie").unset("middlename");
+
+		assertEquals(" UNSET `nickname`", update.export(Person.class, converter, JsonArray.create(), new int[] { 0 }));
+	}
+
+	@Test
+	void rejectsUpdateOfId() {
+		assertThrows(IllegalArgumentException.class,
+				() -> Update.update("id", "other").export(Person.class, converter, JsonArray.create(), new int[] { 0 }));
+	}
+}
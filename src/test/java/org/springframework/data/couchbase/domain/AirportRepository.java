@@ -17,11 +17,15 @@
 package org.springframework.data.couchbase.domain;
 
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.springframework.data.couchbase.core.query.KeysetPosition;
+import org.springframework.data.couchbase.core.query.KeysetSlice;
 import org.springframework.data.couchbase.repository.Query;
 import org.springframework.data.couchbase.repository.ScanConsistency;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -75,4 +79,13 @@ public interface AirportRepository extends PagingAndSortingRepository<Airport, S
 
 	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
 	Page<Airport> findAllByIataNot(String iata, Pageable pageable);
+
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	Slice<Airport> findSliceByIataNot(String iata, Pageable pageable);
+
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	KeysetSlice<Airport> findAll(KeysetPosition position, Pageable pageable);
+
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	Stream<Airport> streamByIataNot(String iata);
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.core.mapping.Document;
+
+/**
+ * Book entity for tests, associated with its author through {@link Author#getBooks()}.
+ */
+@Document
+public class Book {
+
+	@Id String id;
+	String authorId;
+	String title;
+
+	public Book(String id, String authorId, String title) {
+		this.id = id;
+		this.authorId = authorId;
+		this.title = title;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getAuthorId() {
+		return authorId;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 the original author or authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.couchbase.domain;
+
+import java.util.Locale;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.couchbase.core.mapping.Document;
+
+/**
+ * User preferences entity for tests, with simple values that are neither strings, numbers nor booleans.
+ */
+@Document
+public class UserPreferences {
+
+	@Id String id;
+	Character initial;
+	char separator;
+	Locale locale;
+
+	public UserPreferences(String id, Character initial, char separator, Locale locale) {
+		this.id = id;
+		this.initial = initial;
+		this.separator = separator;
+		this.locale = locale;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public Character getInitial() {
+		return initial;
+	}
+
+	public char getSeparator() {
+		return separator;
+	}
+
+	public Locale getLocale() {
+		return locale;
+	}
+
+}
@@ -20,10 +20,12 @@ import java.util.List;
 
 import org.springframework.data.couchbase.repository.CouchbaseRepository;
 import org.springframework.data.couchbase.repository.Query;
+import org.springframework.data.couchbase.repository.ScanConsistency;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.couchbase.client.java.json.JsonArray;
+import com.couchbase.client.java.query.QueryScanConsistency;
 
 /**
  * User Repository for tests
@@ -48,7 +50,17 @@ public interface UserRepository extends CouchbaseRepository<User, String> {
 	@Query("#{#n1ql.selectEntity} where #{#n1ql.filter} and (firstname = $first or lastname = $last)")
 	List<User> getByFirstnameOrLastname(@Param("first") String firstname, @Param("last") String lastname);
 
+	@Query("SELECT COUNT(*) AS __count FROM #{#n1ql.bucket} WHERE #{#n1ql.filter} AND firstname = $1")
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	boolean existsCountingFirstname(String firstname);
+
+	@Query("#{#n1ql.selectEntity} WHERE #{#n1ql.filter} AND firstname = $1 LIMIT 5")
+	@ScanConsistency(query = QueryScanConsistency.REQUEST_PLUS)
+	boolean existsLimitedFirstname(String firstname);
+
 	List<User> findByIdIsNotNullAndFirstnameEquals(String firstname);
 
 	List<User> findByVersionEqualsAndFirstnameEquals(Long version, String firstname);
+
+	long updateLastnameByFirstname(String lastname, String firstname);
 }
@@ -28,11 +28,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.couchbase.client.java.query.QueryScanConsistency;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +45,8 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.couchbase.CouchbaseClientFactory;
 import org.springframework.data.couchbase.config.AbstractCouchbaseConfiguration;
 import org.springframework.data.couchbase.core.CouchbaseTemplate;
+import org.springframework.data.couchbase.core.query.KeysetPosition;
+import org.springframework.data.couchbase.core.query.KeysetSlice;
 import org.springframework.data.couchbase.core.query.QueryCriteria;
 import org.springframework.data.couchbase.domain.Address;
 import org.springframework.data.couchbase.domain.Airport;
@@ -61,6 +65,8 @@ import org.springframework.data.couchbase.util.IgnoreWhen;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
@@ -216,6 +222,63 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 		}
 	}
 
+	@Test
+	void sliceAndKeysetPagination() {
+		String[] iatas = { "JFK", "IAD", "SFO", "SJC", "SEA", "LAX", "PHX" };
+
+		try {
+			airportRepository.saveAll(
+					Arrays.stream(iatas).map((iata) -> new Airport("airports::" + iata, iata, iata.toLowerCase(Locale.ROOT)))
+							.collect(Collectors.toSet()));
+
+			Slice<Airport> slice = airportRepository.findSliceByIataNot("JFK", PageRequest.of(0, 2));
+			assertEquals(2, slice.getContent().size());
+			assertTrue(slice.hasNext());
+
+			Pageable pageable = PageRequest.of(0, 3, Sort.by("iata"));
+			List<String> seen = new ArrayList<>();
+			KeysetPosition position = KeysetPosition.initial();
+			KeysetSlice<Airport> keysetSlice;
+			do {
+				keysetSlice = airportRepository.findAll(KeysetPosition.fromToken(position.toToken()), pageable);
+				keysetSlice.forEach(airport -> seen.add(airport.getIata()));
+				position = keysetSlice.getNextPosition();
+			} while (keysetSlice.hasNext());
+			assertEquals(Arrays.stream(iatas).sorted().collect(Collectors.toList()), seen);
+		} finally {
+			airportRepository
+					.deleteAllById(Arrays.stream(iatas).map((iata) -> "airports::" + iata).collect(Collectors.toSet()));
+		}
+	}
+
+	@Test
+	void streamAndBatchedIteration() {
+		String[] iatas = { "JFK", "IAD", "SFO", "SJC", "SEA", "LAX", "PHX" };
+
+		try {
+			airportRepository.saveAll(
+					Arrays.stream(iatas).map((iata) -> new Airport("airports::" + iata, iata, iata.toLowerCase(Locale.ROOT)))
+							.collect(Collectors.toSet()));
+
+			try (Stream<Airport> airports = airportRepository.streamByIataNot("JFK")) {
+				assertEquals(iatas.length - 1, airports.count());
+			}
+			try (Stream<Airport> airports = couchbaseTemplate.findByQuery(Airport.class)
+					.withConsistency(QueryScanConsistency.REQUEST_PLUS).stream(2)) {
+				assertEquals(3, airports.limit(3).count());
+			}
+
+			List<Integer> batchSizes = new ArrayList<>();
+			couchbaseTemplate.findByQuery(Airport.class).withConsistency(QueryScanConsistency.REQUEST_PLUS)
+					.matching(QueryCriteria.where("iata").in((Object[]) iatas))
+					.forEach(3, (batch) -> batchSizes.add(batch.size()));
+			assertEquals(Arrays.asList(3, 3, 1), batchSizes);
+		} finally {
+			airportRepository
+					.deleteAllById(Arrays.stream(iatas).map((iata) -> "airports::" + iata).collect(Collectors.toSet()));
+		}
+	}
+
 	@Test
 	void threadSafeParametersTest() throws Exception {
 		String[] iatas = { "JFK", "IAD", "SFO", "SJC", "SEA", "LAX", "PHX" };
@@ -330,6 +393,22 @@ public class CouchbaseRepositoryQueryIntegrationTests extends ClusterAwareIntegr
 		assertEquals(user, users.get(0));
 	}
 
+	@Test
+	void stringQueryExistsOfCountOrLimitedStatement() {
+		User user = new User(UUID.randomUUID().toString(), "Existing", "Wilson");
+		try {
+			assertFalse(userRepository.existsCountingFirstname("Existing"));
+			assertFalse(userRepository.existsLimitedFirstname("Existing"));
+
+			userRepository.save(user);
+
+			assertTrue(userRepository.existsCountingFirstname("Existing"));
+			assertTrue(userRepository.existsLimitedFirstname("Existing"));
+		} finally {
+			userRepository.delete(user);
+		}
+	}
+
 	private void sleep(int millis) {
 		try {
 			Thread.sleep(millis); // so they are executed out-of-order
@@ -16,6 +16,8 @@
 package org.springframework.data.couchbase.repository.query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.data.couchbase.core.query.N1QLExpression.i;
 import static org.springframework.data.couchbase.core.query.N1QLExpression.x;
 import static org.springframework.data.couchbase.core.query.QueryCriteria.where;
@@ -31,10 +33,14 @@ import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter
 import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.query.N1qlStatementCache;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.Update;
 import org.springframework.data.couchbase.domain.User;
 import org.springframework.data.couchbase.domain.UserRepository;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.query.DefaultParameters;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
@@ -179,6 +185,40 @@ class N1qlQueryCreatorTests {
 				.and(i("firstname")).is("Oliver").export());
 	}
 
+	@Test
+	void preparedQueryIsNotAdhoc() throws Exception {
+		String input = "findByFirstname";
+		PartTree tree = new PartTree(input, User.class);
+		Method method = UserRepository.class.getMethod(input, String.class);
+
+		N1qlQueryCreator creator = new N1qlQueryCreator(tree, getAccessor(getParameters(method), "Oliver"), null, converter,
+				bucketName);
+		Query query = creator.createQuery();
+		assertTrue(query.buildQueryOptions(null).build().adhoc());
+
+		query.prepared(new N1qlStatementCache());
+		assertFalse(query.isAdhoc());
+		assertFalse(query.buildQueryOptions(null).build().adhoc());
+	}
+
+	@Test
+	void createsUpdateQueryCorrectly() throws Exception {
+		String input = "updateLastnameByFirstname";
+		Method method = UserRepository.class.getMethod(input, String.class, String.class);
+		CouchbaseQueryMethod queryMethod = new CouchbaseQueryMethod(method,
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory(), context);
+		PartTreeUpdate update = PartTreeUpdate.from(queryMethod, User.class);
+		PartTree tree = new PartTree(update.getCriteriaSource(), User.class);
+		ParameterAccessor accessor = getAccessor(getParameters(method), "Doe", "John");
+
+		N1qlQueryCreator creator = new N1qlQueryCreator(tree, update.criteriaAccessor(accessor), queryMethod, converter,
+				bucketName);
+		Query query = creator.createQuery();
+
+		assertEquals(" WHERE " + where(i("firstname")).is("John").export(), query.export());
+		assertEquals(Update.update("lastname", "Doe").toString(), update.createUpdate(accessor).toString());
+	}
+
 	private ParameterAccessor getAccessor(Parameters<?, ?> params, Object... values) {
 		return new ParametersParameterAccessor(params, values);
 	}
@@ -16,10 +16,15 @@
 package org.springframework.data.couchbase.repository.query;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.springframework.data.couchbase.config.BeanNames.COUCHBASE_TEMPLATE;
+import static org.springframework.data.couchbase.core.query.N1QLExpression.i;
+import static org.springframework.data.couchbase.core.query.N1QLExpression.x;
+import static org.springframework.data.couchbase.core.query.QueryCriteria.where;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Properties;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -34,7 +39,9 @@ import org.springframework.data.couchbase.core.convert.MappingCouchbaseConverter
 import org.springframework.data.couchbase.core.mapping.CouchbaseMappingContext;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentEntity;
 import org.springframework.data.couchbase.core.mapping.CouchbasePersistentProperty;
+import org.springframework.data.couchbase.core.query.Meta;
 import org.springframework.data.couchbase.core.query.Query;
+import org.springframework.data.couchbase.core.query.Update;
 import org.springframework.data.couchbase.domain.User;
 import org.springframework.data.couchbase.domain.UserRepository;
 import org.springframework.data.couchbase.repository.config.EnableCouchbaseRepositories;
@@ -51,6 +58,8 @@ import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
+import com.couchbase.client.java.json.JsonObject;
+
 /**
  * @author Michael Nitschinger
  * @author Michael Reiche
@@ -108,6 +117,97 @@ class StringN1qlQueryCreatorMockedTests extends ClusterAwareIntegrationTests {
 				query.toN1qlSelectString(couchbaseTemplate.reactive(), User.class, false));
 	}
 
+	@Test
+	void createsExistsQueryCorrectly() throws Exception {
+		String input = "getByFirstnameAndLastname";
+		Method method = UserRepository.class.getMethod(input, String.class, String.class);
+
+		CouchbaseQueryMethod queryMethod = new CouchbaseQueryMethod(method,
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory(),
+				converter.getMappingContext());
+
+		StringN1qlQueryCreator creator = new StringN1qlQueryCreator(getAccessor(getParameters(method), "Oliver", "Twist"),
+				queryMethod, converter, "travel-sample", new SpelExpressionParser(),
+				QueryMethodEvaluationContextProvider.DEFAULT, namedQueries);
+
+		Query query = creator.createQuery();
+		assertEquals(
+				"SELECT RAW __exists FROM (SELECT META(`travel-sample`).id AS __id, META(`travel-sample`).cas AS __cas, `travel-sample`.* FROM `travel-sample` where `_class` = \"org.springframework.data.couchbase.domain.User\" and firstname = $1 and lastname = $2) AS __exists LIMIT 1",
+				query.toN1qlExistsString(couchbaseTemplate.reactive(), null, User.class));
+	}
+
+	@Test
+	void createsExistsQueryOfStatementWithLimitCorrectly() throws Exception {
+		assertEquals(
+				"SELECT RAW __exists FROM (SELECT META(`travel-sample`).id AS __id, META(`travel-sample`).cas AS __cas, `travel-sample`.* FROM `travel-sample` WHERE `_class` = \"org.springframework.data.couchbase.domain.User\" AND firstname = $1 LIMIT 5) AS __exists LIMIT 1",
+				createExistsStatement("existsLimitedFirstname"));
+	}
+
+	@Test
+	void createsExistsQueryOfCountStatementCorrectly() throws Exception {
+		assertEquals(
+				"SELECT RAW __exists FROM (SELECT COUNT(*) AS __count FROM `travel-sample` WHERE `_class` = \"org.springframework.data.couchbase.domain.User\" AND firstname = $1) AS __exists LIMIT 1",
+				createExistsStatement("existsCountingFirstname"));
+	}
+
+	private String createExistsStatement(String input) throws Exception {
+		Method method = UserRepository.class.getMethod(input, String.class);
+
+		CouchbaseQueryMethod queryMethod = new CouchbaseQueryMethod(method,
+				new DefaultRepositoryMetadata(UserRepository.class), new SpelAwareProxyProjectionFactory(),
+				converter.getMappingContext());
+
+		StringN1qlQueryCreator creator = new StringN1qlQueryCreator(getAccessor(getParameters(method), "Oliver"),
+				queryMethod, converter, "travel-sample", new SpelExpressionParser(),
+				QueryMethodEvaluationContextProvider.DEFAULT, namedQueries);
+
+		return creator.createQuery().toN1qlExistsString(couchbaseTemplate.reactive(), null, User.class);
+	}
+
+	@Test
+	void appliesMetaToStatementAndOptions() {
+		Meta meta = new Meta();
+		meta.setUseIndex("by_firstname");
+		meta.setMaxParallelism(4);
+		meta.setReadonly(true);
+		Query query = new Query(where(i("firstname")).is("Oliver"));
+		query.setMeta(meta);
+
+		assertTrue(query.toN1qlExistsString(couchbaseTemplate.reactive(), null, User.class)
+				.contains("` USE INDEX (`by_firstname`) WHERE "));
+		JsonObject options = JsonObject.create();
+		query.buildQueryOptions(null).build().injectParams(options);
+		assertEquals("4", options.getString("max_parallelism"));
+		assertEquals(true, options.getBoolean("readonly"));
+	}
+
+	@Test
+	void createsUpdateStatementCorrectly() {
+		Query query = new Query(where(i("firstname")).is("Oliver"));
+		Update update = Update.update("lastname", "Twist").unset("createdBy");
+
+		assertEquals(
+				"UPDATE `travel-sample` SET `lastname` = $1 UNSET `createdBy` WHERE `_class` = \"org.springframework.data.couchbase.domain.User\" AND `firstname` = $2 RETURNING META(`travel-sample`).id AS __id, META(`travel-sample`).cas AS __cas, `travel-sample`.*",
+				query.toN1qlUpdateString(couchbaseTemplate.reactive(), null, User.class, update, User.class));
+		JsonObject options = JsonObject.create();
+		query.buildQueryOptions(null).build().injectParams(options);
+		assertEquals(Arrays.asList("Twist", "Oliver"), options.getArray("args").toList());
+	}
+
+	@Test
+	void createsUpdateStatementWithNamedParametersCorrectly() {
+		Query query = new Query(where(x("firstname")).is("Oliver")).setNamedParameters(JsonObject.create());
+		Update update = Update.update("lastname", "Twist");
+
+		assertEquals(
+				"UPDATE `travel-sample` SET `lastname` = $__update0 WHERE `_class` = \"org.springframework.data.couchbase.domain.User\" AND firstname = $firstname",
+				query.toN1qlUpdateString(couchbaseTemplate.reactive(), null, User.class, update, null));
+		JsonObject options = JsonObject.create();
+		query.buildQueryOptions(null).build().injectParams(options);
+		assertEquals("Twist", options.getString("$__update0"));
+		assertEquals("Oliver", options.getString("$firstname"));
+	}
+
 	@Test
 	void wrongNumberArgs() throws Exception {
 		String input = "getByFirstnameOrLastname";